@@ -0,0 +1,67 @@
+package sirius.stellar.esthree;
+
+import io.avaje.http.client.BodyContent;
+import io.avaje.http.client.HttpClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Measures [DEsthreeSigner] signing requests, and [DEsthreeSignedStream]
+/// signing a payload chunk by chunk (as for streaming uploads).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EsthreeSignerBenchmark {
+
+	@Param({"1024", "1048576"})
+	public int size;
+
+	private HttpClient client;
+	private DEsthreeSigner signer;
+
+	private byte[] payload;
+	private BodyContent body;
+
+	@Setup
+	public void setup() {
+		this.client = HttpClient.builder()
+				.baseUrl("http://localhost:9000")
+				.build();
+		this.signer = new DEsthreeSigner("access", "secret", EsthreeRegion.US_EAST_1.toString());
+
+		this.payload = new byte[this.size];
+		new Random(0L).nextBytes(this.payload);
+		this.body = BodyContent.of(this.payload);
+	}
+
+	@TearDown
+	public void teardown() {
+		this.signer.release();
+	}
+
+	@Benchmark
+	public void sign() {
+		this.signer.sign("PUT", this.client.request().path("bucket").path("key"), this.body);
+	}
+
+	@Benchmark
+	public void signHash() {
+		this.signer.sign("GET", this.client.request().path("bucket").path("key"), "UNSIGNED-PAYLOAD");
+	}
+
+	@Benchmark
+	public long signedStream() throws IOException {
+		InputStream source = new ByteArrayInputStream(this.payload);
+		try (InputStream stream = new DEsthreeSignedStream(source, this.signer, "20260101T000000Z", "us-east-1", "candidate")) {
+			return stream.transferTo(OutputStream.nullOutputStream());
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.logging.concurrent.LoggerScheduler;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/// Implementation of [LoggerScheduler] used by benchmarks, equivalent to the
+/// default implementation, except that it is garbage-free if the system
+/// property `stellar.benchmark.garbageFree` is `true`.
+public final class BenchmarkLoggerScheduler
+		extends ThreadPoolExecutor
+		implements LoggerScheduler {
+
+	public BenchmarkLoggerScheduler() {
+		super(1, Integer.MAX_VALUE, 250L, MILLISECONDS, new SynchronousQueue<>());
+	}
+
+	@Override
+	public boolean lanes() {
+		return true;
+	}
+
+	@Override
+	public boolean garbageFree() {
+		return Boolean.getBoolean("stellar.benchmark.garbageFree");
+	}
+}
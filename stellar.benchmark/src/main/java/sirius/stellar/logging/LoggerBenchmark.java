@@ -0,0 +1,90 @@
+package sirius.stellar.logging;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures the throughput of dispatching messages through [Logger], both for
+/// enabled levels (the message is queued, and consumed by a no-op collector)
+/// and for disabled levels (the message is discarded at the call site), with
+/// an increasing number of dispatching threads.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerBenchmark {
+
+	private static final LoggerHandle handle = Logger.forClass(LoggerBenchmark.class);
+
+	private LoggerCollector collector;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		this.collector = blackhole::consume;
+		Logger.collector(this.collector);
+		Logger.severity(LoggerLevel.INFORMATION.severity());
+	}
+
+	@TearDown
+	public void teardown() {
+		Logger.collectorRemove(this.collector);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void enabled1() {
+		Logger.information("Benchmark message");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void enabled4() {
+		Logger.information("Benchmark message");
+	}
+
+	@Benchmark
+	@Threads(16)
+	public void enabled16() {
+		Logger.information("Benchmark message");
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void handle1() {
+		handle.information("Benchmark message");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void handle4() {
+		handle.information("Benchmark message");
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void enabledFormatted1() {
+		Logger.information("Benchmark message {0} of {1}", 1, 2);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void enabledFormatted4() {
+		Logger.information("Benchmark message {0} of {1}", 1, 2);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void disabled1() {
+		Logger.tracing("Benchmark message {0} of {1}", 1, 2);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public void disabled16() {
+		Logger.tracing("Benchmark message {0} of {1}", 1, 2);
+	}
+}
\ No newline at end of file
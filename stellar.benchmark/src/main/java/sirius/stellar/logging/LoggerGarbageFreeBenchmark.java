@@ -0,0 +1,63 @@
+package sirius.stellar.logging;
+
+import org.openjdk.jmh.annotations.*;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures [Logger] configured to be garbage-free, with a collector reading
+/// every [LoggerEvent] without copying it. This should be run with the GC
+/// profiler (`-prof gc`) to observe the allocation rate per operation.
+///
+/// @see BenchmarkLoggerScheduler
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dstellar.benchmark.garbageFree=true")
+public class LoggerGarbageFreeBenchmark {
+
+	private static final LoggerHandle handle = Logger.forClass(LoggerGarbageFreeBenchmark.class);
+
+	private final LoggerCollector collector = new LoggerCollector() {
+
+		private long length;
+
+		@Override
+		public void collect(LoggerMessage message) {
+			this.length += message.text().length();
+		}
+
+		@Override
+		public void collect(LoggerEvent event) {
+			this.length += event.text().length();
+		}
+	};
+
+	@Setup
+	public void setup() {
+		Logger.collector(this.collector);
+		Logger.severity(LoggerLevel.INFORMATION.severity());
+	}
+
+	@TearDown
+	public void teardown() {
+		Logger.collectorRemove(this.collector);
+	}
+
+	@Benchmark
+	public void information() {
+		Logger.information("Benchmark message");
+	}
+
+	@Benchmark
+	public void informationFormatted() {
+		Logger.information("Benchmark message {0} of {1}", 1, 2);
+	}
+
+	@Benchmark
+	public void handle() {
+		handle.information("Benchmark message");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package sirius.stellar.logging.dispatch.log4j2x;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures obtaining a logger from [Log4j2Context] (directly, and through
+/// `LogManager`, as a library calling it per request would), with varying
+/// numbers of loggers already registered, which should not affect the time
+/// taken by any of the operations.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Log4j2ContextBenchmark {
+
+	@Param({"10", "1000", "100000"})
+	private int loggers;
+
+	private org.apache.logging.log4j.spi.LoggerContext context;
+	private String name;
+
+	@Setup
+	public void setup() {
+		this.context = org.apache.logging.log4j.LogManager.getContext(false);
+		for (int i = 0; i < this.loggers; i++) this.context.getLogger("sirius.stellar.benchmark.Logger" + i);
+		this.name = "sirius.stellar.benchmark.Logger" + (this.loggers / 2);
+	}
+
+	@Benchmark
+	public Object getLogger() {
+		return this.context.getLogger(this.name);
+	}
+
+	@Benchmark
+	public boolean hasLogger() {
+		return this.context.hasLogger(this.name);
+	}
+
+	@Benchmark
+	public Object logManager() {
+		return org.apache.logging.log4j.LogManager.getLogger(this.name);
+	}
+}
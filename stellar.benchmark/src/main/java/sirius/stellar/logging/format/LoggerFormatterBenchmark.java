@@ -0,0 +1,40 @@
+package sirius.stellar.logging.format;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the default [LoggerFormatter] ([CombinedLoggerFormatter]), for
+/// both of the syntaxes it supports, and for a string with no placeholders.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerFormatterBenchmark {
+
+	private final LoggerFormatter formatter = LoggerFormatter.create();
+	private final Object[] arguments = {"alpha", 42, 3.14D};
+
+	@Benchmark
+	public String plain() {
+		return this.formatter.formatString("Nothing to format here", this.arguments);
+	}
+
+	@Benchmark
+	public String messageFormat() {
+		return this.formatter.formatString("First {0}, second {1}, third {2}", this.arguments);
+	}
+
+	@Benchmark
+	public String printfFormat() {
+		return this.formatter.formatString("First %s, second %d, third %.2f", this.arguments);
+	}
+
+	@Benchmark
+	public String messageFormatLocale() {
+		return this.formatter.formatString(Locale.GERMANY, "First {0}, second {1}, third {2}", this.arguments);
+	}
+}
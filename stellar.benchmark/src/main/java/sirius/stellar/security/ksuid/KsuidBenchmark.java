@@ -0,0 +1,40 @@
+package sirius.stellar.security.ksuid;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures generating and parsing identifiers with the default [Ksuid].
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KsuidBenchmark {
+
+	private final Ksuid ksuid = Ksuid.builder().build();
+	private String string;
+
+	@Setup
+	public void setup() {
+		this.string = this.ksuid.identifier().string();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Ksuid.Identifier identifier() {
+		return this.ksuid.identifier();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Ksuid.Identifier identifierContended() {
+		return this.ksuid.identifier();
+	}
+
+	@Benchmark
+	public Ksuid.Identifier parse() {
+		return this.ksuid.identifier(this.string);
+	}
+}
@@ -0,0 +1,46 @@
+package sirius.stellar.security.totp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures generating and validating codes with the default [Totp].
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TotpBenchmark {
+
+	private Totp totp;
+	private String secret;
+	private int code;
+
+	@Setup
+	public void setup() {
+		this.totp = Totp.builder().build();
+		this.secret = this.totp.secret();
+		this.code = this.totp.code(this.secret);
+	}
+
+	@TearDown
+	public void teardown() {
+		this.totp.release();
+	}
+
+	@Benchmark
+	public int code() {
+		return this.totp.code(this.secret);
+	}
+
+	@Benchmark
+	public boolean valid() {
+		return this.totp.valid(this.secret, this.code);
+	}
+
+	@Benchmark
+	public boolean invalid() {
+		return this.totp.valid(this.secret, this.code ^ 1);
+	}
+}
@@ -0,0 +1,39 @@
+package sirius.stellar.serialization.base32;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Measures [Base32] encoding and decoding, for several input sizes.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Base32Benchmark {
+
+	@Param({"20", "256", "4096"})
+	public int size;
+
+	private byte[] decoded;
+	private char[] encoded;
+
+	@Setup
+	public void setup() {
+		this.decoded = new byte[this.size];
+		new Random(0L).nextBytes(this.decoded);
+		this.encoded = Base32.encode(this.decoded);
+	}
+
+	@Benchmark
+	public char[] encode() {
+		return Base32.encode(this.decoded);
+	}
+
+	@Benchmark
+	public byte[] decode() {
+		return Base32.decode(this.encoded);
+	}
+}
@@ -0,0 +1,40 @@
+package sirius.stellar.serialization.base62;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Measures [Base62] encoding and decoding, for several input sizes (where
+/// 20 bytes is the size of a KSUID).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Base62Benchmark {
+
+	@Param({"20", "256", "1024"})
+	public int size;
+
+	private byte[] decoded;
+	private char[] encoded;
+
+	@Setup
+	public void setup() {
+		this.decoded = new byte[this.size];
+		new Random(0L).nextBytes(this.decoded);
+		this.encoded = Base62.encode(this.decoded);
+	}
+
+	@Benchmark
+	public char[] encode() {
+		return Base62.encode(this.decoded);
+	}
+
+	@Benchmark
+	public byte[] decode() {
+		return Base62.decode(this.encoded);
+	}
+}
@@ -0,0 +1,97 @@
+package sirius.stellar.serialization.msgpack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static sirius.stellar.serialization.msgpack.MessagePack.newDefaultBufferPacker;
+import static sirius.stellar.serialization.msgpack.MessagePack.newDefaultUnpacker;
+
+/// Measures [MessagePacker] and [MessageUnpacker] round trips, across several
+/// shapes of values (small and large integers, short and long strings, nested
+/// maps and arrays, and binary payloads).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessagePackBenchmark {
+
+	@Param({"integers", "strings", "structure", "binary"})
+	public String shape;
+
+	private MessageBufferPacker packer;
+	private byte[] packed;
+
+	private String[] strings;
+	private byte[] binary;
+
+	@Setup
+	public void setup() throws IOException {
+		this.packer = newDefaultBufferPacker();
+
+		this.strings = new String[] {"a", "stellar", "message pack string of moderate length", "é".repeat(64), "x".repeat(1024)};
+		this.binary = new byte[16 * 1024];
+		for (int i = 0; i < this.binary.length; i++) this.binary[i] = (byte) i;
+
+		this.pack();
+		this.packed = this.packer.toByteArray();
+	}
+
+	@TearDown
+	public void teardown() throws IOException {
+		this.packer.close();
+	}
+
+	@Benchmark
+	public byte[] pack() throws IOException {
+		this.packer.clear();
+		switch (this.shape) {
+			case "integers" -> {
+				this.packer.packArrayHeader(8);
+				this.packer.packInt(0).packInt(-1).packInt(127).packInt(-32);
+				this.packer.packInt(65_535).packLong(Integer.MAX_VALUE + 1L).packLong(Long.MIN_VALUE).packLong(Long.MAX_VALUE);
+			}
+			case "strings" -> {
+				this.packer.packArrayHeader(this.strings.length);
+				for (String string : this.strings) this.packer.packString(string);
+			}
+			case "structure" -> {
+				this.packer.packMapHeader(4);
+				this.packer.packString("id").packLong(1_234_567_890L);
+				this.packer.packString("name").packString("Stellar");
+				this.packer.packString("active").packBoolean(true);
+				this.packer.packString("tags").packArrayHeader(3);
+				for (int i = 0; i < 3; i++) {
+					this.packer.packMapHeader(2);
+					this.packer.packString("key").packString("tag");
+					this.packer.packString("value").packDouble(i * 1.5D);
+				}
+			}
+			case "binary" -> {
+				this.packer.packBinaryHeader(this.binary.length);
+				this.packer.writePayload(this.binary);
+			}
+			default -> throw new IllegalStateException("Unknown shape: " + this.shape);
+		}
+		return this.packer.toByteArray();
+	}
+
+	@Benchmark
+	public void unpack(Blackhole blackhole) throws IOException {
+		try (MessageUnpacker unpacker = newDefaultUnpacker(this.packed)) {
+			blackhole.consume(unpacker.unpackValue());
+		}
+	}
+
+	@Benchmark
+	public void roundTrip(Blackhole blackhole) throws IOException {
+		byte[] packed = this.pack();
+		try (MessageUnpacker unpacker = newDefaultUnpacker(packed)) {
+			blackhole.consume(unpacker.unpackValue());
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package sirius.stellar.serialization.msgpack.jsonb;
+
+import io.avaje.json.JsonReader;
+import io.avaje.json.stream.BytesJsonWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/// Measures [MsgpackWriter] and [MsgpackReader], i.e. MessagePack through the
+/// streaming API of avaje-jsonb, writing and reading a small nested object.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MsgpackAdapterBenchmark {
+
+	private final MsgpackAdapter adapter = new MsgpackAdapter();
+	private byte[] written;
+
+	@Setup
+	public void setup() {
+		this.written = this.write();
+	}
+
+	@Benchmark
+	public byte[] write() {
+		try (BytesJsonWriter writer = this.adapter.bufferedWriterAsBytes()) {
+			writer.beginObject();
+			writer.name("id");
+			writer.value(420);
+			writer.name("name");
+			writer.value("John Doe");
+			writer.name("active");
+			writer.value(true);
+			writer.name("balance");
+			writer.value(103.75D);
+
+			writer.name("roles");
+			writer.beginArray();
+			writer.value("admin");
+			writer.value("editor");
+			writer.endArray();
+
+			writer.name("profile");
+			writer.beginObject();
+			writer.name("age");
+			writer.value(30);
+			writer.name("country");
+			writer.value("US");
+			writer.endObject();
+
+			writer.endObject();
+			return writer.result();
+		}
+	}
+
+	@Benchmark
+	public void read(Blackhole blackhole) {
+		try (JsonReader reader = this.adapter.reader(this.written)) {
+			reader.beginObject();
+			while (reader.hasNextField()) {
+				switch (reader.nextField()) {
+					case "id" -> blackhole.consume(reader.readInt());
+					case "name" -> blackhole.consume(reader.readString());
+					case "active" -> blackhole.consume(reader.readBoolean());
+					case "balance" -> blackhole.consume(reader.readDouble());
+					default -> reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+	}
+}
@@ -4,12 +4,26 @@ import org.jspecify.annotations.Nullable;
 import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
 import sirius.stellar.logging.spi.LoggerCollector;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.time.Instant;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
+import static java.lang.System.nanoTime;
+import static java.lang.ThreadLocal.withInitial;
 import static java.lang.Thread.currentThread;
 import static java.util.ServiceLoader.load;
 import static sirius.stellar.logging.LoggerLevel.ERROR;
@@ -17,50 +31,217 @@ import static sirius.stellar.logging.LoggerLevel.INFORMATION;
 
 /// Implementation of [LoggerCollector] for logging to the console.
 ///
+/// Messages are encoded into a direct buffer, and written to the destination
+/// (through a channel to its file descriptor, if it has one) in groups (e.g.
+/// once per batch of messages), rather than through a synchronized
+/// [PrintStream] per message; see [ConsoleTechnique] for the policy for flushing.
+///
 /// @see ConsoleTechnique
 /// @since 1.0
 public final class ConsoleCollector implements LoggerCollector {
 
 	private final ConsoleTechnique technique;
 
+	private final AtomicBoolean closing;
+	private final ReentrantLock writing;
+
+	private final WritableByteChannel channel;
+	@Nullable
+	private final PrintStream stream;
+	private final ByteBuffer buffer;
+	private final long flushLatency;
+
+	@Nullable
+	private final Thread flusher;
+
+	/// The number of messages in the buffer, and when the first was buffered.
+	private int pending;
+	private long buffered;
+
 	public ConsoleCollector() {
-		this.technique = load(ConsoleTechnique.class)
+		this(load(ConsoleTechnique.class)
 				.findFirst()
-				.orElseGet(HumanConsoleTechnique::new);
+				.orElseGet(HumanConsoleTechnique::new));
+
 		System.setOut(new DispatchingPrintStream(INFORMATION, "stdout"));
 		System.setErr(new DispatchingPrintStream(ERROR, "stderr"));
 	}
 
+	/// Create a collector with the provided technique, without replacing
+	/// [System#out] and [System#err].
+	ConsoleCollector(ConsoleTechnique technique) {
+		this.technique = technique;
+
+		this.closing = new AtomicBoolean();
+		this.writing = new ReentrantLock();
+
+		FileDescriptor descriptor = this.technique.descriptor();
+		this.stream = (descriptor == null) ? this.technique.destination() : null;
+		this.channel = (this.stream == null) ? new FileOutputStream(descriptor).getChannel() : Channels.newChannel(this.stream);
+		this.buffer = ByteBuffer.allocateDirect(this.technique.capacity());
+		this.flushLatency = this.technique.flushLatency().toNanos();
+
+		this.flusher = (this.flushLatency == 0L) ? null : Thread.ofPlatform()
+				.name("ConsoleCollector")
+				.daemon()
+				.start(this::flushing);
+	}
+
 	@Override
 	public void collect(LoggerMessage message) {
-		String formatted = this.technique.format(message);
-		PrintStream destination = this.technique.destination();
-		destination.println(formatted);
+		if (this.closing.get()) return;
+		this.writing.lock();
+
+		try {
+			this.append(message);
+			this.commit();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to write to console", exception);
+		} finally {
+			this.writing.unlock();
+		}
+	}
+
+	/// Encodes the entire batch into the buffer, then writes it to the
+	/// destination, while holding the lock once; unless the buffer fills up
+	/// first, this is a single write.
+	@Override
+	public void collect(List<LoggerMessage> messages) {
+		if (this.closing.get()) return;
+		this.writing.lock();
+
+		try {
+			for (LoggerMessage message : messages) this.append(message);
+			this.commit();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to write to console", exception);
+		} finally {
+			this.writing.unlock();
+		}
+	}
+
+	/// Encodes the provided message into the buffer, flushing the buffer first
+	/// if it is full; a message that does not fit into an empty buffer is
+	/// encoded into a temporary buffer, and written directly.
+	/// This must be invoked while holding [#writing].
+	private void append(LoggerMessage message) throws IOException {
+		int position = this.buffer.position();
+		try {
+			this.technique.encode(message, this.buffer);
+		} catch (BufferOverflowException exception) {
+			this.buffer.position(position);
+			this.flush();
+			try {
+				this.technique.encode(message, this.buffer);
+			} catch (BufferOverflowException overflow) {
+				this.buffer.clear();
+				ByteBuffer temporary = LoggerEncoder.grow(this.buffer);
+				while (true) {
+					try {
+						this.technique.encode(message, temporary);
+						break;
+					} catch (BufferOverflowException retry) {
+						temporary = LoggerEncoder.grow(temporary);
+					}
+				}
+				this.write(temporary.flip());
+			}
+		}
+		if (this.pending++ == 0) this.buffered = nanoTime();
+	}
+
+	/// Flushes the buffer if required by the flush policy.
+	/// This must be invoked while holding [#writing].
+	private void commit() throws IOException {
+		if (this.pending == 0) return;
+		if (this.flushLatency == 0L || nanoTime() - this.buffered >= this.flushLatency) this.flush();
+	}
+
+	/// Writes the buffer to the destination.
+	/// This must be invoked while holding [#writing].
+	private void flush() throws IOException {
+		this.buffer.flip();
+		this.write(this.buffer);
+		this.buffer.clear();
+		this.pending = 0;
+	}
+
+	/// Writes the provided buffer to the destination, entirely.
+	/// This must be invoked while holding [#writing].
+	private void write(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) this.channel.write(buffer);
+		if (this.stream != null) this.stream.flush();
+	}
+
+	/// Flushes the buffer whenever the oldest buffered message has reached the
+	/// flush latency, even when no messages are being collected; this runs
+	/// until the collector is closed.
+	private void flushing() {
+		while (!this.closing.get()) {
+			LockSupport.parkNanos(this, this.flushLatency);
+			this.writing.lock();
+
+			try {
+				if (this.closing.get()) return;
+				if (this.pending > 0 && nanoTime() - this.buffered >= this.flushLatency) this.flush();
+			} catch (IOException exception) {
+				throw new IllegalStateException("Failed to flush console", exception);
+			} finally {
+				this.writing.unlock();
+			}
+		}
+	}
+
+	/// Writes any buffered messages; the destination is left open, as it is
+	/// shared with the rest of the process.
+	@Override
+	public void close() {
+		this.writing.lock();
+		try {
+			if (this.closing.getAndSet(true)) return;
+			this.flush();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to close console logger collector", exception);
+		} finally {
+			this.writing.unlock();
+			if (this.flusher != null) LockSupport.unpark(this.flusher);
+		}
 	}
 }
 
 /// Implementation of [PrintStream] intended to replace both [System#out]
-/// and [System#err], dispatching to the [Logger] instead. Note that:
+/// and [System#err], dispatching to the [Logger] instead.
+///
+/// Text is assembled into lines, with a [StringBuilder] per thread (so that
+/// threads never contend, or interleave their text), and a message is only
+/// dispatched once a line is terminated, or the stream is flushed; therefore,
+/// printing a line a character at a time dispatches a single message. Note that:
 ///
-/// - [PrintStream#println()] is replaced with a no-op, as empty
-///   logging messages are discarded anyway.
-/// - [PrintStream#print] & [PrintStream#append] methods will perform the
-///   equivalent of `println`.
-/// - [PrintStream#format] methods will perform the equivalent of
-///   [PrintStream#printf].
+/// - `println` methods, and any line separators in the text, terminate the
+///   line; a trailing carriage return is removed.
+/// - [PrintStream#flush()] dispatches the partial line of the current thread.
+/// - Partial lines are dispatched once they reach [#LIMIT] characters, so a
+///   thread that never terminates its lines can not accumulate unbounded text.
+/// - Empty lines are discarded, as empty logging messages are discarded anyway.
 /// - [PrintStream#write] methods are not implemented at all,
 ///   and are completely discarded.
 final class DispatchingPrintStream extends PrintStream {
 
+	/// The maximum length of a partial line, before it is dispatched anyway.
+	static final int LIMIT = 1 << 13;
+
 	private final LoggerLevel level;
 	private final String name;
 
+	private final ThreadLocal<StringBuilder> line;
+
 	/// Create a dispatching stream that will log to the provided level,
 	/// with the provided logger name as an alias.
 	DispatchingPrintStream(LoggerLevel level, String name) {
 		super(nullOutputStream());
 		this.level = level;
 		this.name = name;
+		this.line = withInitial(() -> new StringBuilder(128));
 	}
 
 	/// Dispatch the provided text at [#level].
@@ -74,147 +255,208 @@ final class DispatchingPrintStream extends PrintStream {
 				.dispatch();
 	}
 
-	//#region println* [delegates to print*]
+	/// Append the provided character to the line of the current thread.
+	private void write(char character) {
+		StringBuilder line = this.line.get();
+		if (character == '\n') {
+			this.terminate(line);
+			return;
+		}
+		line.append(character);
+		if (line.length() >= LIMIT) this.terminate(line);
+	}
+
+	/// Append the provided text to the line of the current thread, dispatching
+	/// every line that is terminated (or reaches [#LIMIT]) along the way.
+	private void write(CharSequence text) {
+		StringBuilder line = this.line.get();
+		int length = text.length();
+		int start = 0;
+
+		for (int i = 0; i < length; i++) {
+			if (text.charAt(i) == '\n') {
+				line.append(text, start, i);
+				this.terminate(line);
+				start = i + 1;
+				continue;
+			}
+			if (line.length() + (i + 1 - start) > LIMIT) {
+				line.append(text, start, i);
+				this.terminate(line);
+				start = i;
+			}
+		}
+		line.append(text, start, length);
+	}
+
+	/// Append the provided text to the line of the current thread, then
+	/// terminate it; if there is no partial line, and the text is a single
+	/// line, it is dispatched as it is, without being copied.
+	private void writeln(String text) {
+		StringBuilder line = this.line.get();
+		if (line.isEmpty() && text.length() <= LIMIT && text.indexOf('\n') == -1 && !text.endsWith("\r")) {
+			if (!text.isEmpty()) this.dispatch(text);
+			return;
+		}
+		this.write(text);
+		this.terminate(line);
+	}
+
+	/// Dispatch the provided line (without a trailing carriage return),
+	/// unless it is empty, then clear it.
+	private void terminate(StringBuilder line) {
+		int length = line.length();
+		if (length > 0 && line.charAt(length - 1) == '\r') length--;
+		if (length > 0) this.dispatch(line.substring(0, length));
+		line.setLength(0);
+	}
+
+	@Override
+	public void flush() {
+		StringBuilder line = this.line.get();
+		if (!line.isEmpty()) this.terminate(line);
+	}
+
+	//#region println*
 	@Override
 	public void println() {
-		assert true;
+		this.terminate(this.line.get());
 	}
 
 	@Override
 	public void println(boolean b) {
-		this.print(b);
+		this.writeln(String.valueOf(b));
 	}
 
 	@Override
 	public void println(char c) {
-		this.print(c);
+		this.writeln(String.valueOf(c));
 	}
 
 	@Override
 	public void println(int i) {
-		this.print(i);
+		this.writeln(String.valueOf(i));
 	}
 
 	@Override
 	public void println(long l) {
-		this.print(l);
+		this.writeln(String.valueOf(l));
 	}
 
 	@Override
 	public void println(float f) {
-		this.print(f);
+		this.writeln(String.valueOf(f));
 	}
 
 	@Override
 	public void println(double d) {
-		this.print(d);
+		this.writeln(String.valueOf(d));
 	}
 
 	@Override
 	public void println(char[] text) {
-		this.print(text);
+		this.writeln(String.valueOf(text));
 	}
 
 	@Override
 	public void println(@Nullable String text) {
-		this.print(text);
+		this.writeln(String.valueOf(text));
 	}
 
 	@Override
 	public void println(@Nullable Object object) {
-		this.print(object);
+		this.writeln(String.valueOf(object));
 	}
 	//#endregion
-	//#region append* [delegates to print*]
+	//#region append*
 	@Override
 	public PrintStream append(char c) {
-		this.print(c);
+		this.write(c);
 		return this;
 	}
 
 	@Override
 	public PrintStream append(@Nullable CharSequence sequence) {
-		this.print(sequence);
+		this.write(sequence == null ? "null" : sequence);
 		return this;
 	}
 
 	@Override
 	public PrintStream append(@Nullable CharSequence sequence, int start, int end) {
-		this.print(sequence == null ? "null" : sequence.subSequence(start, end));
+		this.write(sequence == null ? "null".subSequence(start, end) : sequence.subSequence(start, end));
 		return this;
 	}
 	//#endregion
 	//#region format*
 	@Override
 	public PrintStream format(@Nullable String text, Object... arguments) {
-		this.dispatch(Logger.format(String.valueOf(text), arguments));
+		this.write(Logger.format(String.valueOf(text), arguments));
 		return this;
 	}
 
 	@Override
 	public PrintStream format(Locale locale, @Nullable String text, Object... arguments) {
-		this.dispatch(Logger.format(locale, String.valueOf(text), arguments));
+		this.write(Logger.format(locale, String.valueOf(text), arguments));
 		return this;
 	}
-	//#endregion [
-
+	//#endregion
 	//#region printf*
 	@Override
 	public PrintStream printf(@Nullable String text, Object... arguments) {
-		this.dispatch(Logger.format(String.valueOf(text), arguments));
+		this.write(Logger.format(String.valueOf(text), arguments));
 		return this;
 	}
 
 	@Override
 	public PrintStream printf(Locale locale, @Nullable String text, Object... arguments) {
-		this.dispatch(Logger.format(locale, String.valueOf(text), arguments));
+		this.write(Logger.format(locale, String.valueOf(text), arguments));
 		return this;
 	}
 	//#endregion
 	//#region print*
 	@Override
 	public void print(boolean b) {
-		this.dispatch(String.valueOf(b));
+		this.write(String.valueOf(b));
 	}
 
 	@Override
 	public void print(char c) {
-		this.dispatch(String.valueOf(c));
+		this.write(c);
 	}
 
 	@Override
 	public void print(int i) {
-		this.dispatch(String.valueOf(i));
+		this.write(String.valueOf(i));
 	}
 
 	@Override
 	public void print(long l) {
-		this.dispatch(String.valueOf(l));
+		this.write(String.valueOf(l));
 	}
 
 	@Override
 	public void print(float f) {
-		this.dispatch(String.valueOf(f));
+		this.write(String.valueOf(f));
 	}
 
 	@Override
 	public void print(double d) {
-		this.dispatch(String.valueOf(d));
+		this.write(String.valueOf(d));
 	}
 
 	@Override
 	public void print(char[] text) {
-		this.dispatch(String.valueOf(text));
+		this.write(String.valueOf(text));
 	}
 
 	@Override
 	public void print(@Nullable String text) {
-		this.dispatch(String.valueOf(text));
+		this.write(String.valueOf(text));
 	}
 
 	@Override
 	public void print(@Nullable Object object) {
-		this.dispatch(String.valueOf(object));
+		this.write(String.valueOf(object));
 	}
 	//#endregion
 }
\ No newline at end of file
@@ -1,11 +1,20 @@
 package sirius.stellar.logging.collect.console;
 
+import org.jspecify.annotations.Nullable;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
 
+import java.io.FileDescriptor;
 import java.io.PrintStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 
+import static java.lang.System.lineSeparator;
+import static java.lang.ThreadLocal.withInitial;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Locale.US;
 import static sirius.stellar.ansicsi.Terminal.*;
@@ -13,77 +22,143 @@ import static sirius.stellar.ansicsi.Terminal.*;
 /// SPI (Service Provider Interface) for replacing the output destination and
 /// format (the "technique") of [ConsoleCollector].
 ///
+/// ### Buffering
+/// Messages are encoded by [#encode(LoggerMessage, ByteBuffer)] into a buffer
+/// of [#capacity()] bytes, which is written to [#destination()] once it is
+/// full, or once the oldest buffered message has been buffered for
+/// [#flushLatency()], whichever comes first (straight to the file descriptor
+/// of the destination, if it has one, see [#descriptor()]).
+///
 /// @since 1.0
 public interface ConsoleTechnique {
 
 	/// Return a displayable [String] for the provided message.
 	String format(LoggerMessage message);
 
-	/// Return a destination to log to, e.g. [System#err].
+	/// Write the provided message to the provided buffer, encoded as UTF-8, as
+	/// it would be displayed, followed by a line separator.
+	///
+	/// By default, this encodes the result of [#format(LoggerMessage)], which
+	/// allocates a string and an array per message; implementations should
+	/// override this to write straight into the buffer. This is only invoked
+	/// by one thread at a time, so implementations may reuse state across
+	/// invocations.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer,
+	/// in which case the position of the buffer may have been modified, and the
+	/// message is written again once the buffer has been flushed
+	default void encode(LoggerMessage message, ByteBuffer buffer) {
+		buffer.put((this.format(message) + lineSeparator()).getBytes(UTF_8));
+	}
+
+	/// Return a destination to log to, by default [System#err].
 	///
 	/// This does not prevent [ConsoleCollector] from overriding both
 	/// [System#out] and [System#err] as dispatchers, but it does run
 	/// before this overriding occurs.
-	PrintStream destination();
+	default PrintStream destination() {
+		return System.err;
+	}
+
+	/// Return the file descriptor to write to directly, rather than writing
+	/// to [#destination()], or `null` to write to [#destination()].
+	///
+	/// By default, this is [FileDescriptor#out] or [FileDescriptor#err] if
+	/// [#destination()] is [System#out] or [System#err] respectively (so that
+	/// writes skip the locking and buffering of [PrintStream]), and otherwise
+	/// `null`.
+	default @Nullable FileDescriptor descriptor() {
+		PrintStream destination = this.destination();
+		if (destination == System.out) return FileDescriptor.out;
+		if (destination == System.err) return FileDescriptor.err;
+		return null;
+	}
+
+	/// Return the number of bytes that can be buffered before being written
+	/// to the destination. The buffer is allocated once, off-heap, with this
+	/// capacity.
+	default int capacity() {
+		return 1 << 16;
+	}
+
+	/// Return the maximum amount of time that a message can be buffered for
+	/// before the buffer is written to the destination.
+	///
+	/// By default, this is zero, so the buffer is written once per batch of
+	/// messages (see [sirius.stellar.logging.spi.LoggerCollector#collect(java.util.List)]),
+	/// i.e. the batch is displayed with one write.
+	default Duration flushLatency() {
+		return Duration.ZERO;
+	}
 }
 
 /// Default technique (for human-readable, colored logging, to `stderr`).
+///
+/// Every escape sequence is precomputed, as are the separators surrounding
+/// the level for every level, and the timestamp is only formatted once per
+/// second (as it is only displayed to the second), by a [LoggerEncoder].
 final class HumanConsoleTechnique implements ConsoleTechnique {
 
-	private final PrintStream stream;
+	private static final byte[] OPENING = (BLACK.foreground().bright() + "[" + WHITE.foreground().dark()).getBytes(UTF_8);
+	private static final byte[] SEPARATOR = (BLACK.foreground().bright() + " | " + WHITE.foreground().dark()).getBytes(UTF_8);
+	private static final byte[] CLOSING = (BLACK.foreground().bright() + "] " + WHITE.foreground().bright()).getBytes(UTF_8);
+	private static final byte[] ENDING = (DEFAULT.foreground() + lineSeparator()).getBytes(UTF_8);
+
+	/// The sequence following the timestamp, up to the thread, for every level.
+	private static final byte[][] LEVELS = new byte[LoggerLevel.values().length][];
+
+	static {
+		for (LoggerLevel level : LoggerLevel.values()) {
+			String separator = BLACK.foreground().bright() + " | ";
+			LEVELS[level.ordinal()] = (separator + display(level) + separator + WHITE.foreground().dark()).getBytes(UTF_8);
+		}
+	}
+
 	private final DateTimeFormatter formatter;
+	private final ThreadLocal<LoggerEncoder> encoder;
+	private final ThreadLocal<ByteBuffer> buffer;
 
 	HumanConsoleTechnique() {
-		this.stream = System.err;
 		this.formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")
 				.withLocale(US)
 				.withZone(UTC);
+		this.encoder = withInitial(LoggerEncoder::new);
+		this.buffer = withInitial(() -> ByteBuffer.allocate(256));
 	}
 
 	@Override
-	public PrintStream destination() {
-		return this.stream;
+	public String format(LoggerMessage message) {
+		ByteBuffer buffer = this.buffer.get();
+		while (true) {
+			buffer.clear();
+			try {
+				this.encode(message, buffer);
+				int length = buffer.position() - lineSeparator().length();
+				return new String(buffer.array(), 0, length, UTF_8);
+			} catch (BufferOverflowException exception) {
+				buffer = LoggerEncoder.grow(buffer);
+				if (buffer.capacity() <= LoggerEncoder.RETAINED) this.buffer.set(buffer);
+			}
+		}
 	}
 
 	@Override
-	public String format(LoggerMessage message) {
-		StringBuilder builder = new StringBuilder(128);
-
-		builder.append(BLACK.foreground().bright());
-		builder.append("[");
-
-		builder.append(WHITE.foreground().dark());
-		builder.append(this.formatter.format(message.time()));
-
-		builder.append(BLACK.foreground().bright());
-		builder.append(" | ");
-
-		builder.append(display(message.level()));
-		builder.append(BLACK.foreground().bright());
-		builder.append(" | ");
-
-		builder.append(WHITE.foreground().dark());
-		builder.append(message.thread());
-
-		builder.append(BLACK.foreground().bright());
-		builder.append(" | ");
-
-		builder.append(WHITE.foreground().dark());
-		builder.append(message.name());
-
-		builder.append(BLACK.foreground().bright());
-		builder.append("] ");
-
-		builder.append(WHITE.foreground().bright());
-		builder.append(message.text());
-		builder.append(DEFAULT.foreground());
-
-		return builder.toString();
+	public void encode(LoggerMessage message, ByteBuffer buffer) {
+		LoggerEncoder encoder = this.encoder.get();
+		buffer.put(OPENING);
+		encoder.timestamp(message.time(), this.formatter, buffer);
+		buffer.put(LEVELS[message.level().ordinal()]);
+		encoder.string(message.thread(), buffer);
+		buffer.put(SEPARATOR);
+		encoder.string(message.name(), buffer);
+		buffer.put(CLOSING);
+		encoder.string(message.text(), buffer);
+		buffer.put(ENDING);
 	}
 
 	/// Returns [LoggerLevel#display()] with a suitable color escape code
 	/// prepended to the string depending on the logging level.
-	private String display(LoggerLevel level) {
+	private static String display(LoggerLevel level) {
 		String display = level.display();
 		return switch (level) {
 			case INFORMATION -> BLUE.foreground().bright() + display;
@@ -0,0 +1,129 @@
+package sirius.stellar.logging.collect.console;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static java.lang.System.lineSeparator;
+import static java.lang.Thread.onSpinWait;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+
+@Timeout(5)
+final class ConsoleCollectorTest {
+
+	@Test @DisplayName("a batch of messages is written to a destination without a file descriptor")
+	void destination() {
+		var output = new ByteArrayOutputStream();
+		var technique = new TestConsoleTechnique(output);
+		assertThat(technique.descriptor()).isNull();
+
+		try (var collector = new ConsoleCollector(technique)) {
+			collector.collect(List.of(message("Lorem"), message("ipsum")));
+			assertThat(output.toString(UTF_8)).isEqualTo("Lorem" + lineSeparator() + "ipsum" + lineSeparator());
+		}
+	}
+
+	@Test @DisplayName("the file descriptor of the standard streams is written to directly")
+	void descriptor() {
+		ConsoleTechnique technique = message -> message.text();
+		assertThat(technique.descriptor()).isSameAs(FileDescriptor.err);
+
+		ConsoleTechnique out = new ConsoleTechnique() {
+			@Override
+			public String format(LoggerMessage message) {
+				return message.text();
+			}
+
+			@Override
+			public PrintStream destination() {
+				return System.out;
+			}
+		};
+		assertThat(out.descriptor()).isSameAs(FileDescriptor.out);
+	}
+
+	@Test @DisplayName("the buffer is flushed once the flush latency has passed, without any further messages")
+	void flushLatency() {
+		var output = new ByteArrayOutputStream();
+		var technique = new TestConsoleTechnique(output) {
+			@Override
+			public Duration flushLatency() {
+				return Duration.ofMillis(50);
+			}
+		};
+
+		try (var collector = new ConsoleCollector(technique)) {
+			collector.collect(message("Lorem"));
+			while (output.size() == 0) onSpinWait();
+
+			assertThat(output.toString(UTF_8)).isEqualTo("Lorem" + lineSeparator());
+		}
+	}
+
+	@Test @DisplayName("a message larger than the buffer is written in full, after the buffered messages")
+	void capacity() {
+		var output = new ByteArrayOutputStream();
+		var technique = new TestConsoleTechnique(output) {
+			@Override
+			public int capacity() {
+				return 16;
+			}
+		};
+
+		try (var collector = new ConsoleCollector(technique)) {
+			String large = "x".repeat(100);
+			collector.collect(List.of(message("Lorem"), message(large), message("ipsum")));
+			assertThat(output.toString(UTF_8)).isEqualTo("Lorem" + lineSeparator() + large + lineSeparator() + "ipsum" + lineSeparator());
+		}
+	}
+
+	@Test @DisplayName("the default technique encodes a message exactly as it formats it, followed by a line separator")
+	void encode() {
+		var technique = new HumanConsoleTechnique();
+		var message = new LoggerMessage(Instant.parse("2024-02-29T23:59:59.123Z"), INFORMATION, "main", "Test", "Grüße, 世界 😀");
+
+		String formatted = technique.format(message);
+		assertThat(formatted).contains("29/02/2024 23:59:59", "main", "Test", "Grüße, 世界 😀");
+
+		var buffer = ByteBuffer.allocate(256);
+		technique.encode(message, buffer);
+		assertThat(new String(buffer.array(), 0, buffer.position(), UTF_8)).isEqualTo(formatted + lineSeparator());
+	}
+
+	/// Returns a message with the provided text.
+	static LoggerMessage message(String text) {
+		return new LoggerMessage(Instant.now(), INFORMATION, "main", "Test", text);
+	}
+
+	/// Implementation of [ConsoleTechnique] that displays only the text of
+	/// every message, to a stream over the provided output.
+	static class TestConsoleTechnique implements ConsoleTechnique {
+
+		private final PrintStream destination;
+
+		TestConsoleTechnique(ByteArrayOutputStream output) {
+			this.destination = new PrintStream(output, false, UTF_8);
+		}
+
+		@Override
+		public String format(LoggerMessage message) {
+			return message.text();
+		}
+
+		@Override
+		public PrintStream destination() {
+			return this.destination;
+		}
+	}
+}
\ No newline at end of file
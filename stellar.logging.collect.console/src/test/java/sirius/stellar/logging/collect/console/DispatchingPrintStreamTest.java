@@ -0,0 +1,36 @@
+package sirius.stellar.logging.collect.console;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.Thread.onSpinWait;
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.Logger.collector;
+import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+
+@Timeout(5)
+final class DispatchingPrintStreamTest {
+
+	@Test
+	@DisplayName("Text printed a character at a time is dispatched a line at a time")
+	void lines() {
+		List<String> received = new CopyOnWriteArrayList<>();
+		collector(message -> {
+			if (message.name().equals("lines")) received.add(message.text());
+		});
+
+		var stream = new DispatchingPrintStream(INFORMATION, "lines");
+		for (char character : "Hello,\r\nworld!\n\n".toCharArray()) stream.print(character);
+		stream.print("partial");
+		stream.flush();
+		stream.print("x".repeat(DispatchingPrintStream.LIMIT + 1));
+		stream.println();
+
+		while (received.size() < 5) onSpinWait();
+		assertThat(received).containsExactly("Hello,", "world!", "partial", "x".repeat(DispatchingPrintStream.LIMIT), "x");
+	}
+}
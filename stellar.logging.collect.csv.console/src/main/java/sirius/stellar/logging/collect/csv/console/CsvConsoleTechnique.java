@@ -5,6 +5,7 @@ import sirius.stellar.logging.collect.console.ConsoleTechnique;
 import sirius.stellar.logging.collect.csv.CsvAbstractTechnique;
 
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
 
 /// Implementation of [ConsoleTechnique] for CSV (Comma-Separated Values) logging.
 public final class CsvConsoleTechnique
@@ -16,6 +17,11 @@ public final class CsvConsoleTechnique
 		return super.format(message);
 	}
 
+	@Override
+	public void encode(LoggerMessage message, ByteBuffer buffer) {
+		super.encode(message, buffer);
+	}
+
 	@Override
 	public PrintStream destination() {
 		return System.out;
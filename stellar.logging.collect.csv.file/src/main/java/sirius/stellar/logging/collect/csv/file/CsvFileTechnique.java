@@ -4,7 +4,7 @@ import sirius.stellar.logging.LoggerMessage;
 import sirius.stellar.logging.collect.csv.CsvAbstractTechnique;
 import sirius.stellar.logging.collect.file.FileTechnique;
 
-import static java.lang.System.lineSeparator;
+import java.nio.ByteBuffer;
 
 /// Implementation of [FileTechnique] for CSV (Comma-Separated Values) logging.
 public final class CsvFileTechnique
@@ -16,9 +16,14 @@ public final class CsvFileTechnique
 		return super.format(message);
 	}
 
+	@Override
+	public void encode(LoggerMessage message, ByteBuffer buffer) {
+		super.encode(message, buffer);
+	}
+
 	@Override
 	public String header() {
-		return "\"time\",\"level\",\"thread\",\"name\",\"text\"" + lineSeparator();
+		return HEADER;
 	}
 
 	@Override
@@ -1,30 +1,55 @@
 package sirius.stellar.logging.collect.csv;
 
 import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
 
-import java.util.Arrays;
-import java.util.StringJoiner;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
-import static java.lang.System.lineSeparator;
-import static java.util.stream.Collectors.joining;
+import static java.lang.ThreadLocal.withInitial;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /// Base class for CSV (Comma-Separated Values) logging technique.
+///
+/// Messages are written as RFC 4180 records, with the columns of [#HEADER],
+/// and encoded straight to UTF-8 bytes by [#encode(LoggerMessage, ByteBuffer)],
+/// see [CsvEncoder]; [#format(LoggerMessage)] decodes the same bytes.
+///
+/// @see CsvReader
 public abstract class CsvAbstractTechnique {
 
+	/// The header record, naming the columns of every record.
+	public static final String HEADER = "\"time\",\"level\",\"thread\",\"name\",\"text\"\r\n";
+
+	private final ThreadLocal<CsvEncoder> encoder;
+	private final ThreadLocal<ByteBuffer> buffer;
+
+	public CsvAbstractTechnique() {
+		this.encoder = withInitial(CsvEncoder::new);
+		this.buffer = withInitial(() -> ByteBuffer.allocate(256));
+	}
+
 	/// Return a CSV formatted version of the provided message.
 	protected String format(LoggerMessage message) {
-		StringJoiner joiner = new StringJoiner("\",\"", "\"", "\"" + lineSeparator());
-		joiner.add(message.time().toString())
-			  .add(message.level().toString())
-			  .add(message.thread())
-			  .add(message.name());
-		String lines = Arrays.stream(message.text()
-				.replaceAll("\"", "`")
-				.replaceAll("'", "`")
-				.split("\n"))
-				.map(line -> "'" + line + "'")
-				.collect(joining());
-		joiner.add(lines);
-		return joiner.toString();
+		ByteBuffer buffer = this.buffer.get();
+		while (true) {
+			buffer.clear();
+			try {
+				this.encode(message, buffer);
+				return new String(buffer.array(), 0, buffer.position(), UTF_8);
+			} catch (BufferOverflowException exception) {
+				buffer = LoggerEncoder.grow(buffer);
+				if (buffer.capacity() <= LoggerEncoder.RETAINED) this.buffer.set(buffer);
+			}
+		}
+	}
+
+	/// Write a CSV formatted version of the provided message to the provided
+	/// buffer, encoded as UTF-8, without allocating.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer,
+	/// in which case the position of the buffer may have been modified
+	protected void encode(LoggerMessage message, ByteBuffer buffer) {
+		this.encoder.get().encode(message, buffer);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package sirius.stellar.logging.collect.csv;
+
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Encoder used by [CsvAbstractTechnique], which writes a message as a record
+/// of RFC 4180 CSV straight into a [ByteBuffer], encoded as UTF-8, in a single
+/// pass, without allocating.
+///
+/// Every field is quoted, so that line breaks and commas in the text are kept
+/// as they are, and quotes are escaped by doubling them. Records are terminated
+/// with `CRLF`, as specified by RFC 4180.
+///
+/// Fields are written, and timestamps are written as [Instant#toString()]
+/// would, by a [LoggerEncoder] (see there for how this is done without
+/// allocating).
+final class CsvEncoder {
+
+	/// The escape sequence for quotes, which are doubled.
+	private static final LoggerEncoder.Escapes ESCAPES = LoggerEncoder.Escapes.of(Map.of('"', "\"\""));
+
+	/// The display name of every level, as a quoted field.
+	private static final byte[][] LEVELS = new byte[LoggerLevel.values().length][];
+
+	private static final byte[] SEPARATOR = "\",\"".getBytes(UTF_8);
+	private static final byte[] END = "\"\r\n".getBytes(UTF_8);
+
+	static {
+		for (LoggerLevel level : LoggerLevel.values()) {
+			LEVELS[level.ordinal()] = level.display().getBytes(UTF_8);
+		}
+	}
+
+	private final LoggerEncoder encoder;
+
+	CsvEncoder() {
+		this.encoder = new LoggerEncoder();
+	}
+
+	/// Write the provided message to the provided buffer.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer
+	void encode(LoggerMessage message, ByteBuffer buffer) {
+		buffer.put((byte) '"');
+		this.encoder.timestamp(message.time(), buffer);
+		buffer.put(SEPARATOR);
+		buffer.put(LEVELS[message.level().ordinal()]);
+		buffer.put(SEPARATOR);
+		this.encoder.string(message.thread(), buffer, ESCAPES);
+		buffer.put(SEPARATOR);
+		this.encoder.string(message.name(), buffer, ESCAPES);
+		buffer.put(SEPARATOR);
+		this.encoder.string(message.text(), buffer, ESCAPES);
+		buffer.put(END);
+	}
+}
\ No newline at end of file
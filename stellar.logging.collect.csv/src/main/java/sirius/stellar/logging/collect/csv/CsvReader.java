@@ -0,0 +1,142 @@
+package sirius.stellar.logging.collect.csv;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Streaming reader for RFC 4180 CSV, such as that written by [CsvAbstractTechnique],
+/// which reads a record at a time, so that files of any size can be read.
+///
+/// Fields may be quoted (with quotes escaped by doubling them) or unquoted,
+/// and records may be terminated by either `CRLF` or `LF`.
+///
+/// @since 1.0
+public final class CsvReader implements AutoCloseable {
+
+	private final Reader reader;
+	private final char[] buffer;
+	private int position;
+	private int limit;
+
+	private final StringBuilder field;
+
+	/// Create a reader for the provided source of characters.
+	public CsvReader(Reader reader) {
+		this.reader = reader;
+		this.buffer = new char[8192];
+		this.field = new StringBuilder(128);
+	}
+
+	/// Returns a reader for the file at the provided path, decoded as UTF-8.
+	///
+	/// @throws IOException the file cannot be opened
+	public static CsvReader open(Path path) throws IOException {
+		return new CsvReader(Files.newBufferedReader(path, UTF_8));
+	}
+
+	/// Returns the next message, skipping any header records (see [CsvAbstractTechnique#HEADER]),
+	/// or `null` if there are no more messages.
+	///
+	/// @throws IOException the record cannot be read, or is not a message
+	@Nullable
+	public LoggerMessage read() throws IOException {
+		List<String> record = this.record();
+		while (record != null && record.size() == 5 && record.get(0).equals("time") && record.get(4).equals("text")) {
+			record = this.record();
+		}
+		if (record == null) return null;
+		if (record.size() != 5) throw new IOException("Malformed CSV log record with " + record.size() + " fields");
+
+		try {
+			Instant time = Instant.parse(record.get(0));
+			return new LoggerMessage(time, level(record.get(1)), record.get(2), record.get(3), record.get(4));
+		} catch (DateTimeParseException exception) {
+			throw new IOException("Malformed CSV log record time", exception);
+		}
+	}
+
+	/// Returns the fields of the next record, or `null` if there are no more
+	/// records. A trailing empty line is not considered to be a record.
+	///
+	/// @throws IOException the record cannot be read, or has an unterminated quoted field
+	@Nullable
+	public List<String> record() throws IOException {
+		int character = this.next();
+		if (character == -1) return null;
+
+		List<String> record = new ArrayList<>(5);
+		this.field.setLength(0);
+		boolean quoted = false;
+
+		while (true) {
+			if (quoted) {
+				if (character == -1) throw new IOException("Unterminated quoted CSV field");
+				if (character == '"') {
+					character = this.next();
+					if (character != '"') {
+						quoted = false;
+						continue;
+					}
+				}
+				this.field.append((char) character);
+				character = this.next();
+				continue;
+			}
+
+			switch (character) {
+				case -1, '\n' -> {
+					record.add(this.field.toString());
+					return record;
+				}
+				case '\r' -> {
+					int following = this.next();
+					if (following != '\n' && following != -1) this.position--;
+					record.add(this.field.toString());
+					return record;
+				}
+				case ',' -> {
+					record.add(this.field.toString());
+					this.field.setLength(0);
+				}
+				case '"' -> quoted = true;
+				default -> this.field.append((char) character);
+			}
+			character = this.next();
+		}
+	}
+
+	/// Returns the next character, or `-1` at the end of the input.
+	private int next() throws IOException {
+		if (this.position == this.limit) {
+			int read = this.reader.read(this.buffer);
+			if (read <= 0) return -1;
+			this.position = 0;
+			this.limit = read;
+		}
+		return this.buffer[this.position++];
+	}
+
+	/// Returns the level with the provided display name.
+	private static LoggerLevel level(String display) throws IOException {
+		for (LoggerLevel level : LoggerLevel.values()) {
+			if (level.display().equals(display)) return level;
+		}
+		throw new IOException("Malformed CSV log record level " + display);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+}
\ No newline at end of file
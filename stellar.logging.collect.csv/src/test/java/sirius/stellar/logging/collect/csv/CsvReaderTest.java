@@ -0,0 +1,45 @@
+package sirius.stellar.logging.collect.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class CsvReaderTest {
+
+	@Test @DisplayName("Records written by CsvAbstractTechnique are read back by CsvReader")
+	void roundTrip() throws IOException {
+		var technique = new CsvAbstractTechnique() {};
+		var messages = List.of(
+			new LoggerMessage(Instant.ofEpochSecond(1_700_000_000L, 120_000_000L), LoggerLevel.INFORMATION, "main", "sirius.A", "plain text"),
+			new LoggerMessage(Instant.ofEpochSecond(1_700_000_001L), LoggerLevel.ERROR, "worker, 1", "sirius.A", "said \"hi\"\nthen 'left'\r\n"),
+			new LoggerMessage(Instant.ofEpochSecond(1_700_000_002L, 1L), LoggerLevel.TRACING, "main", "sirius.B", "")
+		);
+
+		var builder = new StringBuilder(CsvAbstractTechnique.HEADER);
+		for (var message : messages) builder.append(technique.format(message));
+
+		try (var reader = new CsvReader(new StringReader(builder.toString()))) {
+			assertThat(reader.read()).isEqualTo(messages.get(0));
+			assertThat(reader.read()).isEqualTo(messages.get(1));
+			assertThat(reader.read()).isEqualTo(messages.get(2));
+			assertThat(reader.read()).isNull();
+		}
+	}
+
+	@Test @DisplayName("record() parses unquoted fields, doubled quotes and LF line endings")
+	void record() throws IOException {
+		try (var reader = new CsvReader(new StringReader("a,\"b\"\"c\",\nd\r\n"))) {
+			assertThat(reader.record()).containsExactly("a", "b\"c", "");
+			assertThat(reader.record()).containsExactly("d");
+			assertThat(reader.record()).isNull();
+		}
+	}
+}
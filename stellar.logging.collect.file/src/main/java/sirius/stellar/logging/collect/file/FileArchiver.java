@@ -0,0 +1,123 @@
+package sirius.stellar.logging.collect.file;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+/// Archives the files rolled by [FileCollector] on a background thread, so
+/// that the thread collecting messages is never stalled by it, i.e. compresses
+/// them (if [FileTechnique#compressRolled()]) and enforces the retention policy
+/// ([FileTechnique#retainFiles()] and [FileTechnique#retainSize()]).
+///
+/// Failures are thrown on the background thread, i.e. passed to its uncaught
+/// exception handler, and do not affect logging.
+final class FileArchiver implements AutoCloseable {
+
+	private final Path directory;
+	private final String extension;
+	private final boolean compress;
+	private final int retainFiles;
+	private final long retainSize;
+
+	private final ExecutorService executor;
+
+	/// The file most recently rolled to, which is never deleted, even by a
+	/// file rolled before it, that is only archived once it has been created.
+	@Nullable
+	private volatile Path current;
+
+	FileArchiver(FileTechnique technique) {
+		this.directory = technique.directory();
+		this.extension = technique.extension();
+		this.compress = technique.compressRolled() && !technique.compressLive();
+		this.retainFiles = technique.retainFiles();
+		this.retainSize = technique.retainSize();
+
+		this.executor = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+				.name("FileArchiver")
+				.daemon()
+				.factory());
+	}
+
+	/// Whether this archiver has anything to do once a file is rolled.
+	boolean enabled() {
+		return this.compress || this.retainFiles > 0 || this.retainSize > 0L;
+	}
+
+	/// Archives the provided file, which has just been rolled, in the
+	/// background, where the provided current file is never deleted.
+	void archive(Path rolled, Path current) {
+		if (!this.enabled()) return;
+		this.current = current;
+		this.executor.execute(() -> {
+			try {
+				if (this.compress) this.compress(rolled);
+				this.retain(this.current);
+			} catch (IOException exception) {
+				throw new IllegalStateException("Failed to archive rolled log file", exception);
+			}
+		});
+	}
+
+	/// Compresses the provided file with gzip, replacing it.
+	private void compress(Path file) throws IOException {
+		Path target = file.resolveSibling(file.getFileName() + ".gz");
+		Path partial = file.resolveSibling(file.getFileName() + ".gz.part");
+
+		try (InputStream input = Files.newInputStream(file);
+			 OutputStream output = new GZIPOutputStream(Files.newOutputStream(partial), 1 << 16)) {
+			input.transferTo(output);
+		}
+
+		Files.move(partial, target, ATOMIC_MOVE);
+		Files.delete(file);
+	}
+
+	/// Deletes the oldest log files in the directory, other than the provided
+	/// current file, until the retention policy is satisfied.
+	private void retain(@Nullable Path current) throws IOException {
+		if (this.retainFiles <= 0 && this.retainSize <= 0L) return;
+
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(this.directory)) {
+			files = stream
+					.filter(path -> {
+						String name = path.getFileName().toString();
+						return name.endsWith(this.extension) || name.endsWith(this.extension + ".gz");
+					})
+					.sorted()
+					.toList();
+		}
+
+		long size = 0L;
+		for (Path file : files) size += Files.size(file);
+
+		int count = files.size();
+		for (Path file : files) {
+			boolean exceeded = (this.retainFiles > 0 && count > this.retainFiles) || (this.retainSize > 0L && size > this.retainSize);
+			if (!exceeded) return;
+			if (file.equals(current)) continue;
+
+			size -= Files.size(file);
+			count--;
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/// Waits for any archiving in progress to complete.
+	@Override
+	public void close() {
+		this.executor.close();
+	}
+}
\ No newline at end of file
@@ -5,52 +5,153 @@ import sirius.stellar.logging.LoggerMessage;
 import sirius.stellar.logging.spi.LoggerCollector;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Arrays;
-import java.util.ServiceLoader;
-import java.util.StringJoiner;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.APPEND;
-import static java.time.Instant.now;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.ServiceLoader.load;
 import static java.util.UUID.randomUUID;
-import static java.util.stream.Collectors.joining;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static java.util.zip.Deflater.NO_FLUSH;
+import static java.util.zip.Deflater.SYNC_FLUSH;
 
 /// Implementation of [LoggerCollector] for logging to files.
-/// This will roll twice a day.
+/// By default, this will roll twice a day.
+///
+/// Messages are encoded into a direct buffer, and written to the file in
+/// groups (e.g. once per batch of messages), rather than with a write per
+/// message; see [FileTechnique] for the policies for flushing and rolling.
+///
+/// Alternatively, messages can be encoded straight into memory-mapped segments
+/// of the file, see [FileTechnique#segmentSize()].
+///
+/// Rolled files are archived on a background thread, see [FileArchiver].
 ///
 /// @see FileTechnique
 /// @since 1.0
 public final class FileCollector implements LoggerCollector {
 
+	/// The header of a gzip stream, with no optional fields.
+	private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
 	private final FileTechnique technique;
+	private final Opener opener;
 
 	private final AtomicBoolean closing;
 	private final ReentrantLock writing;
 
+	private final long segmentSize;
+	private final int flushMessages;
+	private final long flushLatency;
+	private final long forceInterval;
+	private final long rollSize;
+	private final long rollInterval;
+
 	@Nullable
-	private FileChannel channel;
+	private final Thread flusher;
+	private final FileArchiver archiver;
+
+	/// The gzip stream state, if the file is compressed while it is written,
+	/// and the buffer that the compressed bytes are written to the file from.
+	@Nullable
+	private final Deflater deflater;
+	private final CRC32 checksum;
+	private final ByteBuffer compressed;
 
 	@Nullable
-	private Instant rolled;
+	private FileChannel channel;
+	@Nullable
+	private Path file;
+
+	/// The buffer that messages are encoded into, which is the segment that is
+	/// mapped, if the file is mapped.
+	private ByteBuffer buffer;
+
+	/// The number of bytes written to the current file, excluding the buffer
+	/// (i.e. the offset of the segment that is mapped, if the file is mapped).
+	private long written;
+
+	/// The number of messages in the buffer, and when the first was buffered.
+	private int pending;
+	private long buffered;
+
+	/// When the current file should be rolled, and when it was last forced.
+	private long deadline;
+	private long forced;
+
+	/// The time in the name of the current file, which is increased for every
+	/// file, so that the names of files sort in the order they were created.
+	private long named;
 
 	public FileCollector() {
-		this.technique = load(FileTechnique.class)
+		this(load(FileTechnique.class)
 				.findFirst()
-				.orElseGet(PlainFileTechnique::new);
+				.orElseGet(PlainFileTechnique::new));
+	}
+
+	/// Create a collector with the provided technique, rather than the one
+	/// provided as a service provider.
+	///
+	/// @throws IllegalArgumentException segment size below zero or above
+	/// [Integer#MAX_VALUE], the most that can be mapped at once
+	FileCollector(FileTechnique technique) {
+		this(technique, FileChannel::open);
+	}
+
+	/// Create a collector with the provided technique, which opens the channel
+	/// of every file with the provided opener (e.g. to inject failures).
+	///
+	/// @throws IllegalArgumentException segment size below zero or above
+	/// [Integer#MAX_VALUE], the most that can be mapped at once
+	FileCollector(FileTechnique technique, Opener opener) {
+		this.technique = technique;
+		this.opener = opener;
 
 		this.closing = new AtomicBoolean();
 		this.writing = new ReentrantLock();
 
+		this.segmentSize = this.technique.segmentSize();
+		if (this.segmentSize < 0L || this.segmentSize > Integer.MAX_VALUE) throw new IllegalArgumentException("Segment size must be between 0 and " + Integer.MAX_VALUE);
+		this.buffer = (this.segmentSize > 0L) ? ByteBuffer.allocate(0) : ByteBuffer.allocateDirect(this.technique.capacity());
+		this.flushMessages = this.technique.flushMessages();
+		this.flushLatency = this.technique.flushLatency().toNanos();
+		this.forceInterval = this.technique.forceInterval().toNanos();
+		this.rollSize = this.technique.rollSize();
+		this.rollInterval = this.technique.rollInterval().toNanos();
+
+		this.archiver = new FileArchiver(this.technique);
+		this.deflater = (this.technique.compressLive() && this.segmentSize == 0L) ? new Deflater(BEST_SPEED, true) : null;
+		this.checksum = new CRC32();
+		this.compressed = (this.deflater != null) ? ByteBuffer.allocateDirect(1 << 16).limit(0) : ByteBuffer.allocate(0);
+
 		this.roll();
+
+		long period = Math.min(
+			(this.flushLatency > 0L && this.segmentSize == 0L) ? this.flushLatency : Long.MAX_VALUE,
+			(this.forceInterval > 0L) ? this.forceInterval : Long.MAX_VALUE
+		);
+		this.flusher = (period == Long.MAX_VALUE) ? null : Thread.ofPlatform()
+				.name("FileCollector")
+				.daemon()
+				.start(() -> this.flushing(period));
 	}
 
 	@Override
@@ -59,14 +160,28 @@ public final class FileCollector implements LoggerCollector {
 		this.writing.lock();
 
 		try {
-			assert this.rolled != null;
-			assert this.channel != null;
+			this.rolling();
+			this.append(message);
+			this.commit();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to append to file", exception);
+		} finally {
+			this.writing.unlock();
+		}
+	}
 
-			if (this.rolled.plus(Duration.ofHours(12)).isBefore(now())) this.roll();
-			byte[] text = this.technique.format(message).getBytes(UTF_8);
+	/// Encodes the entire batch into the buffer, then commits it to the file,
+	/// while holding the lock once; unless the buffer fills up first, this is
+	/// a single write.
+	@Override
+	public void collect(List<LoggerMessage> messages) {
+		if (this.closing.get()) return;
+		this.writing.lock();
 
-			int written = this.channel.write(ByteBuffer.wrap(text));
-			if (written != text.length) throw new IOException("Written size mismatch");
+		try {
+			this.rolling();
+			for (LoggerMessage message : messages) this.append(message);
+			this.commit();
 		} catch (IOException exception) {
 			throw new IllegalStateException("Failed to append to file", exception);
 		} finally {
@@ -74,29 +189,247 @@ public final class FileCollector implements LoggerCollector {
 		}
 	}
 
+	/// Encodes the provided message into the buffer, flushing the buffer (or
+	/// mapping the next segment) first if it is full, and rolling the file
+	/// afterward if it reached its size.
+	/// This must be invoked while holding [#writing].
+	private void append(LoggerMessage message) throws IOException {
+		int position = this.buffer.position();
+		try {
+			this.technique.encode(message, this.buffer);
+		} catch (BufferOverflowException exception) {
+			this.buffer.position(position);
+			if (this.segmentSize > 0L) this.map(this.segmentSize);
+			else this.flush();
+			try {
+				this.technique.encode(message, this.buffer);
+			} catch (BufferOverflowException overflow) {
+				this.buffer.position(0);
+				byte[] bytes = this.technique.format(message).getBytes(UTF_8);
+				if (this.segmentSize > 0L) {
+					this.map(Math.max(this.segmentSize, bytes.length));
+					this.buffer.put(bytes);
+				} else {
+					this.buffer.clear();
+					this.write(ByteBuffer.wrap(bytes));
+				}
+			}
+		}
+
+		if (this.pending++ == 0) this.buffered = nanoTime();
+		if (this.rollSize > 0L && this.written + this.buffer.position() >= this.rollSize) this.roll();
+	}
+
+	/// Flushes the buffer if required by the flush policy.
+	/// This must be invoked while holding [#writing].
+	private void commit() throws IOException {
+		if (this.pending == 0 || this.segmentSize > 0L) return;
+		if (this.flushLatency == 0L || this.pending >= this.flushMessages || nanoTime() - this.buffered >= this.flushLatency) this.flush();
+	}
+
+	/// Rolls the file if it has been used for the roll interval.
+	/// This must be invoked while holding [#writing].
+	private void rolling() {
+		if (this.rollInterval > 0L && nanoTime() - this.deadline >= 0L) this.roll();
+	}
+
+	/// Writes the buffer to the file (unless the file is mapped), forcing it
+	/// if required by the force interval.
+	/// This must be invoked while holding [#writing].
+	///
+	/// If writing fails part of the way through, the bytes that were not
+	/// written are kept at the start of the buffer, so that they are written
+	/// (once) by the next flush, and further messages are encoded after them.
+	private void flush() throws IOException {
+		if (this.segmentSize == 0L) {
+			this.buffer.flip();
+			try {
+				this.write(this.buffer);
+			} finally {
+				this.buffer.compact();
+			}
+		}
+		this.pending = 0;
+
+		if (this.forceInterval > 0L && nanoTime() - this.forced >= this.forceInterval) this.force();
+	}
+
+	/// Writes the provided buffer to the file, entirely, compressing it first
+	/// if the file is compressed while it is written.
+	/// This must be invoked while holding [#writing].
+	///
+	/// The position of the buffer is only advanced past the bytes that have
+	/// been written (or consumed by the gzip stream, which are added to its
+	/// checksum), even if this fails.
+	private void write(ByteBuffer buffer) throws IOException {
+		assert this.channel != null;
+		if (this.deflater == null) {
+			while (buffer.hasRemaining()) this.written += this.channel.write(buffer);
+			return;
+		}
+
+		int position = buffer.position();
+		this.deflater.setInput(buffer);
+		try {
+			this.deflate(SYNC_FLUSH);
+		} finally {
+			this.checksum.update(buffer.duplicate().limit(buffer.position()).position(position));
+		}
+	}
+
+	/// Compresses all input of the gzip stream, writing the output to the file,
+	/// either flushing the stream, or finishing it (if the flush mode is
+	/// [Deflater#NO_FLUSH]) and writing the gzip trailer.
+	/// This must be invoked while holding [#writing].
+	///
+	/// Any output left over from a previous invocation that failed to write it
+	/// is written first, so that the stream stays intact.
+	private void deflate(int flush) throws IOException {
+		assert this.channel != null && this.deflater != null;
+		while (this.compressed.hasRemaining()) this.written += this.channel.write(this.compressed);
+		if (flush == NO_FLUSH) {
+			this.deflater.setInput(new byte[0]);
+			this.deflater.finish();
+		}
+
+		boolean full;
+		do {
+			this.compressed.clear();
+			this.deflater.deflate(this.compressed, flush);
+			full = !this.compressed.hasRemaining();
+			this.compressed.flip();
+			while (this.compressed.hasRemaining()) this.written += this.channel.write(this.compressed);
+		} while (flush == NO_FLUSH ? !this.deflater.finished() : full);
+
+		if (flush != NO_FLUSH) return;
+		this.compressed.clear();
+		this.compressed.order(LITTLE_ENDIAN)
+				.putInt((int) this.checksum.getValue())
+				.putInt((int) this.deflater.getBytesRead())
+				.flip();
+		while (this.compressed.hasRemaining()) this.written += this.channel.write(this.compressed);
+		this.deflater.reset();
+		this.checksum.reset();
+	}
+
+	/// Forces the file (or the segment that is mapped) to the storage device.
+	/// This must be invoked while holding [#writing].
+	private void force() throws IOException {
+		assert this.channel != null;
+		if (this.buffer instanceof MappedByteBuffer segment) segment.force();
+		else this.channel.force(false);
+		this.forced = nanoTime();
+	}
+
+	/// Maps the next segment of the file, of the provided size, following the
+	/// messages copied into the segment that is mapped (if any).
+	/// This must be invoked while holding [#writing].
+	///
+	/// @implNote The previous segment is not unmapped explicitly (as there is no
+	/// supported way to do so), but left to be unmapped once it is garbage
+	/// collected, so a number of segments may stay mapped until then.
+	private void map(long size) throws IOException {
+		assert this.channel != null;
+		this.written += this.buffer.position();
+		this.buffer = this.channel.map(READ_WRITE, this.written, size);
+	}
+
+	/// Truncates the file to the length of the messages copied into it, so
+	/// that it does not end with the unused part of the segment that is mapped.
+	/// This must be invoked while holding [#writing].
+	///
+	/// As the segments are only unmapped once garbage collected (see [#map]),
+	/// truncating fails on platforms that do not allow truncating a file that
+	/// is mapped (e.g. Windows), in which case the file is left with trailing
+	/// zeros, as it would be if the process crashed.
+	private void unmap() throws IOException {
+		assert this.channel != null;
+		this.written += this.buffer.position();
+		this.buffer = ByteBuffer.allocate(0);
+		try {
+			this.channel.truncate(this.written);
+		} catch (IOException exception) {
+			assert true;
+		}
+	}
+
+	/// Flushes the buffer whenever the oldest buffered message has reached the
+	/// flush latency, and forces the file at the force interval, even when no
+	/// messages are being collected; this runs until the collector is closed.
+	///
+	/// Failures are passed to the uncaught exception handler of the thread,
+	/// which keeps running, so that the next attempt can succeed.
+	private void flushing(long period) {
+		while (!this.closing.get()) {
+			LockSupport.parkNanos(this, period);
+			this.writing.lock();
+
+			try {
+				if (this.closing.get()) return;
+				this.rolling();
+				if (this.pending > 0 && this.flushLatency > 0L && this.segmentSize == 0L && nanoTime() - this.buffered >= this.flushLatency) this.flush();
+				if (this.forceInterval > 0L && nanoTime() - this.forced >= this.forceInterval) this.force();
+			} catch (IOException exception) {
+				this.report(new IllegalStateException("Failed to flush file", exception));
+			} catch (IllegalStateException exception) {
+				this.report(exception);
+			} finally {
+				this.writing.unlock();
+			}
+		}
+	}
+
+	/// Passes the provided exception to the uncaught exception handler of the
+	/// current thread, without terminating it.
+	private void report(Exception exception) {
+		Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+	}
+
 	/// Rolls the internal file channel for this collector, to allow for a new
 	/// file to be used, and the old one to serve as an archive for the previous
-	/// duration of logging.
+	/// duration of logging. Any buffered messages are written to the old file.
 	private void roll() {
 		try {
-			if (this.channel != null && this.channel.isOpen()) this.channel.close();
+			Path rolled = this.file;
+			if (this.channel != null && this.channel.isOpen()) {
+				this.flush();
+				if (this.segmentSize > 0L) this.unmap();
+				if (this.deflater != null) this.deflate(NO_FLUSH);
+				this.channel.close();
+			}
 
-			this.rolled = Instant.now();
-			long now = this.rolled.toEpochMilli();
+			long now = Math.max(currentTimeMillis(), this.named + 1L);
+			this.named = now;
 
 			Path directory = this.technique.directory();
-			String extension = this.technique.extension();
+			String extension = this.technique.extension() + ((this.deflater != null) ? ".gz" : "");
 			Path file = directory.resolve(now + "-" + randomUUID() + extension);
+			this.file = file;
 
 			Files.createDirectories(directory);
 			Files.createFile(file);
 
-			this.channel = FileChannel.open(file, APPEND);
+			this.channel = (this.segmentSize > 0L) ? this.opener.open(file, READ, WRITE) : this.opener.open(file, APPEND);
 			if (this.channel == null) throw new IOException("FileChannel#open returned null");
 
+			this.written = 0L;
+			this.deadline = nanoTime() + this.rollInterval;
+			this.forced = nanoTime();
+
+			if (rolled != null) this.archiver.archive(rolled, file);
+			if (this.deflater != null) {
+				ByteBuffer header = ByteBuffer.wrap(GZIP_HEADER);
+				while (header.hasRemaining()) this.written += this.channel.write(header);
+			}
+
 			byte[] header = this.technique.header().getBytes(UTF_8);
-			int written = this.channel.write(ByteBuffer.wrap(header));
-			if (written != header.length) throw new IOException("Written size mismatch");
+			if (this.segmentSize > 0L) {
+				this.map(Math.max(this.segmentSize, header.length));
+				this.buffer.put(header);
+				return;
+			}
+			this.write(ByteBuffer.wrap(header));
 		} catch (IOException exception) {
 			throw new IllegalStateException("Failed to roll file logger collector", exception);
 		}
@@ -106,14 +439,28 @@ public final class FileCollector implements LoggerCollector {
 	public void close() {
 		this.writing.lock();
 		try {
-			this.closing.set(true);
+			if (this.closing.getAndSet(true)) return;
 
 			assert this.channel != null;
+			this.flush();
+			if (this.forceInterval > 0L) this.force();
+			if (this.segmentSize > 0L) this.unmap();
+			if (this.deflater != null) this.deflate(NO_FLUSH);
 			this.channel.close();
 		} catch (IOException exception) {
 			throw new IllegalStateException("Failed to close file logger collector", exception);
 		} finally {
 			this.writing.unlock();
+			if (this.flusher != null) LockSupport.unpark(this.flusher);
+			this.archiver.close();
 		}
 	}
+
+	/// Opens the channel of a file, as [FileChannel#open(Path, OpenOption...)].
+	@FunctionalInterface
+	interface Opener {
+
+		/// Opens a channel to the provided file, with the provided options.
+		FileChannel open(Path file, OpenOption... options) throws IOException;
+	}
 }
\ No newline at end of file
@@ -2,21 +2,66 @@ package sirius.stellar.logging.collect.file;
 
 import sirius.stellar.logging.LoggerMessage;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Locale.US;
 
 /// SPI (Service Provider Interface) for replacing the output format
 /// (the "technique") of [FileCollector].
 ///
+/// ### Buffering
+/// Messages are encoded by [#encode(LoggerMessage, ByteBuffer)] into a buffer
+/// of [#capacity()] bytes, which is written to the file once it is full, once
+/// [#flushMessages()] messages are buffered, or once the oldest buffered
+/// message has been buffered for [#flushLatency()], whichever comes first.
+///
+/// ### Mapping
+/// If [#segmentSize()] is set, messages are instead encoded straight into a
+/// memory-mapped segment of the file, so that no system calls are made per
+/// message or per batch; see [#segmentSize()].
+///
+/// ### Rolling
+/// A new file is used once the current file reaches [#rollSize()] bytes, or
+/// has been used for [#rollInterval()], whichever comes first.
+///
+/// ### Archiving
+/// Files can be compressed with gzip once rolled, see [#compressRolled()], or
+/// while they are written, see [#compressLive()], and the oldest files can be
+/// deleted, see [#retainFiles()] and [#retainSize()].
+///
 /// @since 1.0
 public interface FileTechnique {
 
 	/// Return a writable [String] for the provided message.
 	String format(LoggerMessage message);
 
+	/// Write the provided message to the provided buffer, encoded as UTF-8, as
+	/// it would be written by [#format(LoggerMessage)].
+	///
+	/// By default, this encodes the result of [#format(LoggerMessage)], which
+	/// allocates a string and an array per message; implementations should
+	/// override this to write straight into the buffer. This is only invoked
+	/// by one thread at a time, so implementations may reuse state across
+	/// invocations.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer,
+	/// in which case the position of the buffer may have been modified, and the
+	/// message is written again once the buffer has been flushed
+	default void encode(LoggerMessage message, ByteBuffer buffer) {
+		buffer.put(this.format(message).getBytes(UTF_8));
+	}
+
 	/// Return a file extension suffix, e.g. `.txt`, for this technique.
 	String extension();
 
@@ -29,6 +74,102 @@ public interface FileTechnique {
 	default Path directory() {
 		return Path.of("logging");
 	}
+
+	/// Return the number of bytes that can be buffered before being written
+	/// to the file. The buffer is allocated once, off-heap, with this capacity.
+	default int capacity() {
+		return 1 << 18;
+	}
+
+	/// Return the number of messages that can be buffered before the buffer
+	/// is written to the file, regardless of how full it is.
+	default int flushMessages() {
+		return Integer.MAX_VALUE;
+	}
+
+	/// Return the maximum amount of time that a message can be buffered for
+	/// before the buffer is written to the file.
+	///
+	/// By default, this is zero, so the buffer is written once per batch of
+	/// messages (see [sirius.stellar.logging.spi.LoggerCollector#collect(java.util.List)]),
+	/// i.e. the batch is committed to the file with one write.
+	default Duration flushLatency() {
+		return Duration.ZERO;
+	}
+
+	/// Return the interval at which the file is forced to the storage device
+	/// (see [java.nio.channels.FileChannel#force(boolean)]), or zero to leave
+	/// this to the operating system (the default).
+	default Duration forceInterval() {
+		return Duration.ZERO;
+	}
+
+	/// Return the size in bytes of the segments of the file that are mapped
+	/// into memory at once, or zero to write to the file instead (the default).
+	///
+	/// When set, the file is extended by a segment at a time, messages are
+	/// copied into the segment that is mapped, and the next segment is mapped
+	/// once it is full; the file is truncated to the length of the messages
+	/// when it is rolled, or when the collector is closed. As the segments are
+	/// shared with the page cache, every message copied into a segment survives
+	/// the process crashing (though the file is then left with trailing zeros).
+	///
+	/// Segments are at most [Integer#MAX_VALUE] bytes, and are not unmapped
+	/// until they are garbage collected, so on platforms that do not allow
+	/// truncating a file that is mapped (e.g. Windows), the file is left with
+	/// trailing zeros instead.
+	///
+	/// [#capacity()], [#flushMessages()] and [#flushLatency()] do not apply,
+	/// and [#forceInterval()] forces the mapped segment instead.
+	default long segmentSize() {
+		return 0L;
+	}
+
+	/// Return the size in bytes that a file can reach before a new file is
+	/// used, or zero to roll by [#rollInterval()] only (the default).
+	default long rollSize() {
+		return 0L;
+	}
+
+	/// Return the amount of time that a file is used for before a new file is
+	/// used, or zero to roll by [#rollSize()] only; by default, twice a day.
+	default Duration rollInterval() {
+		return Duration.ofHours(12);
+	}
+
+	/// Return whether files are compressed with gzip (replacing them with a
+	/// file with the `.gz` suffix) once they are rolled. This is performed on
+	/// a background thread, so it never stalls logging.
+	default boolean compressRolled() {
+		return false;
+	}
+
+	/// Return whether files are written compressed with gzip (with the `.gz`
+	/// suffix), rather than compressed once they are rolled.
+	///
+	/// Every time the buffer is written to the file, the compressed stream is
+	/// flushed (see [java.util.zip.Deflater#SYNC_FLUSH]), so that the file can
+	/// be read while it is written (e.g. with `zcat`), at some cost to the
+	/// compression ratio. The compression is performed by the thread collecting
+	/// messages, at the fastest level. This does not apply if [#segmentSize()]
+	/// is set; for [#rollSize()], the size of the file is the compressed size.
+	default boolean compressLive() {
+		return false;
+	}
+
+	/// Return the number of files to retain in [#directory()] (including the
+	/// file in use), deleting the oldest once a file is rolled, or zero to
+	/// retain every file (the default).
+	default int retainFiles() {
+		return 0;
+	}
+
+	/// Return the total size in bytes of the files to retain in [#directory()]
+	/// (including the file in use), deleting the oldest once a file is rolled,
+	/// or zero to retain every file (the default).
+	default long retainSize() {
+		return 0L;
+	}
 }
 
 /// Default technique (for human-readable, colored logging, to `stderr`).
@@ -36,10 +177,18 @@ final class PlainFileTechnique implements FileTechnique {
 
 	private final DateTimeFormatter formatter;
 
+	private final StringBuilder builder;
+	private final CharsetEncoder encoder;
+
 	PlainFileTechnique() {
 		this.formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")
 				.withLocale(US)
 				.withZone(UTC);
+
+		this.builder = new StringBuilder(128);
+		this.encoder = UTF_8.newEncoder()
+				.onMalformedInput(REPLACE)
+				.onUnmappableCharacter(REPLACE);
 	}
 
 	@Override
@@ -50,8 +199,26 @@ final class PlainFileTechnique implements FileTechnique {
 	@Override
 	public String format(LoggerMessage message) {
 		StringBuilder builder = new StringBuilder(128);
+		this.format(builder, message);
+		return builder.toString();
+	}
+
+	@Override
+	public void encode(LoggerMessage message, ByteBuffer buffer) {
+		this.builder.setLength(0);
+		this.format(this.builder, message);
+
+		this.encoder.reset();
+		CharBuffer characters = CharBuffer.wrap(this.builder);
+		CoderResult result = this.encoder.encode(characters, buffer, true);
+		if (!result.isOverflow()) result = this.encoder.flush(buffer);
+		if (result.isOverflow()) throw new BufferOverflowException();
+	}
+
+	/// Append the provided message to the provided builder.
+	private void format(StringBuilder builder, LoggerMessage message) {
 		builder.append("[");
-		builder.append(this.formatter.format(message.time()));
+		this.formatter.formatTo(message.time(), builder);
 		builder.append(" | ");
 		builder.append(message.level().display());
 		builder.append(" | ");
@@ -60,6 +227,6 @@ final class PlainFileTechnique implements FileTechnique {
 		builder.append(message.name());
 		builder.append("] ");
 		builder.append(message.text());
-		return builder.toString();
+		builder.append(lineSeparator());
 	}
 }
\ No newline at end of file
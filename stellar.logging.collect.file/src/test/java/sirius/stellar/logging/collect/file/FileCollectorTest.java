@@ -0,0 +1,405 @@
+package sirius.stellar.logging.collect.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.lang.Thread.onSpinWait;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+
+@Timeout(5)
+final class FileCollectorTest {
+
+	@TempDir
+	Path directory;
+
+	@Test @DisplayName("the buffer is flushed once the provided number of messages are buffered")
+	void flushMessages() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public int flushMessages() {
+				return 3;
+			}
+
+			@Override
+			public Duration flushLatency() {
+				return Duration.ofHours(1);
+			}
+		};
+
+		try (var collector = new FileCollector(technique)) {
+			collector.collect(message("Lorem"));
+			collector.collect(message("ipsum"));
+			assertThat(read(this.directory)).isEmpty();
+
+			collector.collect(message("dolor"));
+			assertThat(read(this.directory)).isEqualTo("Lorem\nipsum\ndolor\n");
+		}
+	}
+
+	@Test @DisplayName("the buffer is flushed once the flush latency has passed, without any further messages")
+	void flushLatency() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public Duration flushLatency() {
+				return Duration.ofMillis(50);
+			}
+		};
+
+		try (var collector = new FileCollector(technique)) {
+			collector.collect(message("Lorem"));
+			while (read(this.directory).isEmpty()) onSpinWait();
+
+			assertThat(read(this.directory)).isEqualTo("Lorem\n");
+		}
+	}
+
+	@Test @DisplayName("a new file is used once the current file reaches the roll size")
+	void rollSize() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public long rollSize() {
+				return 16L;
+			}
+		};
+
+		try (var collector = new FileCollector(technique)) {
+			for (int i = 0; i < 10; i++) collector.collect(message("Message " + i));
+		}
+
+		List<String> lines = new ArrayList<>();
+		for (Path file : files(this.directory)) {
+			String content = Files.readString(file);
+			assertThat(Files.size(file)).isLessThan(16L + "Message 0\n".length());
+			lines.addAll(content.lines().toList());
+		}
+		assertThat(files(this.directory).size()).isGreaterThan(1);
+		assertThat(lines).containsExactlyInAnyOrder(Stream.iterate(0, i -> i + 1).limit(10).map(i -> "Message " + i).toArray(String[]::new));
+	}
+
+	@Test @DisplayName("messages are written across mapped segments, and the file is truncated to their length")
+	void segments() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public long segmentSize() {
+				return 32L;
+			}
+		};
+
+		var expected = new StringBuilder();
+		try (var collector = new FileCollector(technique)) {
+			for (int i = 0; i < 10; i++) {
+				collector.collect(message("Message " + i));
+				expected.append("Message ").append(i).append('\n');
+			}
+		}
+
+		assertThat(files(this.directory).size()).isEqualTo(1);
+		assertThat(read(this.directory)).isEqualTo(expected.toString());
+	}
+
+	@Test @DisplayName("segment sizes that cannot be mapped at once are rejected")
+	void segmentsTooLarge() {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public long segmentSize() {
+				return Integer.MAX_VALUE + 1L;
+			}
+		};
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new FileCollector(technique));
+	}
+
+	@Test @DisplayName("files compressed while they are written are valid gzip streams of every message")
+	void compressLive() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public int capacity() {
+				return 64;
+			}
+
+			@Override
+			public boolean compressLive() {
+				return true;
+			}
+		};
+
+		var expected = new StringBuilder();
+		try (var collector = new FileCollector(technique)) {
+			for (int i = 0; i < 1000; i++) {
+				collector.collect(message("Message " + i));
+				expected.append("Message ").append(i).append('\n');
+			}
+		}
+
+		assertThat(files(this.directory).size()).isEqualTo(1);
+		assertThat(files(this.directory).get(0).toString()).endsWith(".txt.gz");
+		assertThat(decompress(files(this.directory).get(0))).isEqualTo(expected.toString());
+	}
+
+	@Test @DisplayName("rolled files are replaced with valid gzip files of the same messages")
+	void compressRolled() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public long rollSize() {
+				return 256L;
+			}
+
+			@Override
+			public boolean compressRolled() {
+				return true;
+			}
+		};
+
+		List<String> expected = new ArrayList<>();
+		try (var collector = new FileCollector(technique)) {
+			for (int i = 0; i < 100; i++) {
+				collector.collect(message("Message " + i));
+				expected.add("Message " + i);
+			}
+		}
+
+		List<String> lines = new ArrayList<>();
+		for (Path file : files(this.directory)) {
+			if (!file.toString().endsWith(".gz")) {
+				lines.addAll(Files.readString(file).lines().toList());
+				continue;
+			}
+			lines.addAll(decompress(file).lines().toList());
+		}
+		assertThat(files(this.directory).stream().filter(file -> file.toString().endsWith(".txt.gz")).count()).isGreaterThan(1L);
+		assertThat(lines).containsExactlyInAnyOrder(expected.toArray(String[]::new));
+	}
+
+	@Test @DisplayName("retention deletes only rolled log files beyond the limit")
+	void retainFiles() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public long rollSize() {
+				return 16L;
+			}
+
+			@Override
+			public int retainFiles() {
+				return 2;
+			}
+		};
+
+		Path unrelated = Files.writeString(this.directory.resolve("unrelated.md"), "Lorem ipsum");
+		try (var collector = new FileCollector(technique)) {
+			for (int i = 0; i < 10; i++) collector.collect(message("Message " + i));
+			collector.collect(message("Last"));
+		}
+
+		assertThat(Files.exists(unrelated)).isTrue();
+		assertThat(files(this.directory).size()).isEqualTo(3);
+		assertThat(read(this.directory)).contains("Last");
+	}
+
+	@Test @DisplayName("a write that fails part of the way through is resumed by the next flush, without losing or repeating bytes")
+	void writeFailed() throws IOException {
+		var technique = new TestFileTechnique(this.directory) {
+			@Override
+			public int flushMessages() {
+				return 1;
+			}
+		};
+
+		try (var collector = new FileCollector(technique, (file, options) -> new FailingChannel(FileChannel.open(file, options)))) {
+			assertThatIllegalStateException().isThrownBy(() -> collector.collect(message("Lorem")));
+			assertThat(read(this.directory)).isEqualTo("Lore");
+
+			collector.collect(message("ipsum"));
+			assertThat(read(this.directory)).isEqualTo("Lorem\nipsum\n");
+		}
+	}
+
+	/// Returns the decompressed contents of the provided gzip file.
+	static String decompress(Path file) throws IOException {
+		try (var input = new GZIPInputStream(Files.newInputStream(file))) {
+			return new String(input.readAllBytes(), UTF_8);
+		}
+	}
+
+	/// Returns a message with the provided text.
+	static LoggerMessage message(String text) {
+		return new LoggerMessage(Instant.EPOCH, INFORMATION, "main", "test", text);
+	}
+
+	/// Returns the files in the provided directory.
+	static List<Path> files(Path directory) throws IOException {
+		try (Stream<Path> stream = Files.list(directory)) {
+			return stream.sorted().toList();
+		}
+	}
+
+	/// Returns the contents of every file in the provided directory.
+	static String read(Path directory) throws IOException {
+		StringBuilder builder = new StringBuilder();
+		for (Path file : files(directory)) builder.append(Files.readString(file, UTF_8));
+		return builder.toString();
+	}
+
+	/// Channel that writes at most 4 bytes with its first write, and fails its
+	/// second write (as if the storage device were full), then writes to the
+	/// provided channel.
+	static final class FailingChannel extends FileChannel {
+
+		private final FileChannel channel;
+		private int writes;
+
+		FailingChannel(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public int write(ByteBuffer source) throws IOException {
+			int write = this.writes++;
+			if (write == 1) throw new IOException("No space left on device");
+			if (write > 1 || source.remaining() <= 4) return this.channel.write(source);
+
+			int limit = source.limit();
+			source.limit(source.position() + 4);
+			try {
+				return this.channel.write(source);
+			} finally {
+				source.limit(limit);
+			}
+		}
+
+		@Override
+		public int read(ByteBuffer destination) throws IOException {
+			return this.channel.read(destination);
+		}
+
+		@Override
+		public long read(ByteBuffer[] destinations, int offset, int length) throws IOException {
+			return this.channel.read(destinations, offset, length);
+		}
+
+		@Override
+		public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+			return this.channel.write(sources, offset, length);
+		}
+
+		@Override
+		public long position() throws IOException {
+			return this.channel.position();
+		}
+
+		@Override
+		public FileChannel position(long position) throws IOException {
+			this.channel.position(position);
+			return this;
+		}
+
+		@Override
+		public long size() throws IOException {
+			return this.channel.size();
+		}
+
+		@Override
+		public FileChannel truncate(long size) throws IOException {
+			this.channel.truncate(size);
+			return this;
+		}
+
+		@Override
+		public void force(boolean metadata) throws IOException {
+			this.channel.force(metadata);
+		}
+
+		@Override
+		public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			return this.channel.transferTo(position, count, target);
+		}
+
+		@Override
+		public long transferFrom(ReadableByteChannel source, long position, long count) throws IOException {
+			return this.channel.transferFrom(source, position, count);
+		}
+
+		@Override
+		public int read(ByteBuffer destination, long position) throws IOException {
+			return this.channel.read(destination, position);
+		}
+
+		@Override
+		public int write(ByteBuffer source, long position) throws IOException {
+			return this.channel.write(source, position);
+		}
+
+		@Override
+		public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+			return this.channel.map(mode, position, size);
+		}
+
+		@Override
+		public FileLock lock(long position, long size, boolean shared) throws IOException {
+			return this.channel.lock(position, size, shared);
+		}
+
+		@Override
+		public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+			return this.channel.tryLock(position, size, shared);
+		}
+
+		@Override
+		protected void implCloseChannel() throws IOException {
+			this.channel.close();
+		}
+	}
+
+	/// Technique writing the text of every message as a line, to the provided
+	/// directory, which is never rolled by interval.
+	static class TestFileTechnique implements FileTechnique {
+
+		private final Path directory;
+
+		TestFileTechnique(Path directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		public String format(LoggerMessage message) {
+			return message.text() + "\n";
+		}
+
+		@Override
+		public String extension() {
+			return ".txt";
+		}
+
+		@Override
+		public Path directory() {
+			return this.directory;
+		}
+
+		@Override
+		public Duration rollInterval() {
+			return Duration.ZERO;
+		}
+	}
+}
\ No newline at end of file
@@ -4,6 +4,8 @@ import sirius.stellar.logging.LoggerMessage;
 import sirius.stellar.logging.collect.file.FileTechnique;
 import sirius.stellar.logging.collect.json.JsonAbstractTechnique;
 
+import java.nio.ByteBuffer;
+
 /// Implementation of [FileTechnique] for JSON (JavaScript Object Notation) logging.
 public final class JsonFileTechnique
 		extends JsonAbstractTechnique
@@ -14,6 +16,11 @@ public final class JsonFileTechnique
 		return super.format(message);
 	}
 
+	@Override
+	public void encode(LoggerMessage message, ByteBuffer buffer) {
+		super.encode(message, buffer);
+	}
+
 	@Override
 	public String extension() {
 		return ".json";
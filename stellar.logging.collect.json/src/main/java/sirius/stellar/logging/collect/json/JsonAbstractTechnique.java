@@ -1,88 +1,53 @@
 package sirius.stellar.logging.collect.json;
 
+import sirius.stellar.logging.LoggerAttributes;
 import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
-import static java.lang.System.lineSeparator;
 import static java.lang.ThreadLocal.withInitial;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /// Base class for JSON (JavaScript Object Notation) logging technique.
+///
+/// The [LoggerAttributes] of a message, if any, are written as the fields of
+/// an `attributes` object, so that they can be indexed without parsing text.
+///
+/// Messages are encoded straight to UTF-8 bytes by [#encode(LoggerMessage, ByteBuffer)],
+/// see [JsonEncoder]; [#format(LoggerMessage)] decodes the same bytes.
 public abstract class JsonAbstractTechnique {
 
-	private final ThreadLocal<StringBuilder> builder;
-	private final char[] hex;
+	private final ThreadLocal<JsonEncoder> encoder;
+	private final ThreadLocal<ByteBuffer> buffer;
 
 	public JsonAbstractTechnique() {
-		this.builder = withInitial(() -> new StringBuilder(128));
-		this.hex = "0123456789abcdef".toCharArray();
+		this.encoder = withInitial(JsonEncoder::new);
+		this.buffer = withInitial(() -> ByteBuffer.allocate(256));
 	}
 
 	/// Return a JSON formatted version of the provided message.
 	protected String format(LoggerMessage message) {
-		StringBuilder builder = this.builder.get();
-		builder.setLength(0);
-		builder.append('{');
-
-		builder.append("\"time\":");
-		this.json(builder, message.time().toString());
-
-		builder.append(",\"level\":");
-		this.json(builder, message.level().display());
-
-		builder.append(",\"thread\":");
-		this.json(builder, message.thread());
-
-		builder.append(",\"logger\":");
-		this.json(builder, message.name());
-
-		builder.append(",\"message\":");
-		this.json(builder, message.text());
-
-		builder.append("}");
-		builder.append(lineSeparator());
-		return builder.toString();
-	}
-
-	/// Write the provided [Object] as JSON to the provided [StringBuilder].
-	private <T> void json(StringBuilder builder, T value) {
-		String string = String.valueOf(value);
-		builder.append('"');
-
-		for (int i = 0; i < string.length(); i++) {
-			char c = string.charAt(i);
-			if (c >= 0x20 && c != '"' && c != '\\') {
-				builder.append(c);
-				continue;
-			}
-			switch (c) {
-			case '"':
-				builder.append("\\\"");
-				break;
-			case '\\':
-				builder.append("\\\\");
-				break;
-			case '\n':
-				builder.append("\\n");
-				break;
-			case '\r':
-				builder.append("\\r");
-				break;
-			case '\t':
-				builder.append("\\t");
-				break;
-			case '\b':
-				builder.append("\\b");
-				break;
-			case '\f':
-				builder.append("\\f");
-				break;
-			default:
-				builder.append("\\u00");
-				builder.append(this.hex[(c >>> 4) & 0xF]);
-				builder.append(this.hex[c & 0xF]);
-				break;
+		ByteBuffer buffer = this.buffer.get();
+		while (true) {
+			buffer.clear();
+			try {
+				this.encode(message, buffer);
+				return new String(buffer.array(), 0, buffer.position(), UTF_8);
+			} catch (BufferOverflowException exception) {
+				buffer = LoggerEncoder.grow(buffer);
+				if (buffer.capacity() <= LoggerEncoder.RETAINED) this.buffer.set(buffer);
 			}
 		}
+	}
 
-		builder.append('"');
+	/// Write a JSON formatted version of the provided message to the provided
+	/// buffer, encoded as UTF-8, without allocating.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer,
+	/// in which case the position of the buffer may have been modified
+	protected void encode(LoggerMessage message, ByteBuffer buffer) {
+		this.encoder.get().encode(message, buffer);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package sirius.stellar.logging.collect.json;
+
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Encoder used by [JsonAbstractTechnique], which writes a message as a line
+/// of JSON straight into a [ByteBuffer], encoded as UTF-8, without allocating.
+///
+/// Strings are escaped based on a table of the 128 ASCII characters, and
+/// timestamps are written as [Instant#toString()] would, both by a
+/// [LoggerEncoder] (see there for how this is done without allocating).
+final class JsonEncoder {
+
+	/// The escape sequence for every ASCII character that is escaped.
+	private static final LoggerEncoder.Escapes ESCAPES;
+
+	private static final byte[] TIME = "{\"time\":\"".getBytes(UTF_8);
+	private static final byte[] LEVEL = "\",\"level\":".getBytes(UTF_8);
+	private static final byte[] THREAD = ",\"thread\":".getBytes(UTF_8);
+	private static final byte[] LOGGER = ",\"logger\":".getBytes(UTF_8);
+	private static final byte[] MESSAGE = ",\"message\":".getBytes(UTF_8);
+	private static final byte[] ATTRIBUTES = ",\"attributes\":{".getBytes(UTF_8);
+	private static final byte[] END = ("}" + lineSeparator()).getBytes(UTF_8);
+
+	/// The display name of every level, as a quoted string.
+	private static final byte[][] LEVELS = new byte[LoggerLevel.values().length][];
+
+	static {
+		Map<Character, String> escapes = new HashMap<>();
+		for (char character = 0; character < 0x20; character++) escapes.put(character, String.format("\\u%04x", (int) character));
+		escapes.put('"', "\\\"");
+		escapes.put('\\', "\\\\");
+		escapes.put('\n', "\\n");
+		escapes.put('\r', "\\r");
+		escapes.put('\t', "\\t");
+		escapes.put('\b', "\\b");
+		escapes.put('\f', "\\f");
+		ESCAPES = LoggerEncoder.Escapes.of(escapes);
+
+		for (LoggerLevel level : LoggerLevel.values()) {
+			LEVELS[level.ordinal()] = ("\"" + level.display() + "\"").getBytes(UTF_8);
+		}
+	}
+
+	private final LoggerEncoder encoder;
+
+	JsonEncoder() {
+		this.encoder = new LoggerEncoder();
+	}
+
+	/// Write the provided message to the provided buffer.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer
+	void encode(LoggerMessage message, ByteBuffer buffer) {
+		buffer.put(TIME);
+		this.encoder.timestamp(message.time(), buffer);
+
+		buffer.put(LEVEL);
+		buffer.put(LEVELS[message.level().ordinal()]);
+
+		buffer.put(THREAD);
+		this.string(message.thread(), buffer);
+
+		buffer.put(LOGGER);
+		this.string(message.name(), buffer);
+
+		buffer.put(MESSAGE);
+		this.string(message.text(), buffer);
+
+		LoggerAttributes attributes = message.attributes();
+		if (!attributes.isEmpty()) {
+			buffer.put(ATTRIBUTES);
+			for (int i = 0; i < attributes.size(); i++) {
+				if (i > 0) buffer.put((byte) ',');
+				this.string(attributes.key(i), buffer);
+				buffer.put((byte) ':');
+				this.string(attributes.value(i), buffer);
+			}
+			buffer.put((byte) '}');
+		}
+
+		buffer.put(END);
+	}
+
+	/// Write the provided string as a quoted, escaped JSON string.
+	private void string(String string, ByteBuffer buffer) {
+		buffer.put((byte) '"');
+		this.encoder.string(string, buffer, ESCAPES);
+		buffer.put((byte) '"');
+	}
+}
\ No newline at end of file
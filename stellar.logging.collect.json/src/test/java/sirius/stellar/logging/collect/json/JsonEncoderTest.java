@@ -0,0 +1,143 @@
+package sirius.stellar.logging.collect.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerEncoder;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Random;
+
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+
+final class JsonEncoderTest {
+
+	@Test @DisplayName("encode(LoggerMessage, ByteBuffer) writes attributes as an escaped object, in order")
+	void attributes() {
+		var attributes = LoggerAttributes.empty()
+			.with("request", "42")
+			.with("user \"name\"", "lorem\nipsum");
+		var message = new LoggerMessage(Instant.EPOCH, INFORMATION, "main", "test", "Lorem ipsum", attributes);
+
+		assertThat(encode(message)).isEqualTo(
+			"{\"time\":\"1970-01-01T00:00:00Z\",\"level\":\"Information\",\"thread\":\"main\",\"logger\":\"test\",\"message\":\"Lorem ipsum\","
+			+ "\"attributes\":{\"request\":\"42\",\"user \\\"name\\\"\":\"lorem\\nipsum\"}}" + lineSeparator()
+		);
+	}
+
+	@Test @DisplayName("encode(LoggerMessage, ByteBuffer) omits empty attributes")
+	void attributesEmpty() {
+		var message = new LoggerMessage(Instant.EPOCH, INFORMATION, "main", "test", "Lorem ipsum");
+
+		assertThat(encode(message)).doesNotContain("attributes");
+	}
+
+	@Test @DisplayName("encode(LoggerMessage, ByteBuffer) escapes control characters, and encodes surrogates as String#getBytes does")
+	void escapes() {
+		var text = "\"\\/\b\f\n\r\t\u0000\u001f\u007f é € \uD83D\uDE00 \uD83D \uDE00";
+		var message = new LoggerMessage(Instant.EPOCH, INFORMATION, "main", "test", text);
+
+		assertThat(encode(message)).isEqualTo(reference(message));
+		assertThat(encode(message)).contains("\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u001f\u007f é € \uD83D\uDE00 ? ?");
+	}
+
+	@Test @DisplayName("encode(LoggerMessage, ByteBuffer) is the same as escaping and encoding a string, for randomized messages")
+	void randomized() {
+		var random = new Random(0L);
+		var encoder = new JsonEncoder();
+		var buffer = ByteBuffer.allocate(1 << 16);
+
+		for (int i = 0; i < 20_000; i++) {
+			var time = Instant.ofEpochSecond(random.nextLong(1L << 34), random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000));
+			var message = new LoggerMessage(time, LoggerLevel.values()[random.nextInt(LoggerLevel.values().length)], string(random), string(random), string(random));
+
+			buffer.clear();
+			encoder.encode(message, buffer);
+			assertThat(new String(buffer.array(), 0, buffer.position(), UTF_8)).isEqualTo(reference(message));
+		}
+	}
+
+	@Test @DisplayName("format(LoggerMessage) formats messages larger than the buffer that is retained, before and after smaller ones")
+	void formatLarge() {
+		var technique = new JsonAbstractTechnique() {};
+		var small = new LoggerMessage(Instant.EPOCH, INFORMATION, "main", "test", "Lorem ipsum");
+		var large = new LoggerMessage(Instant.EPOCH, INFORMATION, "main", "test", "x".repeat(LoggerEncoder.RETAINED * 2));
+
+		assertThat(technique.format(small)).isEqualTo(encode(small));
+		assertThat(technique.format(large)).contains("\"message\":\"" + large.text() + "\"");
+		assertThat(technique.format(small)).isEqualTo(encode(small));
+	}
+
+	/// Returns a string of random length, of characters that are mostly ASCII,
+	/// but include characters that are escaped, non-ASCII characters, and both
+	/// paired and unpaired surrogates.
+	private static String string(Random random) {
+		var builder = new StringBuilder();
+		int length = random.nextInt(40);
+		for (int i = 0; i < length; i++) {
+			switch (random.nextInt(10)) {
+				case 0 -> builder.append((char) random.nextInt(0x20));
+				case 1 -> builder.append("\"\\".charAt(random.nextInt(2)));
+				case 2 -> builder.append((char) (0x80 + random.nextInt(0x780)));
+				case 3 -> builder.append((char) (0x800 + random.nextInt(0xD000)));
+				case 4 -> builder.appendCodePoint(0x10000 + random.nextInt(0x100000));
+				case 5 -> builder.append((char) (0xD800 + random.nextInt(0x800)));
+				default -> builder.append((char) (0x20 + random.nextInt(0x60)));
+			}
+		}
+		return builder.toString();
+	}
+
+	/// Returns the provided message as a line of JSON, by escaping every string
+	/// character by character, and encoding the line with [String#getBytes].
+	private static String reference(LoggerMessage message) {
+		var builder = new StringBuilder();
+		builder.append("{\"time\":");
+		reference(builder, message.time().toString());
+		builder.append(",\"level\":");
+		reference(builder, message.level().display());
+		builder.append(",\"thread\":");
+		reference(builder, message.thread());
+		builder.append(",\"logger\":");
+		reference(builder, message.name());
+		builder.append(",\"message\":");
+		reference(builder, message.text());
+		builder.append('}').append(lineSeparator());
+		return new String(builder.toString().getBytes(UTF_8), UTF_8);
+	}
+
+	/// Append the provided string as a quoted, escaped JSON string.
+	private static void reference(StringBuilder builder, String string) {
+		builder.append('"');
+		for (int i = 0; i < string.length(); i++) {
+			char character = string.charAt(i);
+			switch (character) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				case '\b' -> builder.append("\\b");
+				case '\f' -> builder.append("\\f");
+				default -> {
+					if (character >= 0x20) builder.append(character);
+					else builder.append(String.format("\\u%04x", (int) character));
+				}
+			}
+		}
+		builder.append('"');
+	}
+
+	/// Returns the provided message, encoded by a new encoder.
+	private static String encode(LoggerMessage message) {
+		var buffer = ByteBuffer.allocate(1024);
+		new JsonEncoder().encode(message, buffer);
+		return new String(buffer.array(), 0, buffer.position(), UTF_8);
+	}
+}
\ No newline at end of file
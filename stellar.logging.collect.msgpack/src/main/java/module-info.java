@@ -0,0 +1,15 @@
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+module sirius.stellar.logging.collect.msgpack {
+	requires org.jspecify;
+
+	requires sirius.stellar.logging;
+	requires sirius.stellar.logging.collect.json;
+	requires sirius.stellar.serialization.msgpack;
+
+	exports sirius.stellar.logging.collect.msgpack;
+
+	provides sirius.stellar.logging.spi.LoggerExtension
+		with sirius.stellar.logging.collect.msgpack.MsgpackCollector;
+}
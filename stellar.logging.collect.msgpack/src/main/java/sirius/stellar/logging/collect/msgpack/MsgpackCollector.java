@@ -0,0 +1,223 @@
+package sirius.stellar.logging.collect.msgpack;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerCollector;
+import sirius.stellar.serialization.msgpack.MessageBufferPacker;
+import sirius.stellar.serialization.msgpack.MessagePack;
+import sirius.stellar.serialization.msgpack.MessagePacker;
+import sirius.stellar.serialization.msgpack.buffer.ChannelBufferOutput;
+import sirius.stellar.serialization.msgpack.buffer.MessageBuffer;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.UUID.randomUUID;
+
+/// Implementation of [LoggerCollector] for logging to files, in MessagePack.
+/// This will roll twice a day.
+///
+/// ### Format
+/// Every file starts with the string `stellar.logging` and the version of the
+/// format (currently `1`), followed by a binary value per message (so that a
+/// reader can skip a message without decoding it), which contains an array of:
+///
+/// 1. The time, as a timestamp extension value.
+/// 2. The level, as its [sirius.stellar.logging.LoggerLevel#severity()].
+/// 3. The thread name, and the logger name, each dictionary-encoded.
+/// 4. The text content, as a string.
+/// 5. The [LoggerAttributes], as a map of strings.
+///
+/// A dictionary-encoded name is written as a string the first time it appears
+/// in a file, which assigns it the next index in the dictionary of the file
+/// (until [#DICTIONARY] names have been assigned), and as that index every time
+/// after that. Further values may be appended to the array by later versions.
+///
+/// @see MsgpackReader
+/// @see MsgpackConverter
+/// @since 1.0
+public final class MsgpackCollector implements LoggerCollector {
+
+	/// The string every file starts with.
+	static final String MAGIC = "stellar.logging";
+
+	/// The version of the format, which every file starts with after [#MAGIC].
+	static final int VERSION = 1;
+
+	/// The maximum number of names in the dictionary of a file.
+	static final int DICTIONARY = 1 << 16;
+
+	private final Path directory;
+	private final long rollSize;
+	private final long rollInterval;
+
+	private final AtomicBoolean closing;
+	private final ReentrantLock writing;
+
+	private final MessageBufferPacker record;
+	private final Map<String, Integer> dictionary;
+
+	@Nullable
+	private MessagePacker packer;
+	private long deadline;
+
+	public MsgpackCollector() {
+		this(Path.of("logging"), 0L, Duration.ofHours(12));
+	}
+
+	/// Create a collector logging to the provided directory, rolling once a
+	/// file reaches the provided size (unless zero), or has been used for the
+	/// provided amount of time (unless zero), whichever comes first.
+	MsgpackCollector(Path directory, long rollSize, Duration rollInterval) {
+		this.directory = directory;
+		this.rollSize = rollSize;
+		this.rollInterval = rollInterval.toNanos();
+
+		this.closing = new AtomicBoolean();
+		this.writing = new ReentrantLock();
+
+		this.record = MessagePack.newDefaultBufferPacker();
+		this.dictionary = new HashMap<>();
+
+		this.roll();
+	}
+
+	@Override
+	public void collect(LoggerMessage message) {
+		if (this.closing.get()) return;
+		this.writing.lock();
+
+		try {
+			this.rolling();
+			this.append(message);
+			this.flush();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to append to file", exception);
+		} finally {
+			this.writing.unlock();
+		}
+	}
+
+	/// Packs the entire batch into the buffer of the packer, then writes it to
+	/// the file, while holding the lock once.
+	@Override
+	public void collect(List<LoggerMessage> messages) {
+		if (this.closing.get()) return;
+		this.writing.lock();
+
+		try {
+			this.rolling();
+			for (LoggerMessage message : messages) this.append(message);
+			this.flush();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to append to file", exception);
+		} finally {
+			this.writing.unlock();
+		}
+	}
+
+	/// Packs the provided message, rolling the file afterward if it reached its
+	/// size. This must be invoked while holding [#writing].
+	private void append(LoggerMessage message) throws IOException {
+		assert this.packer != null;
+
+		this.record.clear();
+		this.record.packArrayHeader(5);
+
+		Instant time = message.time();
+		this.record.packTimestamp(time.getEpochSecond(), time.getNano());
+		this.record.packInt(message.level().severity());
+		this.name(message.thread());
+		this.name(message.name());
+		this.record.packString(message.text());
+
+		LoggerAttributes attributes = message.attributes();
+		this.record.packMapHeader(attributes.size());
+		for (int i = 0; i < attributes.size(); i++) {
+			this.record.packString(attributes.key(i));
+			this.record.packString(attributes.value(i));
+		}
+
+		MessageBuffer buffer = this.record.toMessageBuffer();
+		this.packer.packBinaryHeader(buffer.size());
+		this.packer.writePayload(buffer.array(), buffer.arrayOffset(), buffer.size());
+
+		if (this.rollSize > 0L && this.packer.getTotalWrittenBytes() >= this.rollSize) this.roll();
+	}
+
+	/// Packs the provided name, dictionary-encoded.
+	private void name(String name) throws IOException {
+		Integer index = this.dictionary.get(name);
+		if (index != null) {
+			this.record.packInt(index);
+			return;
+		}
+		if (this.dictionary.size() < DICTIONARY) this.dictionary.put(name, this.dictionary.size());
+		this.record.packString(name);
+	}
+
+	/// Writes the buffer of the packer to the file.
+	/// This must be invoked while holding [#writing].
+	private void flush() throws IOException {
+		assert this.packer != null;
+		this.packer.flush();
+	}
+
+	/// Rolls the file if it has been used for the roll interval.
+	/// This must be invoked while holding [#writing].
+	private void rolling() {
+		if (this.rollInterval > 0L && nanoTime() - this.deadline >= 0L) this.roll();
+	}
+
+	/// Rolls the file for this collector, to allow for a new file to be used,
+	/// and the old one to serve as an archive for the previous duration of
+	/// logging. Any buffered messages are written to the old file.
+	private void roll() {
+		try {
+			if (this.packer != null) this.packer.close();
+
+			Path file = this.directory.resolve(currentTimeMillis() + "-" + randomUUID() + ".msgpack");
+			Files.createDirectories(this.directory);
+			Files.createFile(file);
+
+			FileChannel channel = FileChannel.open(file, APPEND);
+			this.packer = MessagePack.newDefaultPacker(new ChannelBufferOutput(channel, 1 << 16));
+			this.packer.packString(MAGIC);
+			this.packer.packInt(VERSION);
+			this.packer.flush();
+
+			this.dictionary.clear();
+			this.deadline = nanoTime() + this.rollInterval;
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to roll msgpack logger collector", exception);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.writing.lock();
+		try {
+			if (this.closing.getAndSet(true)) return;
+
+			assert this.packer != null;
+			this.packer.close();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to close msgpack logger collector", exception);
+		} finally {
+			this.writing.unlock();
+		}
+	}
+}
\ No newline at end of file
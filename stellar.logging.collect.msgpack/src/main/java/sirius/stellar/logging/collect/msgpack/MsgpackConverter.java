@@ -0,0 +1,45 @@
+package sirius.stellar.logging.collect.msgpack;
+
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.collect.json.JsonAbstractTechnique;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Command-line interface for converting files written by [MsgpackCollector]
+/// to JSON (JavaScript Object Notation), with a line per message, in the same
+/// format as the JSON collectors, written to `stdout`.
+///
+/// Every argument is the path to a file to convert, in the order provided.
+///
+/// @since 1.0
+public final class MsgpackConverter extends JsonAbstractTechnique {
+
+	private MsgpackConverter() {
+		super();
+	}
+
+	public static void main(String[] arguments) throws IOException {
+		if (arguments.length == 0) {
+			System.err.println("Usage: MsgpackConverter <file>...");
+			System.exit(2);
+		}
+
+		MsgpackConverter converter = new MsgpackConverter();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), 1 << 16);
+
+		for (String argument : arguments) {
+			try (MsgpackReader reader = MsgpackReader.open(Path.of(argument))) {
+				for (LoggerMessage message = reader.read(); message != null; message = reader.read()) {
+					writer.write(converter.format(message));
+				}
+			}
+		}
+		writer.flush();
+	}
+}
\ No newline at end of file
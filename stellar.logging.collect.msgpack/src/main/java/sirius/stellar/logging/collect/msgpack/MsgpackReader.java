@@ -0,0 +1,122 @@
+package sirius.stellar.logging.collect.msgpack;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.serialization.msgpack.MessagePack;
+import sirius.stellar.serialization.msgpack.MessageUnpacker;
+import sirius.stellar.serialization.msgpack.buffer.ChannelBufferInput;
+import sirius.stellar.serialization.msgpack.exception.MessagePackException;
+import sirius.stellar.serialization.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static sirius.stellar.logging.collect.msgpack.MsgpackCollector.DICTIONARY;
+import static sirius.stellar.logging.collect.msgpack.MsgpackCollector.MAGIC;
+import static sirius.stellar.logging.collect.msgpack.MsgpackCollector.VERSION;
+
+/// Streaming reader for files written by [MsgpackCollector], which decodes a
+/// message at a time, so that files of any size can be read.
+///
+/// @since 1.0
+public final class MsgpackReader implements AutoCloseable {
+
+	private final MessageUnpacker unpacker;
+	private final List<String> dictionary;
+
+	/// Create a reader for the provided channel, reading the start of the file.
+	///
+	/// @throws IOException the channel does not contain a file written by [MsgpackCollector]
+	public MsgpackReader(ReadableByteChannel channel) throws IOException {
+		this.unpacker = MessagePack.newDefaultUnpacker(new ChannelBufferInput(channel, 1 << 16));
+		this.dictionary = new ArrayList<>();
+
+		try {
+			if (!this.unpacker.hasNext() || !MAGIC.equals(this.unpacker.unpackString())) throw new IOException("Not a msgpack log file");
+			int version = this.unpacker.unpackInt();
+			if (version > VERSION) throw new IOException("Unsupported msgpack log file version " + version);
+		} catch (MessagePackException exception) {
+			throw new IOException("Not a msgpack log file", exception);
+		}
+	}
+
+	/// Returns a reader for the file at the provided path.
+	///
+	/// @throws IOException the file cannot be opened, or was not written by [MsgpackCollector]
+	public static MsgpackReader open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path);
+		try {
+			return new MsgpackReader(channel);
+		} catch (IOException exception) {
+			channel.close();
+			throw exception;
+		}
+	}
+
+	/// Returns the next message, or `null` if there are no more messages.
+	///
+	/// @throws IOException the message cannot be read, or is malformed
+	@Nullable
+	public LoggerMessage read() throws IOException {
+		try {
+			if (!this.unpacker.hasNext()) return null;
+
+			int length = this.unpacker.unpackBinaryHeader();
+			long end = this.unpacker.getTotalReadBytes() + length;
+
+			int values = this.unpacker.unpackArrayHeader();
+			if (values < 5) throw new IOException("Malformed msgpack log message");
+
+			Instant time = this.unpacker.unpackTimestamp();
+			LoggerLevel level = level(this.unpacker.unpackInt());
+			String thread = this.name();
+			String name = this.name();
+			String text = this.unpacker.unpackString();
+
+			LoggerAttributes attributes = LoggerAttributes.empty();
+			for (int i = this.unpacker.unpackMapHeader(); i > 0; i--) {
+				attributes = attributes.with(this.unpacker.unpackString(), this.unpacker.unpackString());
+			}
+
+			this.unpacker.skipValue(values - 5);
+			if (this.unpacker.getTotalReadBytes() != end) throw new IOException("Malformed msgpack log message");
+
+			return new LoggerMessage(time, level, thread, name, text, attributes);
+		} catch (MessagePackException exception) {
+			throw new IOException("Malformed msgpack log message", exception);
+		}
+	}
+
+	/// Returns a dictionary-encoded name, see [MsgpackCollector].
+	private String name() throws IOException {
+		if (this.unpacker.getNextFormat().getValueType() == ValueType.STRING) {
+			String name = this.unpacker.unpackString();
+			if (this.dictionary.size() < DICTIONARY) this.dictionary.add(name);
+			return name;
+		}
+
+		int index = this.unpacker.unpackInt();
+		if (index < 0 || index >= this.dictionary.size()) throw new IOException("Malformed msgpack log message");
+		return this.dictionary.get(index);
+	}
+
+	/// Returns the level with the provided severity.
+	private static LoggerLevel level(int severity) throws IOException {
+		for (LoggerLevel level : LoggerLevel.values()) {
+			if (level.severity() == severity) return level;
+		}
+		throw new IOException("Malformed msgpack log message");
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.unpacker.close();
+	}
+}
\ No newline at end of file
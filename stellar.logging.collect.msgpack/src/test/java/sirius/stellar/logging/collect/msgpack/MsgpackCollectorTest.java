@@ -0,0 +1,47 @@
+package sirius.stellar.logging.collect.msgpack;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class MsgpackCollectorTest {
+
+	@Test @DisplayName("Messages written by MsgpackCollector are read back by MsgpackReader")
+	void roundTrip(@TempDir Path directory) throws IOException {
+		var messages = List.of(
+			new LoggerMessage(Instant.ofEpochSecond(1_700_000_000L, 123_456_789L), LoggerLevel.INFORMATION, "main", "sirius.A", "first"),
+			new LoggerMessage(Instant.ofEpochSecond(1_700_000_001L), LoggerLevel.ERROR, "worker", "sirius.A", "second\nline", LoggerAttributes.empty().with("user", "alice")),
+			new LoggerMessage(Instant.ofEpochSecond(1_700_000_002L), LoggerLevel.TRACING, "main", "sirius.B", "")
+		);
+
+		var collector = new MsgpackCollector(directory, 0L, Duration.ZERO);
+		collector.collect(messages.get(0));
+		collector.collect(messages.subList(1, 3));
+		collector.close();
+
+		List<Path> files;
+		try (var stream = Files.list(directory)) {
+			files = stream.toList();
+		}
+		assertThat(files).hasSize(1);
+
+		var read = new ArrayList<LoggerMessage>();
+		try (var reader = MsgpackReader.open(files.get(0))) {
+			for (var message = reader.read(); message != null; message = reader.read()) read.add(message);
+		}
+		assertThat(read).isEqualTo(messages);
+	}
+}
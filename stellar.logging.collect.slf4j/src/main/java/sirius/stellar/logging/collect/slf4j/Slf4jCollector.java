@@ -1,12 +1,17 @@
 package sirius.stellar.logging.collect.slf4j;
 
+import org.jspecify.annotations.Nullable;
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerEvent;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 import sirius.stellar.logging.spi.LoggerCollector;
 import sirius.stellar.logging.spi.LoggerExtension;
 
-import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /// Implementation of [LoggerCollector] that delegates to SLF4J.
 ///
@@ -20,6 +25,11 @@ import java.util.HashMap;
 ///   that the collector is invoked from (managed by the executor in [Logger])
 /// - a slight delay may be experienced in timestamps, as the underlying SLF4J
 ///   implementation will compute the timestamp, and the level mapping.
+/// - the text of every message is passed through as it is (without arguments,
+///   so it is never formatted again), and its attributes are passed through as
+///   key-value pairs (see `LoggingEventBuilder#addKeyValue`).
+/// - SLF4J loggers are cached (up to [#LIMIT] names), so this is safe to
+///   invoke concurrently, e.g. if collectors are invoked in parallel.
 /// - This is automatically instantiated when on the module-path/class-path,
 ///   as a [LoggerExtension] service provider.
 ///
@@ -43,31 +53,81 @@ import java.util.HashMap;
 /// @since 1.0
 public final class Slf4jCollector implements LoggerCollector {
 
-	private final HashMap<String, org.slf4j.Logger> loggers;
+	/// The number of names that SLF4J loggers are cached for. Beyond this, the
+	/// logger for any other name is obtained from [org.slf4j.LoggerFactory]
+	/// every time (which is cached by most SLF4J implementations regardless).
+	public static final int LIMIT = 1 << 12;
+
+	/// The SLF4J level for every [LoggerLevel], by ordinal, or `null` if
+	/// messages of that level are not delegated.
+	private static final org.slf4j.event.@Nullable Level[] LEVELS = new org.slf4j.event.Level[LoggerLevel.values().length];
+
+	static {
+		for (LoggerLevel level : LoggerLevel.values()) {
+			LEVELS[level.ordinal()] = switch (level) {
+				case INFORMATION -> org.slf4j.event.Level.INFO;
+				case WARNING -> org.slf4j.event.Level.WARN;
+				case ERROR -> org.slf4j.event.Level.ERROR;
+				case TRACING -> org.slf4j.event.Level.TRACE;
+				case DIAGNOSIS, CONFIGURATION -> org.slf4j.event.Level.DEBUG;
+				default -> null;
+			};
+		}
+	}
+
+	private final Map<String, org.slf4j.Logger> loggers;
 
 	public Slf4jCollector() {
-		this.loggers = new HashMap<>();
+		this.loggers = new ConcurrentHashMap<>();
 	}
 
 	@Override
 	public void collect(LoggerMessage message) {
-		String name = message.name();
-		String text = message.text();
-
-		org.slf4j.event.Level level = switch (message.level()) {
-			case INFORMATION -> org.slf4j.event.Level.INFO;
-			case WARNING -> org.slf4j.event.Level.WARN;
-			case ERROR -> org.slf4j.event.Level.ERROR;
-			case TRACING -> org.slf4j.event.Level.TRACE;
-			case DIAGNOSIS, CONFIGURATION -> org.slf4j.event.Level.DEBUG;
-			default -> null;
-		};
-
-		org.slf4j.Logger logger = this.loggers.computeIfAbsent(name, org.slf4j.LoggerFactory::getLogger);
-		if (level == null) return;
-
-		logger.atLevel(level)
-				.setMessage(text)
-				.log();
+		this.collect(this.logger(message.name()), message);
+	}
+
+	/// Delegates the event directly, without copying it to a [LoggerMessage].
+	@Override
+	public void collect(LoggerEvent event) {
+		this.collect(this.logger(event.name()), event);
+	}
+
+	/// Delegates the batch, only looking up a logger again when the name of a
+	/// message differs from the previous one (e.g. a burst from one class).
+	@Override
+	public void collect(List<LoggerMessage> messages) {
+		String name = null;
+		org.slf4j.Logger logger = null;
+
+		for (LoggerMessage message : messages) {
+			if (logger == null || !message.name().equals(name)) {
+				name = message.name();
+				logger = this.logger(name);
+			}
+			this.collect(logger, message);
+		}
+	}
+
+	/// Returns the SLF4J logger with the provided name, caching it, unless
+	/// loggers are already cached for [#LIMIT] names.
+	private org.slf4j.Logger logger(String name) {
+		org.slf4j.Logger logger = this.loggers.get(name);
+		if (logger != null) return logger;
+
+		logger = org.slf4j.LoggerFactory.getLogger(name);
+		if (this.loggers.size() < LIMIT) this.loggers.putIfAbsent(name, logger);
+		return logger;
+	}
+
+	/// Delegate the provided event to the provided SLF4J logger.
+	private void collect(org.slf4j.Logger logger, LoggerEvent event) {
+		org.slf4j.event.Level level = LEVELS[event.level().ordinal()];
+		if (level == null || !logger.isEnabledForLevel(level)) return;
+
+		org.slf4j.spi.LoggingEventBuilder builder = logger.atLevel(level).setMessage(event.text().toString());
+
+		LoggerAttributes attributes = event.attributes();
+		for (int i = 0; i < attributes.size(); i++) builder.addKeyValue(attributes.key(i), attributes.value(i));
+		builder.log();
 	}
 }
\ No newline at end of file
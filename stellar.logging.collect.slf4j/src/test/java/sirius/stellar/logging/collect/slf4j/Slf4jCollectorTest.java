@@ -3,7 +3,11 @@ package sirius.stellar.logging.collect.slf4j;
 import com.github.valfirst.slf4jtest.TestLoggerFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerMessage;
 
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Timer;
 import java.util.TimerTask;
@@ -15,6 +19,7 @@ import static org.slf4j.event.Level.INFO;
 import static sirius.stellar.logging.Logger.collector;
 import static sirius.stellar.logging.Logger.information;
 import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+import static sirius.stellar.logging.LoggerLevel.WARNING;
 
 @Timeout(5)
 final class Slf4jCollectorTest {
@@ -55,4 +60,24 @@ final class Slf4jCollectorTest {
 					.isEmpty();
 			});
 	}
+
+	@Test
+	void attributes() {
+		var slf4j = TestLoggerFactory.getTestLogger("sirius.stellar.Attributes");
+		var text = "Passed through as it is {0}";
+
+		new Slf4jCollector().collect(new LoggerMessage(Instant.now(), WARNING, "main", "sirius.stellar.Attributes", text, LoggerAttributes.of(Map.of("request", "42"))));
+
+		assertThat(slf4j.getAllLoggingEvents())
+			.singleElement()
+			.satisfies(event -> {
+				assertThat(event.getMessage())
+					.isEqualTo(text);
+				assertThat(event.getArguments())
+					.isEmpty();
+				assertThat(event.getKeyValuePairs())
+					.singleElement()
+					.satisfies(pair -> assertThat(pair.key + "=" + pair.value).isEqualTo("request=42"));
+			});
+	}
 }
\ No newline at end of file
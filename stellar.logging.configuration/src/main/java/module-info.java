@@ -0,0 +1,14 @@
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+module sirius.stellar.logging.configuration {
+	requires org.jspecify;
+
+	requires sirius.stellar.logging;
+	requires sirius.stellar.configuration;
+
+	exports sirius.stellar.logging.configuration;
+
+	provides sirius.stellar.logging.spi.LoggerExtension
+		with sirius.stellar.logging.configuration.ConfigurationSeverities;
+}
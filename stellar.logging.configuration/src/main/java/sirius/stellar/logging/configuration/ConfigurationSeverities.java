@@ -0,0 +1,84 @@
+package sirius.stellar.logging.configuration;
+
+import sirius.stellar.configuration.Configuration;
+import sirius.stellar.configuration.ConfigurationReloader;
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.spi.LoggerExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static sirius.stellar.configuration.Configuration.propertyBinding;
+
+/// Implementation of [LoggerExtension] which sets the severities of loggers by
+/// name (see [Logger#severities(Map)]) from the configuration key [#KEY], and
+/// updates them whenever the configuration is reloaded (see [ConfigurationReloader]).
+///
+/// The value is a list of `name=level` entries, separated by commas (or
+/// whitespace), e.g. `com.example.*=WARNING, com.example.Noisy=ERROR, *=INFORMATION`,
+/// where a level is the name of a [LoggerLevel] (or its display name, ignoring
+/// case), or an integer severity. A malformed value is ignored (keeping the
+/// severities previously set), and reported as a warning.
+///
+/// @see Configuration
+/// @since 1.0
+public final class ConfigurationSeverities implements LoggerExtension {
+
+	/// The configuration key that the severities are read from.
+	public static final String KEY = "STELLAR_LOGGING_LEVELS";
+
+	@Override
+	public void wire() {
+		propertyBinding(KEY, ConfigurationSeverities::apply);
+	}
+
+	/// Sets the severities of loggers by name from the provided value, unless
+	/// it is malformed, in which case a warning is logged instead, and the
+	/// severities previously set are kept.
+	static void apply(String value) {
+		Map<String, Integer> severities;
+		try {
+			severities = parse(value);
+		} catch (IllegalArgumentException exception) {
+			Logger.warning("Ignoring malformed value of {0} (keeping the previous logger levels): {1}", KEY, exception.getMessage());
+			return;
+		}
+		Logger.severities(severities);
+	}
+
+	/// Returns the severities of loggers by name from the provided value.
+	///
+	/// `"null"` is treated as empty, as that is the value bound once the key
+	/// is removed from the configuration.
+	///
+	/// @throws IllegalArgumentException an entry is not `name=level`, or the
+	/// level is neither a [LoggerLevel] nor an integer
+	static Map<String, Integer> parse(String value) {
+		Map<String, Integer> severities = new HashMap<>();
+		if (value.equals("null")) return severities;
+
+		for (String entry : value.split("[,\\s]+")) {
+			if (entry.isEmpty()) continue;
+
+			int separator = entry.indexOf('=');
+			if (separator <= 0 || separator == entry.length() - 1) throw new IllegalArgumentException("Malformed logger level '" + entry + "', expected 'name=level'");
+
+			String name = entry.substring(0, separator);
+			severities.put(name, severity(entry.substring(separator + 1)));
+		}
+		return severities;
+	}
+
+	/// Returns the severity of the level with the provided name.
+	private static int severity(String level) {
+		for (LoggerLevel candidate : LoggerLevel.values()) {
+			if (candidate.name().equalsIgnoreCase(level) || candidate.display().equalsIgnoreCase(level)) return candidate.severity();
+		}
+		try {
+			return Integer.parseInt(level);
+		} catch (NumberFormatException exception) {
+			throw new IllegalArgumentException("Unknown logger level '" + level + "'", exception);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package sirius.stellar.logging.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.Thread.onSpinWait;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static sirius.stellar.logging.LoggerLevel.ERROR;
+import static sirius.stellar.logging.LoggerLevel.WARNING;
+
+final class ConfigurationSeveritiesTest {
+
+	@Test @DisplayName("parse(String) reads levels by name, display name or severity")
+	void parse() {
+		var severities = ConfigurationSeverities.parse("com.example.*=WARNING, com.example.Noisy=error *=3");
+
+		assertThat(severities)
+				.containsEntry("com.example.*", 1)
+				.containsEntry("com.example.Noisy", 2)
+				.containsEntry("*", 3)
+				.hasSize(3);
+		assertThat(ConfigurationSeverities.parse("")).isEmpty();
+		assertThat(ConfigurationSeverities.parse("null")).isEmpty();
+	}
+
+	@Test @DisplayName("parse(String) rejects malformed entries and unknown levels")
+	void parseMalformed() {
+		assertThatIllegalArgumentException().isThrownBy(() -> ConfigurationSeverities.parse("com.example"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ConfigurationSeverities.parse("com.example=LOUD"));
+	}
+
+	@Test @Timeout(5) @DisplayName("apply(String) keeps the previous severities and warns when the value is malformed")
+	void applyMalformed() {
+		List<String> warnings = new CopyOnWriteArrayList<>();
+		Logger.collector(message -> {
+			if (message.level() == WARNING && message.text().contains(ConfigurationSeverities.KEY)) warnings.add(message.text());
+		});
+
+		try {
+			ConfigurationSeverities.apply("com.example=WARNING");
+			ConfigurationSeverities.apply("com.example=LOUD");
+
+			assertThat(Logger.enabled("com.example", WARNING)).isTrue();
+			assertThat(Logger.enabled("com.example", ERROR)).isFalse();
+
+			while (warnings.isEmpty()) onSpinWait();
+			assertThat(warnings.getFirst()).contains("LOUD");
+		} finally {
+			Logger.severities(Map.of());
+		}
+	}
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package sirius.stellar.logging.dispatch.jboss;
 
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerHandle;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 
@@ -11,44 +12,66 @@ import static java.lang.Thread.currentThread;
 
 /// Implementation of [org.jboss.logging.Logger] which delegates to [Logger].
 ///
+/// Formatting is deferred to [Logger#format(String, Object...)] (see
+/// [LoggerMessage.Builder#text(String, Object...)]) whenever its output is the
+/// same as that of [MessageFormat] or [String#format] for the provided text.
+///
+/// The MDC and NDC of the dispatching thread (see [JbossProvider]) are attached
+/// to every message as its [sirius.stellar.logging.LoggerAttributes].
+///
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
 public final class JbossDispatcher extends org.jboss.logging.Logger {
 
-	JbossDispatcher(String name) {
+	private final transient JbossProvider provider;
+	private final transient LoggerHandle handle;
+
+	JbossDispatcher(JbossProvider provider, String name) {
 		super(name);
+		this.provider = provider;
+		this.handle = Logger.forName(name);
 	}
 
 	@Override
 	protected void doLog(org.jboss.logging.Logger.Level level, String name, Object object, Object[] arguments, Throwable throwable) {
 		if (!isEnabled(level)) return;
 		String text = String.valueOf(object);
-		LoggerMessage.builder()
+		LoggerMessage.Builder builder = LoggerMessage.builder()
 				.level(convert(level))
 				.time(Instant.now())
 				.thread(currentThread().getName())
 				.name(this.getName())
-				.text(MessageFormat.format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+				.attributes(this.provider.attributes())
+				.throwable(throwable);
+
+		if (arguments != null && arguments.length > 0 && text.indexOf('%') == -1 && text.indexOf('\'') == -1) {
+			builder.text(text, arguments).dispatch();
+			return;
+		}
+		builder.text(MessageFormat.format(text, arguments)).dispatch();
 	}
 
 	@Override
 	protected void doLogf(org.jboss.logging.Logger.Level level, String name, String text, Object[] arguments, Throwable throwable) {
 		if (!isEnabled(level)) return;
-		LoggerMessage.builder()
+		LoggerMessage.Builder builder = LoggerMessage.builder()
 				.level(convert(level))
 				.time(Instant.now())
 				.thread(currentThread().getName())
 				.name(this.getName())
-				.text(String.format(String.valueOf(text), arguments))
-				.throwable(throwable)
-				.dispatch();
+				.attributes(this.provider.attributes())
+				.throwable(throwable);
+
+		if (text != null && arguments != null && arguments.length > 0 && text.indexOf('{') == -1) {
+			builder.text(text, arguments).dispatch();
+			return;
+		}
+		builder.text(String.format(String.valueOf(text), arguments)).dispatch();
 	}
 
 	@Override
 	public boolean isEnabled(org.jboss.logging.Logger.Level level) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	/// Converts the provided level to a [LoggerLevel].
@@ -1,5 +1,8 @@
 package sirius.stellar.logging.dispatch.jboss;
 
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerAttributes;
+
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashMap;
@@ -9,25 +12,45 @@ import static java.lang.ThreadLocal.withInitial;
 
 /// Implementation of [org.jboss.logging.LoggerProvider] used for obtaining instances of [JbossDispatcher].
 ///
+/// The MDC and NDC of every thread are also held as immutable
+/// [LoggerAttributes], which are only rebuilt when either is modified, so that
+/// they can be attached to every message dispatched by that thread without
+/// being copied, see [#attributes()].
+///
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
 public final class JbossProvider implements org.jboss.logging.LoggerProvider {
 
 	private final ThreadLocal<Map<String, Object>> mdc = withInitial(HashMap::new);
 	private final ThreadLocal<Deque<JbossNdcEntry>> ndc = withInitial(ArrayDeque::new);
+	private final ThreadLocal<@Nullable LoggerAttributes> attributes = new ThreadLocal<>();
 
 	@Override
 	public org.jboss.logging.Logger getLogger(String name) {
-		return new JbossDispatcher(name);
+		return new JbossDispatcher(this, name);
+	}
+
+	/// Returns the MDC of the current thread as attributes, with the NDC of the
+	/// current thread (if any) as the `ndc` attribute.
+	LoggerAttributes attributes() {
+		LoggerAttributes attributes = this.attributes.get();
+		if (attributes != null) return attributes;
+
+		attributes = LoggerAttributes.of(this.mdc.get());
+		if (!this.ndc.get().isEmpty()) attributes = attributes.with("ndc", this.ndc.get().peek().merged);
+		this.attributes.set(attributes);
+		return attributes;
 	}
 
 	@Override
 	public void clearMdc() {
 		this.mdc.remove();
+		this.attributes.remove();
 	}
 
 	@Override
 	public Object putMdc(String key, Object value) {
+		this.attributes.remove();
 		return this.mdc.get().put(key, value);
 	}
 
@@ -39,16 +62,18 @@ public final class JbossProvider implements org.jboss.logging.LoggerProvider {
 	@Override
 	public void removeMdc(String key) {
 		this.mdc.get().remove(key);
+		this.attributes.remove();
 	}
 
 	@Override
 	public Map<String, Object> getMdcMap() {
-		return this.mdc.get();
+		return new HashMap<>(this.mdc.get());
 	}
 
 	@Override
 	public void clearNdc() {
 		this.ndc.remove();
+		this.attributes.remove();
 	}
 
 	@Override
@@ -65,6 +90,7 @@ public final class JbossProvider implements org.jboss.logging.LoggerProvider {
 	@Override
 	public String popNdc() {
 		if (this.ndc.get().isEmpty()) return "";
+		this.attributes.remove();
 		return this.ndc.get().pop().current;
 	}
 
@@ -80,10 +106,12 @@ public final class JbossProvider implements org.jboss.logging.LoggerProvider {
 			new JbossNdcEntry(message) :
 			new JbossNdcEntry(this.ndc.get().peek(), message);
 		this.ndc.get().push(entry);
+		this.attributes.remove();
 	}
 
 	@Override
 	public void setNdcMaxDepth(int ndcMaxDepth) {
 		while (this.ndc.get().size() > ndcMaxDepth) this.ndc.get().pop();
+		this.attributes.remove();
 	}
 }
\ No newline at end of file
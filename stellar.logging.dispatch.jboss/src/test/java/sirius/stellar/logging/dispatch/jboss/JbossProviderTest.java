@@ -0,0 +1,28 @@
+package sirius.stellar.logging.dispatch.jboss;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class JbossProviderTest {
+
+	@Test @DisplayName("attributes() returns the same snapshot until the MDC or NDC is modified")
+	void attributesSnapshot() {
+		var provider = new JbossProvider();
+		provider.putMdc("request", 42);
+
+		var attributes = provider.attributes();
+		assertThat(provider.attributes()).isSameAs(attributes);
+		assertThat(attributes.get("request")).isEqualTo("42");
+
+		provider.pushNdc("lorem");
+		assertThat(provider.attributes()).isNotSameAs(attributes);
+		assertThat(provider.attributes().get("ndc")).isEqualTo("lorem");
+
+		provider.getMdcMap().put("user", "ipsum");
+		provider.removeMdc("request");
+		provider.popNdc();
+		assertThat(provider.attributes().isEmpty()).isTrue();
+	}
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package sirius.stellar.logging.dispatch.jcl;
 
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerHandle;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 
@@ -15,40 +16,42 @@ import static java.lang.Thread.currentThread;
 public final class JclDispatcher implements org.apache.commons.logging.Log {
 
 	private final String name;
+	private final LoggerHandle handle;
 
 	public JclDispatcher(String name) {
 		this.name = name;
+		this.handle = Logger.forName(name);
 	}
 
 	//#region is*Enabled
 	@Override
 	public boolean isDebugEnabled() {
-		return Logger.enabled(LoggerLevel.DIAGNOSIS);
+		return this.handle.enabled(LoggerLevel.DIAGNOSIS);
 	}
 
 	@Override
 	public boolean isErrorEnabled() {
-		return Logger.enabled(LoggerLevel.ERROR);
+		return this.handle.enabled(LoggerLevel.ERROR);
 	}
 
 	@Override
 	public boolean isFatalEnabled() {
-		return Logger.enabled(LoggerLevel.ERROR);
+		return this.handle.enabled(LoggerLevel.ERROR);
 	}
 
 	@Override
 	public boolean isInfoEnabled() {
-		return Logger.enabled(LoggerLevel.INFORMATION);
+		return this.handle.enabled(LoggerLevel.INFORMATION);
 	}
 
 	@Override
 	public boolean isTraceEnabled() {
-		return Logger.enabled(LoggerLevel.TRACING);
+		return this.handle.enabled(LoggerLevel.TRACING);
 	}
 
 	@Override
 	public boolean isWarnEnabled() {
-		return Logger.enabled(LoggerLevel.WARNING);
+		return this.handle.enabled(LoggerLevel.WARNING);
 	}
 	//#endregion
 
@@ -2,6 +2,7 @@ package sirius.stellar.logging.dispatch.jsr379x;
 
 import org.jspecify.annotations.Nullable;
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerHandle;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 
@@ -15,14 +16,20 @@ import static java.lang.Thread.currentThread;
 /// There is a lack of handling for [ResourceBundle]s in this implementation.
 ///
 /// @param name The name of the logger.
+/// @param bundle The resource bundle of the logger, if any.
+/// @param handle The handle for the name of the logger, see [Logger#forName(String)].
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
-public record Jsr379Dispatcher(String name, @Nullable ResourceBundle bundle) implements System.Logger {
+public record Jsr379Dispatcher(String name, @Nullable ResourceBundle bundle, LoggerHandle handle) implements System.Logger {
 
 	public Jsr379Dispatcher(String name) {
 		this(name, null);
 	}
 
+	public Jsr379Dispatcher(String name, @Nullable ResourceBundle bundle) {
+		this(name, bundle, Logger.forName(name));
+	}
+
 	@Override
 	public String getName() {
 		return this.name;
@@ -30,7 +37,7 @@ public record Jsr379Dispatcher(String name, @Nullable ResourceBundle bundle) imp
 
 	@Override
 	public boolean isLoggable(Level level) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
@@ -1,16 +1,26 @@
 package sirius.stellar.logging.dispatch.jul;
 
+import org.jspecify.annotations.Nullable;
 import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.spi.LoggerDispatcher;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import static java.lang.Thread.currentThread;
-import static java.text.MessageFormat.format;
 
 /// Implementation of [java.util.logging.Handler] which dispatches to [Logger].
 ///
+/// The level of the root logger is raised whenever the severities of [Logger]
+/// change (see [#refresh()]), to the lowest level that any logger would log,
+/// so that records that would be discarded are rejected by `j.u.l` itself,
+/// before they are created. It is never lowered below the level configured
+/// when this is wired.
+///
+/// Formatting (and localizing) the message of a record is deferred until it
+/// is collected, see [JulEvent].
+///
 /// -------------------------------
 /// | `j.u.l`   | [LoggerLevel]   |
 /// |-----------|-----------------|
@@ -23,6 +33,8 @@ import static java.text.MessageFormat.format;
 /// | `SEVERE`  | `ERROR`         |
 /// -------------------------------
 ///
+/// Custom levels are converted as the closest standard level below them.
+///
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
 public final class JulDispatcher
@@ -32,8 +44,20 @@ public final class JulDispatcher
 	private static final java.util.logging.LogManager
 		manager = java.util.logging.LogManager.getLogManager();
 
+	/// The standard levels, from the lowest to the highest.
+	private static final java.util.logging.Level[]
+		levels = {
+			java.util.logging.Level.FINEST,
+			java.util.logging.Level.FINER,
+			java.util.logging.Level.FINE,
+			java.util.logging.Level.CONFIG,
+			java.util.logging.Level.INFO,
+			java.util.logging.Level.WARNING,
+			java.util.logging.Level.SEVERE
+		};
+
 	private static final Map<java.util.logging.Level, LoggerLevel>
-		conversions = Map.of(
+		conversions = new IdentityHashMap<>(Map.of(
 			java.util.logging.Level.FINEST, LoggerLevel.TRACING,
 			java.util.logging.Level.FINER, LoggerLevel.DIAGNOSIS,
 			java.util.logging.Level.FINE, LoggerLevel.DIAGNOSIS,
@@ -41,12 +65,34 @@ public final class JulDispatcher
 			java.util.logging.Level.INFO, LoggerLevel.INFORMATION,
 			java.util.logging.Level.WARNING, LoggerLevel.WARNING,
 			java.util.logging.Level.SEVERE, LoggerLevel.ERROR
-		);
+		));
+
+	/// The level of the root logger when this was wired.
+	private java.util.logging.@Nullable Level configured;
 
 	@Override
 	public void wire() {
 		java.util.logging.Logger root = manager.getLogger("");
+		this.configured = root.getLevel();
 		root.addHandler(this);
+		this.refresh();
+	}
+
+	/// Sets the level of the root logger to the lowest standard level that
+	/// any logger would log (or [java.util.logging.Level#OFF], if there are
+	/// none), unless the level configured when this was wired is higher.
+	@Override
+	public void refresh() {
+		java.util.logging.Level threshold = java.util.logging.Level.OFF;
+		for (java.util.logging.Level level : levels) {
+			if (!Logger.enabled(conversions.get(level))) continue;
+			threshold = level;
+			break;
+		}
+
+		java.util.logging.@Nullable Level configured = this.configured;
+		if (configured != null && configured.intValue() > threshold.intValue()) threshold = configured;
+		manager.getLogger("").setLevel(threshold);
 	}
 
 	@Override
@@ -54,16 +100,46 @@ public final class JulDispatcher
 		java.util.logging.Level original = record.getLevel();
 		if (original == null) return;
 
-		LoggerLevel level = conversions.get(original);
-		if (level == null) return;
+		LoggerLevel level = convert(original);
+		if (level == null || !Logger.enabled(level)) return;
+
+		String name = record.getSourceClassName();
+		if (name == null) name = record.getLoggerName();
+		if (name == null || !Logger.enabled(name, level)) return;
+
+		Logger.dispatch(new JulEvent(
+			record.getInstant(),
+			level,
+			thread(record),
+			name,
+			record.getMessage(),
+			record.getResourceBundle(),
+			record.getParameters(),
+			record.getThrown()
+		));
+	}
+
+	/// Converts the provided level to a [LoggerLevel], or returns `null` for
+	/// [java.util.logging.Level#OFF] and [java.util.logging.Level#ALL].
+	@Nullable
+	private static LoggerLevel convert(java.util.logging.Level level) {
+		LoggerLevel converted = conversions.get(level);
+		if (converted != null) return converted;
+
+		int value = level.intValue();
+		if (value == Integer.MAX_VALUE || value == Integer.MIN_VALUE) return null;
+		for (int i = levels.length - 1; i >= 0; i--) {
+			if (value >= levels[i].intValue()) return conversions.get(levels[i]);
+		}
+		return LoggerLevel.TRACING;
+	}
 
-		message()
-			.level(level)
-			.time(record.getInstant())
-			.thread(currentThread().getName())
-			.name(record.getSourceClassName())
-			.text(format(record.getMessage(), record.getParameters()))
-			.dispatch();
+	/// Returns the name of the thread that the provided record was created on,
+	/// or its identifier, if it was published from another thread.
+	private static String thread(java.util.logging.LogRecord record) {
+		Thread current = currentThread();
+		if (record.getLongThreadID() == current.threadId()) return current.getName();
+		return "#" + record.getLongThreadID();
 	}
 
 	@Override
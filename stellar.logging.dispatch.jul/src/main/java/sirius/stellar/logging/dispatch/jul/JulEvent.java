@@ -0,0 +1,138 @@
+package sirius.stellar.logging.dispatch.jul;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerEvents;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static java.lang.System.lineSeparator;
+import static sirius.stellar.logging.LoggerEvents.traceback;
+
+/// Implementation of [LoggerEvent] that carries the message of a
+/// [java.util.logging.LogRecord], its parameters and resource bundle, so that
+/// localizing and formatting it (as [java.util.logging.Formatter#formatMessage]
+/// would) is deferred until the message is known to be collected.
+///
+/// The parameters are captured as described by [LoggerEvents]; when any
+/// parameter cannot be captured, the text is formatted immediately instead.
+final class JulEvent implements LoggerEvent {
+
+	private final long epochNanos;
+	private final LoggerLevel level;
+	private final String thread;
+	private final String name;
+
+	@Nullable
+	private final String template;
+	@Nullable
+	private final ResourceBundle bundle;
+	private final Object @Nullable [] parameters;
+	@Nullable
+	private final Throwable throwable;
+
+	@Nullable
+	private String text;
+
+	JulEvent(Instant time, LoggerLevel level, String thread, String name, @Nullable String template, @Nullable ResourceBundle bundle, Object @Nullable [] parameters, @Nullable Throwable throwable) {
+		this.epochNanos = LoggerEvents.epochNanos(time);
+		this.level = level;
+		this.thread = thread;
+		this.name = name;
+		this.throwable = throwable;
+
+		Object[] captured = (parameters == null || parameters.length == 0) ? null : LoggerEvents.capture(parameters);
+		if (parameters != null && parameters.length > 0 && captured == null) {
+			this.template = format(template, bundle, parameters);
+			this.bundle = null;
+			this.parameters = null;
+			return;
+		}
+		this.template = template;
+		this.bundle = bundle;
+		this.parameters = captured;
+	}
+
+	@Override
+	public long epochNanos() {
+		return this.epochNanos;
+	}
+
+	@Override
+	public LoggerLevel level() {
+		return this.level;
+	}
+
+	@Override
+	public String thread() {
+		return this.thread;
+	}
+
+	@Override
+	public String name() {
+		return this.name;
+	}
+
+	@Override
+	public String template() {
+		return (this.template == null) ? "" : this.template;
+	}
+
+	/// Returns the text content of the message, formatting it (and appending
+	/// the stacktrace of the throwable, if any) the first time this is invoked.
+	@Override
+	public String text() {
+		if (this.text != null) return this.text;
+
+		String text = format(this.template, this.bundle, this.parameters);
+		if (this.throwable != null) text += lineSeparator() + traceback(this.throwable);
+		return this.text = text;
+	}
+
+	@Override
+	public LoggerMessage message() {
+		Instant time = Instant.ofEpochSecond(0L, this.epochNanos);
+		return new LoggerMessage(time, this.level, this.thread, this.name, this.text(), LoggerAttributes.empty());
+	}
+
+	@Override
+	public String toString() {
+		return this.message().toString();
+	}
+
+	/// Returns the provided message, localized with the provided bundle (if
+	/// any), and formatted with [MessageFormat] if there are any parameters,
+	/// and it contains a `{` followed by a digit, as [java.util.logging.Formatter#formatMessage]
+	/// would; if localizing or formatting fails, the message is returned as it is.
+	private static String format(@Nullable String template, @Nullable ResourceBundle bundle, Object @Nullable [] parameters) {
+		if (template == null) return "";
+
+		String text = template;
+		if (bundle != null) {
+			try {
+				text = bundle.getString(template);
+			} catch (MissingResourceException exception) {
+				text = template;
+			}
+		}
+		if (parameters == null || parameters.length == 0) return text;
+
+		try {
+			int index = -1;
+			int fence = text.length() - 1;
+			while ((index = text.indexOf('{', index + 1)) > -1 && index < fence) {
+				char digit = text.charAt(index + 1);
+				if (digit >= '0' && digit <= '9') return MessageFormat.format(text, parameters);
+			}
+			return text;
+		} catch (IllegalArgumentException exception) {
+			return text;
+		}
+	}
+}
\ No newline at end of file
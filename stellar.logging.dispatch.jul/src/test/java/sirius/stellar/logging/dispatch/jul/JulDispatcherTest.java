@@ -3,12 +3,18 @@ package sirius.stellar.logging.dispatch.jul;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import sirius.stellar.logging.LoggerMessage;
+
+import java.time.Instant;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static java.lang.System.lineSeparator;
 import static java.lang.Thread.onSpinWait;
 import static java.util.concurrent.locks.LockSupport.parkNanos;
 import static org.assertj.core.api.Assertions.assertThat;
 import static sirius.stellar.logging.Logger.collector;
+import static sirius.stellar.logging.Logger.severity;
 
 @Timeout(5)
 final class JulDispatcherTest {
@@ -24,4 +30,36 @@ final class JulDispatcherTest {
 		while (!received.get()) onSpinWait();
 		assertThat(received).isTrue();
 	}
+
+	@Test
+	void refresh() {
+		var root = java.util.logging.Logger.getLogger("");
+
+		severity(-1);
+		assertThat(root.getLevel()).isEqualTo(java.util.logging.Level.OFF);
+
+		severity(Integer.MAX_VALUE);
+		assertThat(root.getLevel()).isNotEqualTo(java.util.logging.Level.OFF);
+	}
+
+	@Test
+	void throwable() {
+		var received = new AtomicReference<LoggerMessage>();
+		collector(message -> {
+			if (message.text().contains("boom")) received.set(message);
+		});
+
+		var mutable = new StringBuilder("before");
+		Instant start = Instant.now();
+
+		var record = new java.util.logging.LogRecord(java.util.logging.Level.WARNING, "Failed {0}");
+		record.setParameters(new Object[] {mutable});
+		record.setThrown(new IllegalStateException("boom"));
+		java.util.logging.Logger.getLogger("sirius.stellar.Throwable").log(record);
+		mutable.append(" after");
+
+		while (received.get() == null) onSpinWait();
+		assertThat(received.get().text()).startsWith("Failed before" + lineSeparator() + "java.lang.IllegalStateException: boom");
+		assertThat(received.get().time()).isAfterOrEqualTo(start);
+	}
 }
\ No newline at end of file
@@ -1,57 +1,110 @@
 package sirius.stellar.logging.dispatch.log4j2x;
 
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.unmodifiableCollection;
 
 /// Implementation of [org.apache.logging.log4j.spi.LoggerContext] used for obtaining instances of [Log4j2Dispatcher].
 ///
+/// Loggers are cached by name and message factory, as they are by the
+/// [org.apache.logging.log4j.spi.LoggerRegistry] of other implementations, so
+/// obtaining the same logger again (e.g. by a library calling
+/// `LogManager.getLogger` per request) is a lookup that never allocates, and
+/// names are compared exactly (not ignoring case). Loggers requested with an
+/// instance of the default message factory are the loggers requested without
+/// a message factory.
+///
+/// The external context is only referenced weakly, as contexts are cached by
+/// [Log4j2ContextFactory] for as long as their external context is in use.
+///
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
 public final class Log4j2Context implements org.apache.logging.log4j.spi.LoggerContext {
 
-	private final List<org.apache.logging.log4j.spi.ExtendedLogger> loggers;
-	private final Object externalContext;
+	/// Loggers created without a message factory (i.e. with the default
+	/// message factory of [org.apache.logging.log4j.spi.AbstractLogger]), by name.
+	private final Map<String, Log4j2Dispatcher> loggers;
 
-	Log4j2Context(Object externalContext) {
-		this.loggers = new ArrayList<>();
-		this.externalContext = externalContext;
+	/// Loggers created with a message factory, by name and message factory.
+	private final Map<String, Map<org.apache.logging.log4j.message.MessageFactory, Log4j2Dispatcher>> factories;
+
+	@Nullable
+	private final WeakReference<Object> externalContext;
+
+	Log4j2Context(@Nullable Object externalContext) {
+		this.loggers = new ConcurrentHashMap<>();
+		this.factories = new ConcurrentHashMap<>();
+		this.externalContext = (externalContext == null) ? null : new WeakReference<>(externalContext);
 	}
 
 	@Override
+	@Nullable
 	public Object getExternalContext() {
-		return this.externalContext;
+		return (this.externalContext == null) ? null : this.externalContext.get();
 	}
 
 	@Override
 	public org.apache.logging.log4j.spi.ExtendedLogger getLogger(String name) {
-		Log4j2Dispatcher logger = new Log4j2Dispatcher(name);
-		loggers.add(logger);
-		return logger;
+		Log4j2Dispatcher logger = this.loggers.get(name);
+		if (logger != null) return logger;
+		return this.loggers.computeIfAbsent(name, Log4j2Dispatcher::new);
 	}
 
 	@Override
 	public org.apache.logging.log4j.spi.ExtendedLogger getLogger(String name, org.apache.logging.log4j.message.MessageFactory factory) {
-		Log4j2Dispatcher logger = new Log4j2Dispatcher(name, factory);
-		loggers.add(logger);
-		return logger;
+		if (defaults(factory)) return this.getLogger(name);
+
+		Map<org.apache.logging.log4j.message.MessageFactory, Log4j2Dispatcher> loggers = this.factories.get(name);
+		if (loggers != null) {
+			Log4j2Dispatcher logger = loggers.get(factory);
+			if (logger != null) return logger;
+		}
+
+		loggers = this.factories.computeIfAbsent(name, key -> new ConcurrentHashMap<>(2));
+		return loggers.computeIfAbsent(factory, key -> new Log4j2Dispatcher(name, key));
 	}
 
 	@Override
 	public boolean hasLogger(String name) {
-		return this.loggers.stream().anyMatch(logger -> logger.getName().equalsIgnoreCase(name));
+		return this.loggers.containsKey(name) || this.factories.containsKey(name);
 	}
 
 	@Override
 	public boolean hasLogger(String name, Class<? extends org.apache.logging.log4j.message.MessageFactory> messageFactoryClass) {
-		return this.loggers.stream()
-				.filter(logger -> logger.getName().equalsIgnoreCase(name))
-				.anyMatch(logger -> logger.getMessageFactory().getClass().equals(messageFactoryClass));
+		Log4j2Dispatcher logger = this.loggers.get(name);
+		if (logger != null && logger.getMessageFactory().getClass().equals(messageFactoryClass)) return true;
+
+		Map<org.apache.logging.log4j.message.MessageFactory, Log4j2Dispatcher> loggers = this.factories.get(name);
+		if (loggers == null) return false;
+		return loggers.keySet().stream().anyMatch(factory -> factory.getClass().equals(messageFactoryClass));
 	}
 
 	@Override
 	public boolean hasLogger(String name, org.apache.logging.log4j.message.MessageFactory messageFactory) {
-		return this.loggers.stream()
-				.filter(logger -> logger.getName().equalsIgnoreCase(name))
-				.anyMatch(logger -> logger.getMessageFactory().equals(messageFactory));
+		if (defaults(messageFactory)) return this.loggers.containsKey(name);
+
+		Map<org.apache.logging.log4j.message.MessageFactory, Log4j2Dispatcher> loggers = this.factories.get(name);
+		return loggers != null && loggers.containsKey(messageFactory);
+	}
+
+	/// Returns whether the provided message factory is `null`, or an instance
+	/// of the default message factory (which loggers created without a message
+	/// factory use), i.e. whether it is equivalent to not providing one.
+	private static boolean defaults(org.apache.logging.log4j.message.@Nullable MessageFactory factory) {
+		return factory == null || factory.getClass() == org.apache.logging.log4j.spi.AbstractLogger.DEFAULT_MESSAGE_FACTORY_CLASS;
+	}
+
+	/// Returns every logger obtained from this context, as
+	/// [org.apache.logging.log4j.spi.LoggerRegistry#getLoggers()] would.
+	public Collection<Log4j2Dispatcher> getLoggers() {
+		Collection<Log4j2Dispatcher> loggers = new ArrayList<>(this.loggers.values());
+		this.factories.values().forEach(it -> loggers.addAll(it.values()));
+		return unmodifiableCollection(loggers);
 	}
 }
\ No newline at end of file
@@ -1,25 +1,43 @@
 package sirius.stellar.logging.dispatch.log4j2x;
 
+import org.jspecify.annotations.Nullable;
+
 import java.net.URI;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.synchronizedMap;
 
 /// Implementation of [org.apache.logging.log4j.spi.LoggerContextFactory] used for obtaining instances of [Log4j2Context].
 ///
+/// The same context is returned for the same external context (and one shared
+/// context when there is none), as `LogManager.getLogger` obtains the context
+/// every time, so that the loggers cached by the context are reused.
+///
+/// External contexts are only referenced weakly, so that a context is
+/// discarded once its external context (e.g. a web application) is no longer
+/// in use.
+///
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
 public final class Log4j2ContextFactory implements org.apache.logging.log4j.spi.LoggerContextFactory {
 
+	private final Log4j2Context context = new Log4j2Context(null);
+	private final Map<Object, Log4j2Context> contexts = synchronizedMap(new WeakHashMap<>());
+
 	@Override
-	public org.apache.logging.log4j.spi.LoggerContext getContext(String caller, ClassLoader loader, Object externalContext, boolean currentContext) {
-		return new Log4j2Context(externalContext);
+	public org.apache.logging.log4j.spi.LoggerContext getContext(String caller, ClassLoader loader, @Nullable Object externalContext, boolean currentContext) {
+		if (externalContext == null) return this.context;
+		return this.contexts.computeIfAbsent(externalContext, Log4j2Context::new);
 	}
 
 	@Override
-	public org.apache.logging.log4j.spi.LoggerContext getContext(String caller, ClassLoader loader, Object externalContext, boolean currentContext, URI configLocation, String name) {
-		return new Log4j2Context(externalContext);
+	public org.apache.logging.log4j.spi.LoggerContext getContext(String caller, ClassLoader loader, @Nullable Object externalContext, boolean currentContext, URI configLocation, String name) {
+		return this.getContext(caller, loader, externalContext, currentContext);
 	}
 
 	@Override
 	public void removeContext(org.apache.logging.log4j.spi.LoggerContext context) {
-		assert true;
+		this.contexts.values().remove(context);
 	}
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package sirius.stellar.logging.dispatch.log4j2x;
 
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerHandle;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 
+import java.io.ObjectStreamException;
 import java.io.Serial;
 import java.time.Instant;
 
@@ -19,12 +21,24 @@ public final class Log4j2Dispatcher
 	@Serial
 	private static final long serialVersionUID = 2981067707921701559L;
 
+	private final transient LoggerHandle handle;
+
 	Log4j2Dispatcher(String name) {
 		super(name);
+		this.handle = Logger.forName(name);
 	}
 
 	Log4j2Dispatcher(String name, org.apache.logging.log4j.message.MessageFactory factory) {
 		super(name, factory);
+		this.handle = Logger.forName(name);
+	}
+
+	/// Resolves a deserialized dispatcher to the one of the current context,
+	/// as the handle it dispatches to is not serialized.
+	@Serial
+	private Object readResolve() throws ObjectStreamException {
+		org.apache.logging.log4j.message.MessageFactory factory = this.getMessageFactory();
+		return org.apache.logging.log4j.LogManager.getLogger(this.getName(), factory);
 	}
 
 	/// Converts the provided level to a [LoggerLevel].
@@ -63,89 +77,89 @@ public final class Log4j2Dispatcher
 	//#region isEnabled*
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, org.apache.logging.log4j.message.Message message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, CharSequence message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, Object message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object... params) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 	//#endregion
 
 	@Override
 	public void logMessage(String caller, org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, org.apache.logging.log4j.message.Message message, Throwable throwable) {
 		LoggerLevel converted = convert(level);
-		if (!Logger.enabled(converted) || message == null) return;
+		if (!this.handle.enabled(converted) || message == null) return;
 
 		String text = message.getFormattedMessage();
 		if (marker != null) text = "[" + marker.getName() + "] " + text;
@@ -154,7 +168,7 @@ public final class Log4j2Dispatcher
 				.level(converted)
 				.time(Instant.now())
 				.thread(currentThread().getName())
-				.name(caller)
+				.name(this.getName())
 				.text(String.valueOf(text))
 				.throwable(throwable)
 				.dispatch();
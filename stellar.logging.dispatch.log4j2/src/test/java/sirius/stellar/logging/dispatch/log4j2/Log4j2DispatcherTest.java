@@ -2,7 +2,14 @@ package sirius.stellar.logging.dispatch.log4j2;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.dispatch.log4j2x.Log4j2ContextFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.Thread.onSpinWait;
@@ -24,4 +31,61 @@ final class Log4j2DispatcherTest {
 		while (!received.get()) onSpinWait();
 		assertThat(received).isTrue();
 	}
+
+	@Test
+	void cached() {
+		var first = org.apache.logging.log4j.LogManager.getLogger("sirius.stellar.Cached");
+		var second = org.apache.logging.log4j.LogManager.getLogger("sirius.stellar.Cached");
+
+		assertThat(first).isSameAs(second);
+		assertThat(org.apache.logging.log4j.LogManager.getContext(false).hasLogger("sirius.stellar.Cached")).isTrue();
+		assertThat(org.apache.logging.log4j.LogManager.getContext(false).hasLogger("sirius.stellar.cached")).isFalse();
+	}
+
+	@Test
+	void deserialized() throws IOException, ClassNotFoundException {
+		var logger = org.apache.logging.log4j.LogManager.getLogger("sirius.stellar.Serialized");
+
+		var bytes = new ByteArrayOutputStream();
+		try (var output = new ObjectOutputStream(bytes)) {
+			output.writeObject(logger);
+		}
+		try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			var deserialized = (org.apache.logging.log4j.Logger) input.readObject();
+			assertThat(deserialized).isSameAs(logger);
+			assertThat(deserialized.isErrorEnabled()).isTrue();
+		}
+	}
+
+	@Test
+	void cachedByFactory() {
+		var context = org.apache.logging.log4j.LogManager.getContext(false);
+		var logger = context.getLogger("sirius.stellar.Factory");
+		var formatter = new org.apache.logging.log4j.message.StringFormatterMessageFactory();
+
+		assertThat(context.getLogger("sirius.stellar.Factory", logger.getMessageFactory())).isSameAs(logger);
+		assertThat(context.hasLogger("sirius.stellar.Factory", formatter)).isFalse();
+
+		var formatted = context.getLogger("sirius.stellar.Factory", formatter);
+		assertThat(formatted).isNotSameAs(logger);
+		assertThat(context.getLogger("sirius.stellar.Factory", formatter)).isSameAs(formatted);
+		assertThat(context.hasLogger("sirius.stellar.Factory", formatter)).isTrue();
+	}
+
+	@Test
+	void externalContextWeak() {
+		var factory = new Log4j2ContextFactory();
+		var loader = Log4j2DispatcherTest.class.getClassLoader();
+		Object external = new Object();
+
+		var context = new WeakReference<>(factory.getContext("", loader, external, false));
+		assertThat(factory.getContext("", loader, external, false)).isSameAs(context.get());
+
+		external = null;
+		while (context.get() != null) {
+			System.gc();
+			parkNanos(1_000_000L);
+		}
+		assertThat(context.get()).isNull();
+	}
 }
\ No newline at end of file
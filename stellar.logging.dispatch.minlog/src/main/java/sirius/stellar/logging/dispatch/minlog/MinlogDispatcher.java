@@ -7,7 +7,6 @@ import sirius.stellar.logging.spi.LoggerDispatcher;
 
 import java.time.Instant;
 
-import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
 import static java.lang.Thread.currentThread;
 
 /// Implementation of [com.esotericsoftware.minlog.Log.Logger] which dispatches to [Logger].
@@ -18,7 +17,7 @@ public final class MinlogDispatcher
 		extends com.esotericsoftware.minlog.Log.Logger
 		implements LoggerDispatcher {
 
-	private static final StackWalker walker = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
+	private static final StackWalker walker = StackWalker.getInstance();
 
 	@Override
 	public void wire() {
@@ -38,10 +37,10 @@ public final class MinlogDispatcher
 		if (converted == null) return;
 		if (!Logger.enabled(converted)) return;
 
-		String caller = walker.walk(stream -> stream.limit(3)
-				.toList())
-				.get(2)
-				.getClassName();
+		String caller = walker.walk(stream -> stream.skip(2)
+				.findFirst()
+				.map(StackWalker.StackFrame::getClassName)
+				.orElse(null));
 		LoggerMessage.builder()
 				.level(converted)
 				.time(Instant.now())
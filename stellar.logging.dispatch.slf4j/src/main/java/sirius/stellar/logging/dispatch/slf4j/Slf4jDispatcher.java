@@ -1,97 +1,138 @@
 package sirius.stellar.logging.dispatch.slf4j;
 
+import org.jspecify.annotations.Nullable;
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerHandle;
 import sirius.stellar.logging.LoggerLevel;
-import sirius.stellar.logging.LoggerMessage;
 
-import java.time.Instant;
-
-import static java.lang.Thread.currentThread;
+import java.util.List;
 
 /// Implementation of [org.slf4j.Logger] which dispatches to [Logger].
 ///
-/// There is suboptimal handling of [org.slf4j.Marker]s in this implementation;
-/// all the marker-related methods simply call [org.slf4j.Marker#getName()] and
-/// prefix the message with `MARKER_NAME: This is an example message`.
+/// Templates and arguments are passed through as they are, and only formatted
+/// (by [org.slf4j.helpers.MessageFormatter]) once a message is collected, see
+/// [Slf4jEvent]; the methods taking one or two arguments never allocate an
+/// array to do so.
+///
+/// The mapped diagnostic context ([org.slf4j.MDC]) of the dispatching thread
+/// is attached to every message as its [LoggerAttributes], along with the
+/// names of its [org.slf4j.Marker]s (as [#MARKER], separated by `,`), and the
+/// key-value pairs added through the fluent API (see [org.slf4j.spi.LoggingEventBuilder]).
 ///
 /// @param name The name of the logger.
+/// @param handle The handle for the name of the logger, see [Logger#forName(String)].
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
-public record Slf4jDispatcher(String name) implements org.slf4j.Logger {
+public record Slf4jDispatcher(String name, LoggerHandle handle) implements org.slf4j.Logger, org.slf4j.spi.LoggingEventAware {
+
+	/// The key of the attribute containing the names of the markers of a message.
+	public static final String MARKER = "marker";
+
+	public Slf4jDispatcher(String name) {
+		this(name, Logger.forName(name));
+	}
 
 	@Override
 	public String getName() {
 		return this.name;
 	}
 
+	/// Dispatches events logged through the fluent API (see [org.slf4j.spi.LoggingEventBuilder]),
+	/// with their markers and key-value pairs as attributes.
+	@Override
+	public void log(org.slf4j.event.LoggingEvent event) {
+		LoggerLevel level = convert(event.getLevel());
+		if (!this.handle.enabled(level)) return;
+
+		LoggerAttributes attributes = attributes(null);
+		List<org.slf4j.Marker> markers = event.getMarkers();
+		if (markers != null && !markers.isEmpty()) {
+			StringBuilder names = new StringBuilder();
+			for (org.slf4j.Marker marker : markers) {
+				if (!names.isEmpty()) names.append(',');
+				names.append(marker.getName());
+			}
+			attributes = attributes.with(MARKER, names.toString());
+		}
+		List<org.slf4j.event.KeyValuePair> pairs = event.getKeyValuePairs();
+		if (pairs != null) {
+			for (org.slf4j.event.KeyValuePair pair : pairs) attributes = attributes.with(pair.key, pair.value);
+		}
+
+		Logger.dispatch(new Slf4jEvent(level, this.name, attributes, event.getMessage(), event.getArgumentArray(), event.getThrowable()));
+	}
+
+	/// Dispatch a message with up to two arguments, see [Slf4jEvent].
+	private void dispatch(LoggerLevel level, org.slf4j.@Nullable Marker marker, String text, int count, @Nullable Object argument1, @Nullable Object argument2) {
+		Logger.dispatch(new Slf4jEvent(level, this.name, attributes(marker), text, count, argument1, argument2));
+	}
+
+	/// Dispatch a message with the provided arguments, see [Slf4jEvent].
+	private void dispatch(LoggerLevel level, org.slf4j.@Nullable Marker marker, String text, Object[] arguments) {
+		Logger.dispatch(new Slf4jEvent(level, this.name, attributes(marker), text, arguments, null));
+	}
+
+	/// Returns the mapped diagnostic context of the current thread, along with
+	/// the name of the provided marker (if any).
+	private static LoggerAttributes attributes(org.slf4j.@Nullable Marker marker) {
+		LoggerAttributes attributes = attributes();
+		return (marker == null) ? attributes : attributes.with(MARKER, marker.getName());
+	}
+
+	/// Returns the mapped diagnostic context of the current thread.
+	private static LoggerAttributes attributes() {
+		org.slf4j.spi.MDCAdapter adapter = org.slf4j.MDC.getMDCAdapter();
+		if (adapter instanceof Slf4jMdcAdapter mdc) return mdc.attributes();
+		if (adapter == null) return LoggerAttributes.empty();
+		return LoggerAttributes.of(adapter.getCopyOfContextMap());
+	}
+
+	/// Converts the provided level to a [LoggerLevel].
+	private static LoggerLevel convert(org.slf4j.event.Level level) {
+		return switch (level) {
+			case TRACE -> LoggerLevel.TRACING;
+			case DEBUG -> LoggerLevel.DIAGNOSIS;
+			case INFO -> LoggerLevel.INFORMATION;
+			case WARN -> LoggerLevel.WARNING;
+			case ERROR -> LoggerLevel.ERROR;
+		};
+	}
+
 	//#region trace*
 	@Override
 	public boolean isTraceEnabled() {
-		return Logger.enabled(LoggerLevel.TRACING);
+		return this.handle.enabled(LoggerLevel.TRACING);
 	}
 
 	@Override
 	public void trace(String text) {
-		if (!isTraceEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isTraceEnabled()) return;
+		this.dispatch(LoggerLevel.TRACING, null, text, 0, null, null);
 	}
 
 	@Override
 	public void trace(String text, Object argument) {
-		if (!isTraceEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isTraceEnabled()) return;
+		this.dispatch(LoggerLevel.TRACING, null, text, 1, argument, null);
 	}
 
 	@Override
 	public void trace(String text, Object argument1, Object argument2) {
-		if (!isTraceEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isTraceEnabled()) return;
+		this.dispatch(LoggerLevel.TRACING, null, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void trace(String text, Object... arguments) {
-		if (!isTraceEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isTraceEnabled()) return;
+		this.dispatch(LoggerLevel.TRACING, null, text, arguments);
 	}
 
 	@Override
 	public void trace(String text, Throwable throwable) {
-		if (!isTraceEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		if (!this.isTraceEnabled()) return;
+		this.dispatch(LoggerLevel.TRACING, null, text, 1, throwable, null);
 	}
 	//#endregion
 	//#region trace* [Marker]
@@ -103,102 +144,68 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger {
 	@Override
 	public void trace(org.slf4j.Marker marker, String text) {
 		if (!this.isTraceEnabled()) return;
-		this.trace(marker.getName() + ": " + text);
+		this.dispatch(LoggerLevel.TRACING, marker, text, 0, null, null);
 	}
 
 	@Override
 	public void trace(org.slf4j.Marker marker, String text, Object argument) {
 		if (!this.isTraceEnabled()) return;
-		this.trace(marker.getName() + ": " + text, argument);
+		this.dispatch(LoggerLevel.TRACING, marker, text, 1, argument, null);
 	}
 
 	@Override
 	public void trace(org.slf4j.Marker marker, String text, Object argument1, Object argument2) {
 		if (!this.isTraceEnabled()) return;
-		this.trace(marker.getName() + ": " + text, argument1, argument2);
+		this.dispatch(LoggerLevel.TRACING, marker, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void trace(org.slf4j.Marker marker, String text, Object... arguments) {
 		if (!this.isTraceEnabled()) return;
-		this.trace(marker.getName() + ": " + text, arguments);
+		this.dispatch(LoggerLevel.TRACING, marker, text, arguments);
 	}
 
 	@Override
 	public void trace(org.slf4j.Marker marker, String text, Throwable throwable) {
 		if (!this.isTraceEnabled()) return;
-		this.trace(marker.getName() + ": " + text, throwable);
+		this.dispatch(LoggerLevel.TRACING, marker, text, 1, throwable, null);
 	}
 	//#endregion
 
 	//#region debug*
 	@Override
 	public boolean isDebugEnabled() {
-		return Logger.enabled(LoggerLevel.DIAGNOSIS);
+		return this.handle.enabled(LoggerLevel.DIAGNOSIS);
 	}
 
 	@Override
 	public void debug(String text) {
-		if (!isDebugEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isDebugEnabled()) return;
+		this.dispatch(LoggerLevel.DIAGNOSIS, null, text, 0, null, null);
 	}
 
 	@Override
 	public void debug(String text, Object argument) {
-		if (!isDebugEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isDebugEnabled()) return;
+		this.dispatch(LoggerLevel.DIAGNOSIS, null, text, 1, argument, null);
 	}
 
 	@Override
 	public void debug(String text, Object argument1, Object argument2) {
-		if (!isDebugEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isDebugEnabled()) return;
+		this.dispatch(LoggerLevel.DIAGNOSIS, null, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void debug(String text, Object... arguments) {
-		if (!isDebugEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isDebugEnabled()) return;
+		this.dispatch(LoggerLevel.DIAGNOSIS, null, text, arguments);
 	}
 
 	@Override
 	public void debug(String text, Throwable throwable) {
-		if (!isDebugEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		if (!this.isDebugEnabled()) return;
+		this.dispatch(LoggerLevel.DIAGNOSIS, null, text, 1, throwable, null);
 	}
 	//#endregion
 	//#region debug* [Marker]
@@ -210,102 +217,68 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger {
 	@Override
 	public void debug(org.slf4j.Marker marker, String text) {
 		if (!this.isDebugEnabled()) return;
-		this.debug(marker.getName() + ": " + text);
+		this.dispatch(LoggerLevel.DIAGNOSIS, marker, text, 0, null, null);
 	}
 
 	@Override
 	public void debug(org.slf4j.Marker marker, String text, Object argument) {
 		if (!this.isDebugEnabled()) return;
-		this.debug(marker.getName() + ": " + text, argument);
+		this.dispatch(LoggerLevel.DIAGNOSIS, marker, text, 1, argument, null);
 	}
 
 	@Override
 	public void debug(org.slf4j.Marker marker, String text, Object argument1, Object argument2) {
 		if (!this.isDebugEnabled()) return;
-		this.debug(marker.getName() + ": " + text, argument1, argument2);
+		this.dispatch(LoggerLevel.DIAGNOSIS, marker, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void debug(org.slf4j.Marker marker, String text, Object... arguments) {
 		if (!this.isDebugEnabled()) return;
-		this.debug(marker.getName() + ": " + text, arguments);
+		this.dispatch(LoggerLevel.DIAGNOSIS, marker, text, arguments);
 	}
 
 	@Override
 	public void debug(org.slf4j.Marker marker, String text, Throwable throwable) {
 		if (!this.isDebugEnabled()) return;
-		this.debug(marker.getName() + ": " + text, throwable);
+		this.dispatch(LoggerLevel.DIAGNOSIS, marker, text, 1, throwable, null);
 	}
 	//#endregion
 
 	//#region info*
 	@Override
 	public boolean isInfoEnabled() {
-		return Logger.enabled(LoggerLevel.INFORMATION);
+		return this.handle.enabled(LoggerLevel.INFORMATION);
 	}
 
 	@Override
 	public void info(String text) {
-		if (!isInfoEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isInfoEnabled()) return;
+		this.dispatch(LoggerLevel.INFORMATION, null, text, 0, null, null);
 	}
 
 	@Override
 	public void info(String text, Object argument) {
-		if (!isInfoEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isInfoEnabled()) return;
+		this.dispatch(LoggerLevel.INFORMATION, null, text, 1, argument, null);
 	}
 
 	@Override
 	public void info(String text, Object argument1, Object argument2) {
-		if (!isInfoEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isInfoEnabled()) return;
+		this.dispatch(LoggerLevel.INFORMATION, null, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void info(String text, Object... arguments) {
-		if (!isInfoEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isInfoEnabled()) return;
+		this.dispatch(LoggerLevel.INFORMATION, null, text, arguments);
 	}
 
 	@Override
 	public void info(String text, Throwable throwable) {
-		if (!isInfoEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		if (!this.isInfoEnabled()) return;
+		this.dispatch(LoggerLevel.INFORMATION, null, text, 1, throwable, null);
 	}
 	//#endregion
 	//#region info* [Marker]
@@ -317,102 +290,68 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger {
 	@Override
 	public void info(org.slf4j.Marker marker, String text) {
 		if (!this.isInfoEnabled()) return;
-		this.info(marker.getName() + ": " + text);
+		this.dispatch(LoggerLevel.INFORMATION, marker, text, 0, null, null);
 	}
 
 	@Override
 	public void info(org.slf4j.Marker marker, String text, Object argument) {
 		if (!this.isInfoEnabled()) return;
-		this.info(marker.getName() + ": " + text, argument);
+		this.dispatch(LoggerLevel.INFORMATION, marker, text, 1, argument, null);
 	}
 
 	@Override
 	public void info(org.slf4j.Marker marker, String text, Object argument1, Object argument2) {
 		if (!this.isInfoEnabled()) return;
-		this.info(marker.getName() + ": " + text, argument1, argument2);
+		this.dispatch(LoggerLevel.INFORMATION, marker, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void info(org.slf4j.Marker marker, String text, Object... arguments) {
 		if (!this.isInfoEnabled()) return;
-		this.info(marker.getName() + ": " + text, arguments);
+		this.dispatch(LoggerLevel.INFORMATION, marker, text, arguments);
 	}
 
 	@Override
 	public void info(org.slf4j.Marker marker, String text, Throwable throwable) {
 		if (!this.isInfoEnabled()) return;
-		this.info(marker.getName() + ": " + text, throwable);
+		this.dispatch(LoggerLevel.INFORMATION, marker, text, 1, throwable, null);
 	}
 	//#endregion
 
 	//#region warn*
 	@Override
 	public boolean isWarnEnabled() {
-		return Logger.enabled(LoggerLevel.WARNING);
+		return this.handle.enabled(LoggerLevel.WARNING);
 	}
 
 	@Override
 	public void warn(String text) {
-		if (!isWarnEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isWarnEnabled()) return;
+		this.dispatch(LoggerLevel.WARNING, null, text, 0, null, null);
 	}
 
 	@Override
 	public void warn(String text, Object argument) {
-		if (!isWarnEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isWarnEnabled()) return;
+		this.dispatch(LoggerLevel.WARNING, null, text, 1, argument, null);
 	}
 
 	@Override
 	public void warn(String text, Object argument1, Object argument2) {
-		if (!isWarnEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isWarnEnabled()) return;
+		this.dispatch(LoggerLevel.WARNING, null, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void warn(String text, Object... arguments) {
-		if (!isWarnEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isWarnEnabled()) return;
+		this.dispatch(LoggerLevel.WARNING, null, text, arguments);
 	}
 
 	@Override
 	public void warn(String text, Throwable throwable) {
-		if (!isWarnEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		if (!this.isWarnEnabled()) return;
+		this.dispatch(LoggerLevel.WARNING, null, text, 1, throwable, null);
 	}
 	//#endregion
 	//#region warn* [Marker]
@@ -424,102 +363,68 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger {
 	@Override
 	public void warn(org.slf4j.Marker marker, String text) {
 		if (!this.isWarnEnabled()) return;
-		this.warn(marker.getName() + ": " + text);
+		this.dispatch(LoggerLevel.WARNING, marker, text, 0, null, null);
 	}
 
 	@Override
 	public void warn(org.slf4j.Marker marker, String text, Object argument) {
 		if (!this.isWarnEnabled()) return;
-		this.warn(marker.getName() + ": " + text, argument);
+		this.dispatch(LoggerLevel.WARNING, marker, text, 1, argument, null);
 	}
 
 	@Override
 	public void warn(org.slf4j.Marker marker, String text, Object argument1, Object argument2) {
 		if (!this.isWarnEnabled()) return;
-		this.warn(marker.getName() + ": " + text, argument1, argument2);
+		this.dispatch(LoggerLevel.WARNING, marker, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void warn(org.slf4j.Marker marker, String text, Object... arguments) {
 		if (!this.isWarnEnabled()) return;
-		this.warn(marker.getName() + ": " + text, arguments);
+		this.dispatch(LoggerLevel.WARNING, marker, text, arguments);
 	}
 
 	@Override
 	public void warn(org.slf4j.Marker marker, String text, Throwable throwable) {
 		if (!this.isWarnEnabled()) return;
-		this.warn(marker.getName() + ": " + text, throwable);
+		this.dispatch(LoggerLevel.WARNING, marker, text, 1, throwable, null);
 	}
 	//#endregion
 
 	//#region error*
 	@Override
 	public boolean isErrorEnabled() {
-		return Logger.enabled(LoggerLevel.ERROR);
+		return this.handle.enabled(LoggerLevel.ERROR);
 	}
 
 	@Override
 	public void error(String text) {
-		if (!isErrorEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isErrorEnabled()) return;
+		this.dispatch(LoggerLevel.ERROR, null, text, 0, null, null);
 	}
 
 	@Override
 	public void error(String text, Object argument) {
-		if (!isErrorEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isErrorEnabled()) return;
+		this.dispatch(LoggerLevel.ERROR, null, text, 1, argument, null);
 	}
 
 	@Override
 	public void error(String text, Object argument1, Object argument2) {
-		if (!isErrorEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isErrorEnabled()) return;
+		this.dispatch(LoggerLevel.ERROR, null, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void error(String text, Object... arguments) {
-		if (!isErrorEnabled()) return;
-		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		LoggerMessage.builder()
-				.level(LoggerLevel.ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.dispatch();
+		if (!this.isErrorEnabled()) return;
+		this.dispatch(LoggerLevel.ERROR, null, text, arguments);
 	}
 
 	@Override
 	public void error(String text, Throwable throwable) {
-		if (!isErrorEnabled()) return;
-		LoggerMessage.builder()
-				.level(LoggerLevel.ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(this.name)
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		if (!this.isErrorEnabled()) return;
+		this.dispatch(LoggerLevel.ERROR, null, text, 1, throwable, null);
 	}
 	//#endregion
 	//#region error* [Marker]
@@ -531,31 +436,31 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger {
 	@Override
 	public void error(org.slf4j.Marker marker, String text) {
 		if (!this.isErrorEnabled()) return;
-		this.error(marker.getName() + ": " + text);
+		this.dispatch(LoggerLevel.ERROR, marker, text, 0, null, null);
 	}
 
 	@Override
 	public void error(org.slf4j.Marker marker, String text, Object argument) {
 		if (!this.isErrorEnabled()) return;
-		this.error(marker.getName() + ": " + text, argument);
+		this.dispatch(LoggerLevel.ERROR, marker, text, 1, argument, null);
 	}
 
 	@Override
 	public void error(org.slf4j.Marker marker, String text, Object argument1, Object argument2) {
 		if (!this.isErrorEnabled()) return;
-		this.error(marker.getName() + ": " + text, argument1, argument2);
+		this.dispatch(LoggerLevel.ERROR, marker, text, 2, argument1, argument2);
 	}
 
 	@Override
 	public void error(org.slf4j.Marker marker, String text, Object... arguments) {
 		if (!this.isErrorEnabled()) return;
-		this.error(marker.getName() + ": " + text, arguments);
+		this.dispatch(LoggerLevel.ERROR, marker, text, arguments);
 	}
 
 	@Override
 	public void error(org.slf4j.Marker marker, String text, Throwable throwable) {
 		if (!this.isErrorEnabled()) return;
-		this.error(marker.getName() + ": " + text, throwable);
+		this.dispatch(LoggerLevel.ERROR, marker, text, 1, throwable, null);
 	}
 	//#endregion
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package sirius.stellar.logging.dispatch.slf4j;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerEvents;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static java.lang.System.lineSeparator;
+import static java.lang.Thread.currentThread;
+import static sirius.stellar.logging.LoggerEvents.immutable;
+import static sirius.stellar.logging.LoggerEvents.traceback;
+
+/// Implementation of [LoggerEvent] that carries an SLF4J template and its
+/// arguments, so that formatting (with [org.slf4j.helpers.MessageFormatter],
+/// i.e. `{}` placeholders) is deferred until the message is known to be
+/// collected, as the events of [sirius.stellar.logging.Logger] do for its syntax
+/// (see [LoggerEvents]).
+///
+/// Up to two arguments are held in fields, so that the methods of SLF4J taking
+/// one or two arguments never allocate an array. As SLF4J does, a [Throwable]
+/// as the last argument is not formatted, and its stacktrace is appended.
+///
+/// Arguments known to be immutable are captured by reference, [Date]s as a
+/// copy, and any other argument (including arrays) is rendered, as SLF4J would
+/// render it, on the dispatching thread.
+final class Slf4jEvent implements LoggerEvent {
+
+	private final long epochNanos;
+	private final LoggerLevel level;
+	private final String thread;
+	private final String name;
+	private final LoggerAttributes attributes;
+
+	@Nullable
+	private final String template;
+	private final int count;
+	@Nullable
+	private final Object argument1;
+	@Nullable
+	private final Object argument2;
+	private final Object @Nullable [] arguments;
+	@Nullable
+	private final Throwable throwable;
+
+	@Nullable
+	private String text;
+
+	/// Create an event with up to two arguments, where the provided count is
+	/// the number of arguments provided (`0`, `1` or `2`).
+	Slf4jEvent(LoggerLevel level, String name, LoggerAttributes attributes, @Nullable String template, int count, @Nullable Object argument1, @Nullable Object argument2) {
+		this.epochNanos = LoggerEvents.epochNanos();
+		this.level = level;
+		this.thread = currentThread().getName();
+		this.name = name;
+		this.attributes = attributes;
+		this.template = template;
+
+		Object last = (count == 2) ? argument2 : (count == 1) ? argument1 : null;
+		if (last instanceof Throwable throwable) {
+			this.throwable = throwable;
+			count--;
+		} else {
+			this.throwable = null;
+		}
+
+		this.count = count;
+		this.argument1 = (count >= 1) ? capture(argument1) : null;
+		this.argument2 = (count >= 2) ? capture(argument2) : null;
+		this.arguments = null;
+	}
+
+	/// Create an event with the provided arguments (if any), and the provided
+	/// throwable, or if it is `null`, the last argument if it is a [Throwable].
+	Slf4jEvent(LoggerLevel level, String name, LoggerAttributes attributes, @Nullable String template, Object @Nullable [] arguments, @Nullable Throwable throwable) {
+		this.epochNanos = LoggerEvents.epochNanos();
+		this.level = level;
+		this.thread = currentThread().getName();
+		this.name = name;
+		this.attributes = attributes;
+		this.template = template;
+		this.argument1 = null;
+		this.argument2 = null;
+
+		int count = (arguments == null) ? 0 : arguments.length;
+		if (throwable == null && count > 0 && arguments[count - 1] instanceof Throwable last) {
+			throwable = last;
+			count--;
+		}
+		this.throwable = throwable;
+
+		if (count == 0) {
+			this.count = 0;
+			this.arguments = null;
+			return;
+		}
+		Object[] captured = new Object[count];
+		for (int i = 0; i < count; i++) captured[i] = capture(arguments[i]);
+		this.count = count;
+		this.arguments = captured;
+	}
+
+	@Override
+	public long epochNanos() {
+		return this.epochNanos;
+	}
+
+	@Override
+	public LoggerLevel level() {
+		return this.level;
+	}
+
+	@Override
+	public String thread() {
+		return this.thread;
+	}
+
+	@Override
+	public String name() {
+		return this.name;
+	}
+
+	@Override
+	public LoggerAttributes attributes() {
+		return this.attributes;
+	}
+
+	@Override
+	public String template() {
+		return (this.template == null) ? "" : this.template;
+	}
+
+	/// Returns the text content of the message, formatting it (and appending
+	/// the stacktrace of the throwable, if any) the first time this is invoked.
+	@Override
+	public String text() {
+		if (this.text != null) return this.text;
+
+		String text = (this.template == null) ? "" : this.template;
+		if (this.arguments != null) {
+			text = org.slf4j.helpers.MessageFormatter.basicArrayFormat(text, this.arguments);
+		} else if (this.count == 1) {
+			text = org.slf4j.helpers.MessageFormatter.format(text, this.argument1).getMessage();
+		} else if (this.count == 2) {
+			text = org.slf4j.helpers.MessageFormatter.format(text, this.argument1, this.argument2).getMessage();
+		}
+		if (this.throwable != null) text += lineSeparator() + traceback(this.throwable);
+		return this.text = text;
+	}
+
+	@Override
+	public LoggerMessage message() {
+		Instant time = Instant.ofEpochSecond(0L, this.epochNanos);
+		return new LoggerMessage(time, this.level, this.thread, this.name, this.text(), this.attributes);
+	}
+
+	@Override
+	public String toString() {
+		return this.message().toString();
+	}
+
+	/// Returns the provided argument, captured so that it can be formatted on
+	/// another thread (see [Slf4jEvent]).
+	private static @Nullable Object capture(@Nullable Object argument) {
+		if (argument == null || immutable(argument)) return argument;
+		if (argument instanceof Date date) return date.clone();
+		return org.slf4j.helpers.MessageFormatter.basicArrayFormat("{}", new Object[] {argument});
+	}
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package sirius.stellar.logging.dispatch.slf4j;
+
+import sirius.stellar.logging.LoggerAttributes;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/// Implementation of [org.slf4j.spi.MDCAdapter] used by [Slf4jDispatcher].
+///
+/// The context of every thread is held as immutable [LoggerAttributes] (and
+/// inherited by child threads), so that it can be attached to every message
+/// dispatched by that thread without being copied, see [#attributes()].
+///
+/// @author Mahied Maruf (mechite)
+/// @since 1.0
+public final class Slf4jMdcAdapter implements org.slf4j.spi.MDCAdapter {
+
+	private final InheritableThreadLocal<LoggerAttributes> attributes;
+	private final org.slf4j.helpers.ThreadLocalMapOfStacks stacks;
+
+	public Slf4jMdcAdapter() {
+		this.attributes = new InheritableThreadLocal<>() {
+			@Override
+			protected LoggerAttributes initialValue() {
+				return LoggerAttributes.empty();
+			}
+		};
+		this.stacks = new org.slf4j.helpers.ThreadLocalMapOfStacks();
+	}
+
+	/// Returns the context of the current thread.
+	public LoggerAttributes attributes() {
+		return this.attributes.get();
+	}
+
+	@Override
+	public void put(String key, String value) {
+		if (key == null) throw new IllegalArgumentException("Key cannot be null");
+		this.attributes.set(this.attributes.get().with(key, value));
+	}
+
+	@Override
+	public String get(String key) {
+		return this.attributes.get().get(key);
+	}
+
+	@Override
+	public void remove(String key) {
+		this.attributes.set(this.attributes.get().without(key));
+	}
+
+	@Override
+	public void clear() {
+		this.attributes.remove();
+	}
+
+	@Override
+	public Map<String, String> getCopyOfContextMap() {
+		return new HashMap<>(this.attributes.get().asMap());
+	}
+
+	@Override
+	public void setContextMap(Map<String, String> map) {
+		this.attributes.set(LoggerAttributes.of(map));
+	}
+
+	@Override
+	public void pushByKey(String key, String value) {
+		this.stacks.pushByKey(key, value);
+	}
+
+	@Override
+	public String popByKey(String key) {
+		return this.stacks.popByKey(key);
+	}
+
+	@Override
+	public Deque<String> getCopyOfDequeByKey(String key) {
+		return this.stacks.getCopyOfDequeByKey(key);
+	}
+
+	@Override
+	public void clearDequeByKey(String key) {
+		this.stacks.clearDequeByKey(key);
+	}
+}
\ No newline at end of file
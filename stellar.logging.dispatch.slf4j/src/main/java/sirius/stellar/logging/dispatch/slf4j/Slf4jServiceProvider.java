@@ -24,7 +24,7 @@ public final class Slf4jServiceProvider implements org.slf4j.spi.SLF4JServicePro
 	public void initialize() {
 		this.loggerFactory = new Slf4jDispatcherFactory();
 		this.markerFactory = new org.slf4j.helpers.BasicMarkerFactory();
-		this.mdcAdapter = new org.slf4j.helpers.BasicMDCAdapter();
+		this.mdcAdapter = new Slf4jMdcAdapter();
 	}
 
 	@Override
@@ -3,8 +3,14 @@ package sirius.stellar.logging.dispatch.slf4j;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import sirius.stellar.logging.LoggerMessage;
+
+import java.time.Instant;
+import java.util.Date;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static java.lang.System.lineSeparator;
 import static java.lang.Thread.onSpinWait;
 import static java.util.concurrent.locks.LockSupport.parkNanos;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,4 +30,54 @@ final class Slf4jDispatcherTest {
 		while (!received.get()) onSpinWait();
 		assertThat(received).isTrue();
 	}
+
+	@Test
+	void markers() {
+		var received = new AtomicReference<LoggerMessage>();
+		collector(message -> {
+			if (message.name().equals("sirius.stellar.Markers")) received.set(message);
+		});
+
+		var slf4j = org.slf4j.LoggerFactory.getLogger("sirius.stellar.Markers");
+		slf4j.info(org.slf4j.MarkerFactory.getMarker("AUDIT"), "Hello {} from {}", "there", "SLF4j");
+
+		while (received.get() == null) onSpinWait();
+		assertThat(received.get().text()).isEqualTo("Hello there from SLF4j");
+		assertThat(received.get().attributes().get(Slf4jDispatcher.MARKER)).isEqualTo("AUDIT");
+	}
+
+	@Test
+	void throwable() {
+		var received = new AtomicReference<LoggerMessage>();
+		collector(message -> {
+			if (message.name().equals("sirius.stellar.Throwable")) received.set(message);
+		});
+
+		var slf4j = org.slf4j.LoggerFactory.getLogger("sirius.stellar.Throwable");
+		slf4j.warn("Failed {}", "task", new IllegalStateException("boom"));
+
+		while (received.get() == null) onSpinWait();
+		assertThat(received.get().text()).startsWith("Failed task" + lineSeparator() + "java.lang.IllegalStateException: boom");
+	}
+
+	@Test
+	void deferred() {
+		var received = new AtomicReference<LoggerMessage>();
+		collector(message -> {
+			if (message.name().equals("sirius.stellar.Deferred")) received.set(message);
+		});
+
+		var mutable = new StringBuilder("before");
+		var date = new Date(0L);
+		Instant start = Instant.now();
+
+		var slf4j = org.slf4j.LoggerFactory.getLogger("sirius.stellar.Deferred");
+		slf4j.info("{} {}", mutable, date);
+		mutable.append(" after");
+		date.setTime(1_000_000_000L);
+
+		while (received.get() == null) onSpinWait();
+		assertThat(received.get().text()).isEqualTo("before " + new Date(0L));
+		assertThat(received.get().time()).isAfterOrEqualTo(start);
+	}
 }
\ No newline at end of file
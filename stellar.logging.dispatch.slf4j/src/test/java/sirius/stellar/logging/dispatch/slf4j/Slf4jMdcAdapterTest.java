@@ -0,0 +1,49 @@
+package sirius.stellar.logging.dispatch.slf4j;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerAttributes;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class Slf4jMdcAdapterTest {
+
+	@Test @DisplayName("attributes() returns the same snapshot until the context is modified")
+	void attributesSnapshot() {
+		var adapter = new Slf4jMdcAdapter();
+		adapter.put("request", "42");
+
+		var attributes = adapter.attributes();
+		assertThat(adapter.attributes()).isSameAs(attributes);
+		assertThat(attributes.get("request")).isEqualTo("42");
+
+		adapter.put("user", "lorem");
+		assertThat(adapter.attributes()).isNotSameAs(attributes);
+		assertThat(attributes.size()).isEqualTo(1);
+		assertThat(adapter.getCopyOfContextMap()).isEqualTo(Map.of("request", "42", "user", "lorem"));
+
+		adapter.remove("request");
+		adapter.clear();
+		assertThat(adapter.attributes()).isSameAs(LoggerAttributes.empty());
+	}
+
+	@Test @DisplayName("the context is held per thread, and inherited by child threads")
+	void attributesPerThread() throws InterruptedException {
+		var adapter = new Slf4jMdcAdapter();
+		adapter.put("request", "42");
+
+		var inherited = new AtomicReference<String>();
+		var thread = new Thread(() -> {
+			inherited.set(adapter.get("request"));
+			adapter.put("request", "43");
+		});
+		thread.start();
+		thread.join();
+
+		assertThat(inherited.get()).isEqualTo("42");
+		assertThat(adapter.get("request")).isEqualTo("42");
+	}
+}
\ No newline at end of file
@@ -1,40 +1,55 @@
 package sirius.stellar.logging.dispatch.tinylog;
 
+import sirius.stellar.logging.LoggerAttributes;
+
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /// Implementation of [org.tinylog.provider.ContextProvider] used by [TinylogDispatcher].
+///
+/// The context of every thread is held as immutable [LoggerAttributes] (and
+/// inherited by child threads), so that it can be attached to every message
+/// dispatched by that thread without being copied, see [#attributes()].
 final class TinylogContextProvider implements org.tinylog.provider.ContextProvider {
 
-	private final Map<String, String> map;
+	private final InheritableThreadLocal<LoggerAttributes> attributes;
 
 	TinylogContextProvider() {
-		this.map = new ConcurrentHashMap<>();
+		this.attributes = new InheritableThreadLocal<>() {
+			@Override
+			protected LoggerAttributes initialValue() {
+				return LoggerAttributes.empty();
+			}
+		};
+	}
+
+	/// Returns the context of the current thread.
+	LoggerAttributes attributes() {
+		return this.attributes.get();
 	}
 
 	@Override
 	public Map<String, String> getMapping() {
-		return this.map;
+		return this.attributes.get().asMap();
 	}
 
 	@Override
 	public String get(String key) {
-		return this.map.get(key);
+		return this.attributes.get().get(key);
 	}
 
 	@Override
 	public void put(String key, Object value) {
 		if (key == null || key.isEmpty() || key.isBlank()) throw new NullPointerException("Key must not be null, empty or blank");
-		this.map.put(key, String.valueOf(value));
+		this.attributes.set(this.attributes.get().with(key, String.valueOf(value)));
 	}
 
 	@Override
 	public void remove(String key) {
-		this.map.remove(key);
+		this.attributes.set(this.attributes.get().without(key));
 	}
 
 	@Override
 	public void clear() {
-		this.map.clear();
+		this.attributes.remove();
 	}
 }
\ No newline at end of file
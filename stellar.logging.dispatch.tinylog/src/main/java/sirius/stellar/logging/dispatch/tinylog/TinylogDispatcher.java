@@ -8,7 +8,6 @@ import sirius.stellar.logging.LoggerMessage;
 import java.time.Instant;
 import java.util.Locale;
 
-import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
 import static java.lang.Thread.currentThread;
 
 /// Implementation of [org.tinylog.provider.LoggingProvider] which dispatches to [Logger].
@@ -18,11 +17,13 @@ import static java.lang.Thread.currentThread;
 public final class TinylogDispatcher
 		implements org.tinylog.provider.LoggingProvider {
 
-	private static final StackWalker walker = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
+	private static final StackWalker walker = StackWalker.getInstance();
+
+	private final TinylogContextProvider context = new TinylogContextProvider();
 
 	@Override
 	public org.tinylog.provider.ContextProvider getContextProvider() {
-		return new TinylogContextProvider();
+		return this.context;
 	}
 
 	@Override
@@ -47,11 +48,10 @@ public final class TinylogDispatcher
 		if (level == null) return;
 		if (!isEnabled(depth, tag, level)) return;
 
-		int limit = (depth + 1);
-		String caller = walker.walk(stream -> stream.limit(limit)
-				.toList())
-				.get(depth)
-				.getClassName();
+		String caller = walker.walk(stream -> stream.skip(depth)
+				.findFirst()
+				.map(StackWalker.StackFrame::getClassName)
+				.orElse(null));
 		this.log(caller, tag, level, throwable, formatter, o, objects);
 	}
 
@@ -71,6 +71,7 @@ public final class TinylogDispatcher
 				.time(Instant.now())
 				.thread(currentThread().getName())
 				.name((caller != null) ? caller : "org.tinylog")
+				.attributes(this.context.attributes())
 				.text(text)
 				.throwable(throwable)
 				.dispatch();
@@ -0,0 +1,43 @@
+package sirius.stellar.logging.dispatch.tinylog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerAttributes;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TinylogContextProviderTest {
+
+	@Test @DisplayName("attributes() returns the same snapshot until the context is modified")
+	void attributesSnapshot() {
+		var provider = new TinylogContextProvider();
+		provider.put("request", 42);
+
+		var attributes = provider.attributes();
+		assertThat(provider.attributes()).isSameAs(attributes);
+		assertThat(provider.getMapping()).isEqualTo(Map.of("request", "42"));
+
+		provider.clear();
+		assertThat(provider.attributes()).isSameAs(LoggerAttributes.empty());
+	}
+
+	@Test @DisplayName("the context is held per thread, and inherited by child threads")
+	void attributesPerThread() throws InterruptedException {
+		var provider = new TinylogContextProvider();
+		provider.put("request", "42");
+
+		var inherited = new AtomicReference<String>();
+		var thread = new Thread(() -> {
+			inherited.set(provider.get("request"));
+			provider.put("request", "43");
+		});
+		thread.start();
+		thread.join();
+
+		assertThat(inherited.get()).isEqualTo("42");
+		assertThat(provider.get("request")).isEqualTo("42");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+module sirius.stellar.logging.jmx {
+	requires org.jspecify;
+	requires java.management;
+
+	requires sirius.stellar.logging;
+
+	exports sirius.stellar.logging.jmx;
+
+	provides sirius.stellar.logging.spi.LoggerExtension
+		with sirius.stellar.logging.jmx.JmxMetrics;
+}
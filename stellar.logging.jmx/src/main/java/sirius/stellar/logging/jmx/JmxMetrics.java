@@ -0,0 +1,161 @@
+package sirius.stellar.logging.jmx;
+
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMetrics;
+import sirius.stellar.logging.spi.LoggerExtension;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/// Implementation of [LoggerExtension] which exports the metrics of the logging
+/// system (see [Logger#metrics()]) as an MXBean, named [#NAME], registered with
+/// the platform MBean server.
+///
+/// Every attribute takes a new snapshot of the metrics when it is read, so
+/// nothing is recorded beyond what [Logger] records regardless.
+///
+/// @see LoggerMetricsMXBean
+/// @since 1.0
+public final class JmxMetrics implements LoggerExtension, LoggerMetricsMXBean {
+
+	/// The name that the MXBean is registered with.
+	public static final String NAME = "sirius.stellar.logging:type=Logger";
+
+	@Override
+	public void wire() {
+		try {
+			ObjectName name = new ObjectName(NAME);
+			var server = ManagementFactory.getPlatformMBeanServer();
+			if (!server.isRegistered(name)) server.registerMBean(this, name);
+		} catch (JMException exception) {
+			throw new IllegalStateException("Failed to register logger metrics MXBean", exception);
+		}
+	}
+
+	@Override
+	public Map<String, Long> getDispatched() {
+		return levels(Logger.metrics().dispatched());
+	}
+
+	@Override
+	public Map<String, Long> getEmitted() {
+		return levels(Logger.metrics().emitted());
+	}
+
+	@Override
+	public Map<String, Long> getDropped() {
+		return levels(Logger.metrics().dropped());
+	}
+
+	@Override
+	public Map<String, Long> getFailed() {
+		return levels(Logger.metrics().failed());
+	}
+
+	@Override
+	public int getDepth() {
+		return Logger.metrics().depth();
+	}
+
+	@Override
+	public int getPeakDepth() {
+		return Logger.metrics().peak();
+	}
+
+	@Override
+	public int getCapacity() {
+		return Logger.metrics().capacity();
+	}
+
+	@Override
+	public long getLatencyMean() {
+		return Logger.metrics().latency().mean();
+	}
+
+	@Override
+	public long getLatencyP50() {
+		return Logger.metrics().latency().p50();
+	}
+
+	@Override
+	public long getLatencyP99() {
+		return Logger.metrics().latency().p99();
+	}
+
+	@Override
+	public long getLatencyP999() {
+		return Logger.metrics().latency().p999();
+	}
+
+	@Override
+	public long getLatencyMaximum() {
+		return Logger.metrics().latency().maximum();
+	}
+
+	@Override
+	public Map<String, Long> getCollectorCollected() {
+		return collectors(LoggerMetrics.Collector::collected);
+	}
+
+	@Override
+	public Map<String, Long> getCollectorErrors() {
+		return collectors(LoggerMetrics.Collector::errors);
+	}
+
+	@Override
+	public Map<String, Long> getCollectorDropped() {
+		return collectors(LoggerMetrics.Collector::dropped);
+	}
+
+	@Override
+	public Map<String, Integer> getCollectorDepth() {
+		return collectors(LoggerMetrics.Collector::depth);
+	}
+
+	@Override
+	public Map<String, Long> getCollectorTimeMean() {
+		return collectors(collector -> collector.time().mean());
+	}
+
+	@Override
+	public Map<String, Long> getCollectorTimeP99() {
+		return collectors(collector -> collector.time().p99());
+	}
+
+	@Override
+	public Map<String, Long> getCollectorTimeMaximum() {
+		return collectors(collector -> collector.time().maximum());
+	}
+
+	@Override
+	public long getDrainTime() {
+		Duration drain = Logger.metrics().drain();
+		return (drain == null) ? -1L : drain.toNanos();
+	}
+
+	/// Returns the provided counts, keyed by the name of the level.
+	private static Map<String, Long> levels(Map<LoggerLevel, Long> counts) {
+		Map<String, Long> levels = new LinkedHashMap<>();
+		counts.forEach((level, count) -> levels.put(level.name(), count));
+		return levels;
+	}
+
+	/// Returns the provided metric of every collector, keyed by the class name
+	/// of the collector (suffixed with `#2`, `#3`, etc. if already present).
+	private static <T> Map<String, T> collectors(Function<LoggerMetrics.Collector, T> metric) {
+		Map<String, T> collectors = new LinkedHashMap<>();
+		for (LoggerMetrics.Collector collector : Logger.metrics().collectors()) {
+			String name = collector.collector().getClass().getName();
+			String key = name;
+			for (int i = 2; collectors.containsKey(key); i++) key = name + "#" + i;
+			collectors.put(key, metric.apply(collector));
+		}
+		return collectors;
+	}
+}
\ No newline at end of file
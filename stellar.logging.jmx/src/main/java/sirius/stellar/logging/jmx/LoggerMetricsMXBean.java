@@ -0,0 +1,81 @@
+package sirius.stellar.logging.jmx;
+
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerMetrics;
+
+import java.util.Map;
+
+/// The management interface of the metrics of the logging system, as exported
+/// by [JmxMetrics], where every attribute is read from [Logger#metrics()].
+///
+/// Counts per level are keyed by the name of the level, counts per collector
+/// are keyed by the class name of the collector, and every duration is in
+/// nanoseconds.
+///
+/// @see LoggerMetrics
+/// @since 1.0
+public interface LoggerMetricsMXBean {
+
+	/// @see LoggerMetrics#dispatched()
+	Map<String, Long> getDispatched();
+
+	/// @see LoggerMetrics#emitted()
+	Map<String, Long> getEmitted();
+
+	/// @see LoggerMetrics#dropped()
+	Map<String, Long> getDropped();
+
+	/// @see LoggerMetrics#failed()
+	Map<String, Long> getFailed();
+
+	/// @see LoggerMetrics#depth()
+	int getDepth();
+
+	/// @see LoggerMetrics#peak()
+	int getPeakDepth();
+
+	/// @see LoggerMetrics#capacity()
+	int getCapacity();
+
+	/// @see LoggerMetrics#latency()
+	long getLatencyMean();
+
+	/// @see LoggerMetrics#latency()
+	long getLatencyP50();
+
+	/// @see LoggerMetrics#latency()
+	long getLatencyP99();
+
+	/// @see LoggerMetrics#latency()
+	long getLatencyP999();
+
+	/// @see LoggerMetrics#latency()
+	long getLatencyMaximum();
+
+	/// @see LoggerMetrics.Collector#collected()
+	Map<String, Long> getCollectorCollected();
+
+	/// @see LoggerMetrics.Collector#errors()
+	Map<String, Long> getCollectorErrors();
+
+	/// @see LoggerMetrics.Collector#dropped()
+	Map<String, Long> getCollectorDropped();
+
+	/// @see LoggerMetrics.Collector#depth()
+	Map<String, Integer> getCollectorDepth();
+
+	/// @see LoggerMetrics.Collector#time()
+	Map<String, Long> getCollectorTimeMean();
+
+	/// @see LoggerMetrics.Collector#time()
+	Map<String, Long> getCollectorTimeP99();
+
+	/// @see LoggerMetrics.Collector#time()
+	Map<String, Long> getCollectorTimeMaximum();
+
+	/// Returns the time taken to drain the queue at shutdown, or `-1` if the
+	/// logger has not been shut down.
+	///
+	/// @see LoggerMetrics#drain()
+	long getDrainTime();
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package sirius.stellar.logging.jmx;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.Logger;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class JmxMetricsTest {
+
+	@Test @DisplayName("metrics are registered as an MXBean once the logger is initialized")
+	void registered() throws Exception {
+		Logger.information("Registering logger metrics");
+
+		var server = ManagementFactory.getPlatformMBeanServer();
+		var name = new ObjectName(JmxMetrics.NAME);
+
+		assertThat(server.isRegistered(name)).isTrue();
+		assertThat((Integer) server.getAttribute(name, "Capacity")).isPositive();
+		assertThat((Long) server.getAttribute(name, "DrainTime")).isEqualTo(-1L);
+	}
+}
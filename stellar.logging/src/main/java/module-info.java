@@ -5,8 +5,10 @@ module sirius.stellar.logging {
 	requires org.jspecify;
 	requires static sirius.stellar.annotation;
 
+	exports sirius.stellar.logging.concurrent;
 	exports sirius.stellar.logging.supplier;
 	exports sirius.stellar.logging.format;
+	exports sirius.stellar.logging.filter;
 	exports sirius.stellar.logging.spi;
 	exports sirius.stellar.logging;
 
@@ -2,20 +2,42 @@ package sirius.stellar.logging;
 
 import org.jspecify.annotations.Nullable;
 import sirius.stellar.annotation.Contract;
+import sirius.stellar.logging.concurrent.LoggerEventRing;
+import sirius.stellar.logging.concurrent.LoggerHistogram;
+import sirius.stellar.logging.concurrent.LoggerLane;
+import sirius.stellar.logging.concurrent.LoggerMeter;
+import sirius.stellar.logging.concurrent.LoggerOverflow;
+import sirius.stellar.logging.concurrent.LoggerRingBuffer;
 import sirius.stellar.logging.concurrent.LoggerScheduler;
+import sirius.stellar.logging.concurrent.LoggerWaitStrategy;
+import sirius.stellar.logging.fluent.DeferredLoggerEvent;
+import sirius.stellar.logging.fluent.MutableLoggerEvent;
 import sirius.stellar.logging.format.LoggerFormatter;
 import sirius.stellar.logging.spi.LoggerCollector;
 import sirius.stellar.logging.spi.LoggerDispatcher;
 import sirius.stellar.logging.spi.LoggerExtension;
+import sirius.stellar.logging.spi.LoggerFilter;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 import static java.lang.Runtime.getRuntime;
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
-import static java.lang.Thread.onSpinWait;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Locale.Category.FORMAT;
 import static java.util.ServiceLoader.load;
 import static java.util.concurrent.Executors.callable;
 import static java.util.concurrent.locks.LockSupport.parkNanos;
@@ -30,6 +52,33 @@ import static java.util.concurrent.locks.LockSupport.parkNanos;
 ///
 /// All logging methods (e.g. [Logger#information]) dispatch the same way, and
 /// are provided as a logging API / facade, for application or library logging.
+/// The same methods are provided by a [LoggerHandle] (see [#forClass(Class)]),
+/// which avoids walking the stack to find the caller for every message.
+///
+/// ### Queue
+/// Dispatched messages are queued in a bounded ring buffer, until they are
+/// collected. When the queue is full, the [LoggerOverflow] policy provided by
+/// the [LoggerScheduler] is applied (by default, waiting for capacity), and any
+/// messages discarded are counted, per level, by [#dropped(LoggerLevel)].
+///
+/// ### Filter
+/// Before a message is enqueued, it is evaluated by every registered
+/// [LoggerFilter] (see [#filter(LoggerFilter)]), any of which may reject it,
+/// e.g. to rate-limit or sample messages during a storm of the same message
+/// being logged. Filters periodically report the messages they have rejected,
+/// as synthetic messages, see [LoggerScheduler#reporting()].
+///
+/// ### Garbage-free
+/// If enabled by [LoggerScheduler#garbageFree()], messages logged through the
+/// methods of this class are written into pre-allocated, reusable events in a
+/// separate ring, and collected as [LoggerEvent]s, instead of allocating a
+/// [LoggerMessage] (and builder) for every message. Messages dispatched by
+/// [LoggerDispatcher]s, or while that ring is full, still use the queue.
+///
+/// Events are collected directly by the thread collecting messages, unless
+/// lanes are enabled, in which case every event is copied into a message for
+/// the lanes (so that a collector that stalls still does not delay any of the
+/// others), and only the dispatching thread remains garbage-free.
 ///
 /// ### Collect
 /// Collectors that consume messages from this logging system, e.g. for sending
@@ -37,22 +86,91 @@ import static java.util.concurrent.locks.LockSupport.parkNanos;
 /// interface, and either registered with e.g. [#collector], or by being
 /// provided as [LoggerExtension] SPI providers.
 ///
+/// Messages are drained from the queue in batches (up to the size provided by
+/// [LoggerScheduler#batch()]), and every collector is invoked once per batch
+/// with [LoggerCollector#collect(List)].
+///
+/// If enabled by [LoggerScheduler#lanes()] (the default), every collector is
+/// given its own [LoggerLane], which every batch is fanned out to, so that a
+/// collector that stalls does not delay any of the other collectors, until its
+/// lane is full (when the [LoggerOverflow] policy is applied to the lane).
+///
+/// ### Metrics
+/// The logging system measures itself (the number of messages dispatched and
+/// collected, the depth of the queue, the latency of collection, and the time
+/// spent in every collector), see [#metrics()]. A collector that throws, or a
+/// message that throws while being formatted, is counted by the metrics,
+/// rather than stopping the collection of messages.
+///
+/// ### Severity
+/// Whether a level is logged is determined by the severity of the logger, see
+/// [#severity(int)], which can be overridden for loggers by name (hierarchically,
+/// e.g. for every logger of a package), see [#severities(Map)]. The severity of
+/// every [LoggerHandle] is resolved once, and again only when the severities
+/// change, so checking whether a level is enabled for a handle is a single read.
+///
 /// @since 1.0
 public final class Logger extends LoggerMethods {
 
 	private static final LoggerFormatter formatter = LoggerFormatter.create();
+	private static final ClassValue<LoggerHandle> handles = new ClassValue<>() {
+		@Override
+		protected LoggerHandle computeValue(Class<?> type) {
+			return forName(type.getName());
+		}
+	};
+	private static final Map<String, LoggerHandle> named = new ConcurrentHashMap<>();
 	private static final LoggerScheduler scheduler = LoggerScheduler.create();
 
-	private static final BlockingDeque<LoggerMessage> deque = new LinkedBlockingDeque<>();
-	private static final Set<LoggerCollector> collectors = ConcurrentHashMap.newKeySet();
+	private static final LoggerWaitStrategy waiting = scheduler.waiting();
+	private static final LoggerRingBuffer<LoggerEvent> ring = new LoggerRingBuffer<>(scheduler.capacity(), waiting);
+	private static final LoggerOverflow overflow = scheduler.overflow();
+	private static final LoggerOverflow.Queue queue = new OverflowQueue();
+
+	@Nullable
+	private static final LoggerEventRing<MutableLoggerEvent> events = scheduler.garbageFree()
+		? new LoggerEventRing<>(scheduler.capacity(), MutableLoggerEvent::new)
+		: null;
+
+	private static final Map<LoggerCollector, LoggerMeter> collectors = new ConcurrentHashMap<>();
+	private static final List<LoggerDispatcher> dispatchers = new CopyOnWriteArrayList<>();
+	private static final Map<LoggerCollector, LoggerLane> lanes = new ConcurrentHashMap<>();
+	private static volatile LoggerMeter[] registered = new LoggerMeter[0];
+
+	private static final CopyOnWriteArrayList<LoggerFilter> filtering = new CopyOnWriteArrayList<>();
+	private static final AtomicBoolean reporting = new AtomicBoolean();
+	private static volatile LoggerFilter[] filters = new LoggerFilter[0];
+
+	private static final LongAdder[] dispatched = new LongAdder[LoggerLevel.values().length];
+	private static final LongAdder[] emitted = new LongAdder[LoggerLevel.values().length];
+	private static final LongAdder[] dropped = new LongAdder[LoggerLevel.values().length];
+	private static final LongAdder[] failed = new LongAdder[LoggerLevel.values().length];
+	private static final LoggerHistogram latency = new LoggerHistogram();
+	private static volatile int peak = 0;
+	private static volatile long drained = -1L;
+
+	@Nullable
+	private static volatile Thread poller;
+	private static final CountDownLatch polled = new CountDownLatch(1);
 
 	private static volatile boolean closing = false;
-	private static int severity = Integer.MAX_VALUE;
+	private static volatile LoggerSeverities severities = new LoggerSeverities(Integer.MAX_VALUE, Map.of());
+	private static volatile int severity = Integer.MAX_VALUE;
 
 	static {
+		for (int i = 0; i < dropped.length; i++) {
+			dispatched[i] = new LongAdder();
+			emitted[i] = new LongAdder();
+			dropped[i] = new LongAdder();
+			failed[i] = new LongAdder();
+		}
+
 		try {
 			ServiceLoader<LoggerExtension> loader = load(LoggerExtension.class);
-			for (LoggerExtension extension : loader) extension.wire();
+			for (LoggerExtension extension : loader) {
+				extension.wire();
+				if (extension instanceof LoggerDispatcher dispatcher) dispatchers.add(dispatcher);
+			}
 		} catch (Throwable throwable) {
 			throw new IllegalStateException("Failed to wire logger extensions", throwable);
 		}
@@ -61,56 +179,208 @@ public final class Logger extends LoggerMethods {
 		getRuntime().addShutdownHook(new Thread(Logger::close));
 	}
 
-	/// Repeatedly visit the queue, blocking for the next message, then submit
-	/// to all collectors for consumption, until the thread is interrupted.
+	/// Repeatedly drain a batch of messages from the queue (and of events, if
+	/// garbage-free), waiting for the first message, then submit the batch to
+	/// all collectors for consumption, until the thread is interrupted, or the
+	/// logger is closing and the queue has been emptied.
 	private static void poll() {
-		while (!currentThread().isInterrupted() && !closing) {
-			LoggerMessage message = take();
-			if (message == null) continue;
+		poller = currentThread();
+		try {
+			int size = Math.max(1, scheduler.batch());
+			long linger = scheduler.linger().toNanos();
+
+			List<LoggerMessage> batch = new ArrayList<>(size);
+			List<LoggerMessage> view = unmodifiableList(batch);
+
+			while (!currentThread().isInterrupted()) {
+				if (!await()) break;
+				peak = Math.max(peak, ring.size());
+				collect(size);
+
+				drain(batch, size, linger);
+				if (batch.isEmpty()) continue;
+
+				try {
+					if (scheduler.lanes()) {
+						for (LoggerLane lane : lanes.values()) {
+							for (LoggerMessage message : batch) lane.offer(message);
+						}
+						continue;
+					}
+
+					LoggerMeter[] snapshot = registered;
+					if (scheduler.parallel()) {
+						scheduler.invokeAll(Stream.of(snapshot)
+							.map(it -> callable(() -> it.collect(view)))
+							.toList());
+						continue;
+					}
+
+					for (LoggerMeter meter : snapshot) meter.collect(view);
+				} catch (InterruptedException exception) {
+					throw new IllegalStateException("Thread interrupted while collecting", exception);
+				} finally {
+					batch.clear();
+				}
+			}
+		} finally {
+			polled.countDown();
+		}
+	}
+
+	/// Wait for a message to be queued (or an event to be published, if
+	/// garbage-free).
+	///
+	/// @return `false` if there are no messages left to collect, as the thread
+	/// was interrupted, or the logger is closing and the queue is empty
+	private static boolean await() {
+		int attempt = 0;
+		while (ring.isEmpty() && (events == null || events.isEmpty())) {
+			if (currentThread().isInterrupted()) return false;
+			if (closing) return false;
+			attempt = waiting.idle(attempt);
+		}
+		return true;
+	}
+
+	/// Drain messages from the queue into the provided batch, then wait for up
+	/// to the provided number of nanoseconds for the batch to fill up to the
+	/// provided size. This returns immediately if the queue is empty.
+	///
+	/// Messages that should not be collected (see [#collectable]) are skipped,
+	/// so the batch may be empty after draining. Any message with deferred
+	/// formatting (see [DeferredLoggerEvent]) is formatted as it is drained.
+	private static void drain(List<LoggerMessage> batch, int size, long linger) {
+		LoggerEvent event = ring.poll();
+		if (event == null) return;
+		add(batch, event);
+
+		long deadline = nanoTime() + linger;
+		int attempt = 0;
+
+		for (int i = 1; i < size; i++) {
+			while ((event = ring.poll()) == null) {
+				if (linger == 0L || closing || nanoTime() - deadline >= 0L) return;
+				attempt = waiting.idle(attempt);
+			}
+			add(batch, event);
+		}
+	}
+
+	/// Add an immutable copy of the provided event to the provided batch, if it
+	/// should be collected (see [#collectable]), formatting it if it is deferred.
+	///
+	/// If formatting throws, the message is added with the text of
+	/// [LoggerEvents#unformatted] instead, and counted as failed (see
+	/// [LoggerMetrics#failed()]), so that it never stops the collection of
+	/// messages.
+	private static void add(List<LoggerMessage> batch, LoggerEvent event) {
+		if (!enabled(event.name(), event.level())) return;
+
+		LoggerMessage message;
+		try {
+			message = event.message();
+		} catch (RuntimeException exception) {
+			failed[event.level().ordinal()].increment();
+			String text = LoggerEvents.unformatted(event.template(), exception);
+			message = new LoggerMessage(event.time(), event.level(), event.thread(), event.name(), text, event.attributes());
+		}
+		if (collectable(message)) batch.add(message);
+	}
+
+	/// Collect up to the provided number of events, if garbage-free, formatting
+	/// every event and submitting it to all collectors directly (or copying it
+	/// to every lane, if lanes are enabled), and then releasing its slot.
+	private static void collect(int size) {
+		if (events == null) return;
+		LoggerMeter[] snapshot = registered;
+		Locale locale = Locale.getDefault(FORMAT);
+		boolean laned = scheduler.lanes();
+
+		for (int i = 0; i < size; i++) {
+			long position = events.next();
+			if (position < 0L) return;
 
 			try {
-				String text = message.text();
-				if (text.isBlank() || text.equals("null")) continue;
+				MutableLoggerEvent event = events.get(position);
+				if (!event.render(formatter, locale)) failed[event.level().ordinal()].increment();
+				if (!collectable(event)) continue;
 
-				if (scheduler.parallel()) {
-					scheduler.invokeAll(collectors.stream()
-						.map(it -> callable(() -> it.collect(message)))
-						.toList());
+				if (laned) {
+					LoggerMessage message = event.message();
+					for (LoggerLane lane : lanes.values()) lane.offer(message);
 					continue;
 				}
-
-				collectors.forEach(it -> it.collect(message));
+				for (LoggerMeter meter : snapshot) meter.collect(event);
 			} catch (InterruptedException exception) {
 				throw new IllegalStateException("Thread interrupted while collecting", exception);
+			} finally {
+				events.release(position);
 			}
 		}
 	}
 
-	/// Retrieve and remove the head of the logging queue.
-	/// This will block until a message is available.
-	@Nullable
-	private static LoggerMessage take() {
+	/// Returns whether the provided message should be submitted to collectors,
+	/// i.e. the level is enabled, and the text is neither blank nor `"null"`.
+	///
+	/// If so, the message is counted as emitted, and the time since it was
+	/// dispatched is recorded as the latency of collection.
+	private static boolean collectable(LoggerEvent event) {
+		if (!enabled(event.name(), event.level())) return false;
+
+		CharSequence text = event.text();
+		if ("null".contentEquals(text)) return false;
+
+		for (int i = 0; i < text.length(); i++) {
+			if (Character.isWhitespace(text.charAt(i))) continue;
+
+			emitted[event.level().ordinal()].increment();
+			latency.record(LoggerEvents.epochNanos() - event.epochNanos());
+			return true;
+		}
+		return false;
+	}
+
+	/// Repeatedly report the messages rejected by every filter, at the provided
+	/// interval (see [LoggerScheduler#reporting()]), until the thread is
+	/// interrupted, or the logger is closing (which reports for the last time
+	/// itself).
+	static void report(Duration interval) {
+		long nanos = interval.toNanos();
+		while (!currentThread().isInterrupted()) {
+			parkNanos(nanos);
+			if (closing) return;
+			for (LoggerFilter filter : filters) report(filter);
+		}
+	}
+
+	/// Report the messages rejected by the provided filter. A filter that
+	/// throws (or a report enqueued as the logger is closing) is ignored, so
+	/// that it can never stop the other filters, or any later report.
+	private static void report(LoggerFilter filter) {
 		try {
-			LoggerMessage message = deque.take();
-			if (!enabled(message.level())) return null;
-			return message;
-		} catch (InterruptedException exception) {
-			return null;
+			filter.report(Logger::enqueue);
+		} catch (RuntimeException exception) {
+			assert true;
 		}
 	}
 
-	/// Shut down the logging system. This will wait for all collectors to
-	/// consume their last logs. This is registered as a JVM shutdown hook.
+	/// Shut down the logging system. This will wait for the queue to be drained,
+	/// and for all collectors to consume their last logs.
+	/// This is registered as a JVM shutdown hook.
 	private static void close() {
 		try {
+			long start = nanoTime();
+			for (LoggerFilter filter : filters) report(filter);
 			closing = true;
-			while (!deque.isEmpty()) {
-				onSpinWait();
-				parkNanos(100L);
-			}
+			if (poller != null) polled.await();
+
+			lanes.values().forEach(LoggerLane::close);
+			for (LoggerLane lane : lanes.values()) lane.await();
+			drained = nanoTime() - start;
 
 			scheduler.close();
-			collectors.forEach(LoggerCollector::close);
+			collectors.keySet().forEach(LoggerCollector::close);
 		} catch (Throwable throwable) {
 			throw new IllegalStateException("Failed to shutdown logger", throwable);
 		}
@@ -118,33 +388,239 @@ public final class Logger extends LoggerMethods {
 
 	/// Dispatch (enqueue) the provided message.
 	///
+	/// This never acquires a lock; if the queue is full, the [LoggerOverflow]
+	/// policy of the [LoggerScheduler] is applied. Messages that are dispatched
+	/// by collectors themselves (i.e. on the thread collecting messages, or on
+	/// the worker of a [LoggerLane]) are always discarded when the queue is
+	/// full, as waiting might never end.
+	///
+	/// Every registered [LoggerFilter] is evaluated first, and a message that
+	/// any of them rejects is never enqueued.
+	///
 	/// @see LoggerMessage#builder() (creating a message)
 	/// @see LoggerDispatcher#message() (convenience method)
 	/// @see LoggerMethods (application logging)
 	///
 	/// @since 1.0
 	public static void dispatch(LoggerMessage message) {
+		dispatch((LoggerEvent) message);
+	}
+
+	/// Dispatch (enqueue) the provided event, which must not be modified once
+	/// it has been dispatched, e.g. a [DeferredLoggerEvent], which is formatted
+	/// only once it is known to be collected.
+	///
+	/// @see #dispatch(LoggerMessage)
+	/// @since 1.0
+	public static void dispatch(LoggerEvent event) {
+		if (!accepted(event.level(), event.name(), event.template())) return;
+		enqueue(event);
+	}
+
+	/// Returns whether a message with the provided level, logger name and
+	/// template is accepted by every registered filter, which is evaluated once
+	/// per message, before it is enqueued (or published, if garbage-free).
+	///
+	/// @see LoggerFilter#test
+	static boolean accepted(LoggerLevel level, String name, String template) {
+		for (LoggerFilter filter : filters) {
+			if (!filter.test(level, name, template)) return false;
+		}
+		return true;
+	}
+
+	/// Enqueue the provided event, without evaluating any filters.
+	///
+	/// @see #dispatch(LoggerEvent)
+	static void enqueue(LoggerEvent event) {
 		try {
 			if (closing) throw new IllegalStateException("Attempt to dispatch message at shutdown");
-			deque.put(message);
+			dispatched[event.level().ordinal()].increment();
+			if (ring.offer(event)) return;
+
+			if (collecting()) {
+				queue.discard(event);
+				return;
+			}
+			overflow.overflow(queue, event);
 		} catch (InterruptedException exception) {
 			throw new IllegalStateException("Interrupted while dispatching message", exception);
 		}
 	}
 
+	/// Returns whether the current thread is collecting messages, i.e. it is
+	/// the thread polling the queue, or the worker of a [LoggerLane], either
+	/// of which the thread polling the queue may be waiting for.
+	private static boolean collecting() {
+		Thread current = currentThread();
+		if (current == poller) return true;
+		for (LoggerLane lane : lanes.values()) {
+			if (lane.worker() == current) return true;
+		}
+		return false;
+	}
+
+	/// Write a message logged through the methods of this class into the next
+	/// slot of the ring of events, if garbage-free.
+	///
+	/// @return `false` if the message must be dispatched as a [LoggerMessage]
+	/// instead, as the logger is not garbage-free, or the ring is full (so that
+	/// the [LoggerOverflow] policy is applied)
+	static boolean publish(LoggerLevel level, long epochNanos, String thread, String name, @Nullable String text, Object @Nullable [] arguments, @Nullable Throwable throwable) {
+		if (events == null) return false;
+		if (closing) throw new IllegalStateException("Attempt to dispatch message at shutdown");
+
+		long position = events.claim();
+		if (position < 0L) return false;
+
+		try {
+			events.get(position).set(epochNanos, level, thread, name, text, arguments, throwable);
+		} finally {
+			events.publish(position);
+		}
+		dispatched[level.ordinal()].increment();
+		return true;
+	}
+
+	/// Returns the lanes of all registered collectors, e.g. for inspecting the
+	/// depth of each lane, or the number of messages each lane has discarded.
+	/// This is empty if lanes are not enabled by [LoggerScheduler#lanes()].
+	///
+	/// @since 1.0
+	public static Collection<LoggerLane> lanes() {
+		return unmodifiableCollection(lanes.values());
+	}
+
+	/// Returns the number of messages of the provided level that have been
+	/// discarded since startup, as the queue of messages (or the [LoggerLane]
+	/// of a collector) was full.
+	///
+	/// @see LoggerOverflow
+	/// @since 1.0
+	public static long dropped(LoggerLevel level) {
+		return dropped[level.ordinal()].sum();
+	}
+
+	/// Returns a snapshot of the metrics of the logging system, i.e. of the
+	/// queue and of every registered collector.
+	///
+	/// Every metric is recorded without locking or allocating, regardless of
+	/// whether this is ever invoked, so this can be polled (e.g. exported as
+	/// JMX MBeans) at any rate.
+	///
+	/// @since 1.0
+	public static LoggerMetrics metrics() {
+		List<LoggerMetrics.Collector> metered = new ArrayList<>();
+		for (LoggerMeter meter : registered) {
+			LoggerLane lane = lanes.get(meter.collector());
+			metered.add(new LoggerMetrics.Collector(
+				meter.collector(),
+				meter.collected(),
+				meter.errors(),
+				meter.time().snapshot(),
+				(lane == null) ? 0 : lane.depth(),
+				(lane == null) ? 0L : lane.dropped()
+			));
+		}
+
+		long drained = Logger.drained;
+		int depth = ring.size();
+		return new LoggerMetrics(
+			counts(dispatched),
+			counts(emitted),
+			counts(dropped),
+			counts(failed),
+			depth,
+			Math.max(peak, depth),
+			ring.capacity(),
+			latency.snapshot(),
+			unmodifiableList(metered),
+			(drained < 0L) ? null : Duration.ofNanos(drained)
+		);
+	}
+
+	/// Returns the sums of the provided counters, per level.
+	private static Map<LoggerLevel, Long> counts(LongAdder[] counters) {
+		Map<LoggerLevel, Long> counts = new EnumMap<>(LoggerLevel.class);
+		for (LoggerLevel level : LoggerLevel.values()) counts.put(level, counters[level.ordinal()].sum());
+		return unmodifiableMap(counts);
+	}
+
+	/// Returns a [LoggerHandle] for the provided class, which provides the same
+	/// logging methods as this class, but uses the name of the provided class
+	/// rather than walking the stack to find the caller of every method.
+	///
+	/// Handles are cached, so the same handle is returned for the same class.
+	///
+	/// @since 1.0
+	public static LoggerHandle forClass(Class<?> type) {
+		return handles.get(type);
+	}
+
+	/// Returns a [LoggerHandle] for the provided logger name, e.g. for a
+	/// dispatcher that creates a logger per name, so that it can check whether
+	/// a level is enabled for that name without resolving the name every time.
+	///
+	/// Handles are cached, so the same handle is returned for the same name.
+	///
+	/// @since 1.0
+	public static LoggerHandle forName(String name) {
+		LoggerHandle handle = named.get(name);
+		if (handle != null) return handle;
+
+		synchronized (named) {
+			return named.computeIfAbsent(name, key -> new LoggerHandle(key, severities.severity(key)));
+		}
+	}
+
 	//#region #severity and #enabled*
 	/// Set the severity of the logger to the provided value.
 	/// If the severity of a message is above this value, it will not be emitted.
 	///
+	/// This applies to every logger that no severity is set for by name,
+	/// see [#severities(Map)].
+	///
 	/// @see LoggerLevel
 	/// @since 1.0
 	public static void severity(int value) {
-		if (value < -1) throw new UnsupportedOperationException("Logger severity must be between -1 and " + Integer.MAX_VALUE);
-		severity = value;
+		synchronized (named) {
+			compile(new LoggerSeverities(value, severities.named()));
+		}
+	}
+
+	/// Set the severities of the loggers with the provided names, replacing
+	/// any severities previously set by name, e.g. `Map.of("com.example.*", 1)`.
+	/// If the severity of a message is above the value for its logger, it will
+	/// not be emitted.
+	///
+	/// Names are hierarchical, by segments separated by `.`: the severity set
+	/// for the longest name that equals the name of a logger, or that the name
+	/// of the logger is below, applies to it, otherwise [#severity(int)] does.
+	/// A name may end with `.*`, which is equivalent to the name without it, and
+	/// `*` applies to every logger.
+	///
+	/// @throws UnsupportedOperationException any severity is below `-1`
+	/// @see LoggerLevel
+	/// @since 1.0
+	public static void severities(Map<String, Integer> values) {
+		synchronized (named) {
+			compile(new LoggerSeverities(severities.root(), values));
+		}
+	}
+
+	/// Applies the provided severities, resolving the severity of every handle,
+	/// and then refreshing every dispatcher (see [LoggerDispatcher#refresh()]).
+	/// This must be invoked while synchronized on [#named].
+	private static void compile(LoggerSeverities compiled) {
+		severities = compiled;
+		severity = compiled.maximum();
+		for (LoggerHandle handle : named.values()) handle.severity(compiled.severity(handle.name()));
+		for (LoggerDispatcher dispatcher : dispatchers) dispatcher.refresh();
 	}
 
-	/// Returns whether the severity of the logger allows for the provided
-	/// level to be logged.
+	/// Returns whether the severity of any logger allows for the provided
+	/// level to be logged; whether it is allowed for a specific logger is
+	/// determined by [#enabled(String, LoggerLevel)] or [LoggerHandle#enabled].
 	///
 	/// @see Logger#enabled(int)
 	/// @since 1.0
@@ -152,7 +628,7 @@ public final class Logger extends LoggerMethods {
 		return level.severity() <= severity;
 	}
 
-	/// Returns whether the severity of the logger allows for the provided level
+	/// Returns whether the severity of any logger allows for the provided level
 	/// (as an integer value) to be logged.
 	///
 	/// Prefer to use the enumeration based method where possible.
@@ -164,6 +640,25 @@ public final class Logger extends LoggerMethods {
 	public static boolean enabled(int level) {
 		return level <= severity;
 	}
+
+	/// Returns whether the severity of the logger with the provided name
+	/// allows for the provided level to be logged.
+	///
+	/// Unless any severities are set by name, this does not resolve the name;
+	/// otherwise, the name is resolved every time, unless a handle already
+	/// exists for it (no handle is created, so checking arbitrary names does
+	/// not retain them), so prefer to check a [LoggerHandle] (see [#forName(String)]).
+	///
+	/// @see LoggerHandle#enabled(LoggerLevel)
+	/// @since 1.0
+	public static boolean enabled(String name, LoggerLevel level) {
+		LoggerSeverities severities = Logger.severities;
+		if (severities.uniform()) return level.severity() <= severity;
+
+		LoggerHandle handle = named.get(name);
+		if (handle != null) return handle.enabled(level);
+		return level.severity() <= severities.severity(name);
+	}
 	//#endregion
 
 	//#region #format*
@@ -212,8 +707,14 @@ public final class Logger extends LoggerMethods {
 	/// @see #collectors
 	/// @since 1.0
 	public static void collector(LoggerCollector collector) {
-		boolean added = collectors.add(collector);
-		if (!added) throw new UnsupportedOperationException("Cannot register the same collector twice");
+		LoggerMeter meter = new LoggerMeter(collector);
+		if (collectors.putIfAbsent(collector, meter) != null) throw new UnsupportedOperationException("Cannot register the same collector twice");
+		registered = collectors.values().toArray(LoggerMeter[]::new);
+		if (!scheduler.lanes()) return;
+
+		LoggerLane lane = new LoggerLane(meter, scheduler, queue::discard);
+		lanes.put(collector, lane);
+		scheduler.execute(lane);
 	}
 
 	/// Registers the provided collectors to run when messages are being logged.
@@ -242,6 +743,81 @@ public final class Logger extends LoggerMethods {
 	/// @since 1.0
 	public static void collectorRemove(LoggerCollector collector) {
 		collectors.remove(collector);
+		registered = collectors.values().toArray(LoggerMeter[]::new);
+
+		LoggerLane lane = lanes.remove(collector);
+		if (lane != null) lane.close();
 	}
 	//#endregion
+
+	//#region #filter*
+	/// Registers the provided filter to evaluate every message before it is
+	/// enqueued, after every filter that has already been registered.
+	///
+	/// Generally, a filter should be an SPI provider ([LoggerExtension]).
+	/// This can be used instead, for testing purposes or small applications.
+	///
+	/// @throws UnsupportedOperationException filter already registered
+	/// @see LoggerFilter
+	/// @since 1.0
+	public static void filter(LoggerFilter filter) {
+		synchronized (filtering) {
+			if (!filtering.addIfAbsent(filter)) throw new UnsupportedOperationException("Cannot register the same filter twice");
+			filters = filtering.toArray(LoggerFilter[]::new);
+		}
+		if (reporting.compareAndSet(false, true)) scheduler.execute(() -> report(scheduler.reporting()));
+	}
+
+	/// Remove/unregister the provided filter, which must match the filter as
+	/// either provided to [#filter], or created internally by the discovery of
+	/// the filter as an SPI ([LoggerExtension]). The filter reports the messages
+	/// it has rejected for the last time, once it has been removed.
+	///
+	/// The check is performed using [Object#equals].
+	/// @since 1.0
+	public static void filterRemove(LoggerFilter filter) {
+		synchronized (filtering) {
+			if (!filtering.remove(filter)) return;
+			filters = filtering.toArray(LoggerFilter[]::new);
+		}
+		if (!closing) report(filter);
+	}
+	//#endregion
+
+	/// Implementation of [LoggerOverflow.Queue] over the queue of [Logger].
+	private static final class OverflowQueue implements LoggerOverflow.Queue {
+
+		@Override
+		public boolean offer(LoggerEvent event) {
+			return ring.offer(event);
+		}
+
+		@Override
+		public boolean offer(LoggerEvent event, long nanos) throws InterruptedException {
+			return ring.put(event, nanos);
+		}
+
+		@Override
+		public void put(LoggerEvent event) throws InterruptedException {
+			ring.put(event);
+		}
+
+		@Override
+		@Nullable
+		public LoggerEvent poll() {
+			return ring.poll();
+		}
+
+		@Override
+		public void collect(LoggerEvent event) {
+			if (!collectable(event)) return;
+			LoggerMessage message = event.message();
+			for (LoggerMeter meter : registered) meter.collect(message);
+		}
+
+		@Override
+		public void discard(LoggerEvent event) {
+			dropped[event.level().ordinal()].increment();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package sirius.stellar.logging;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// Represents the attributes of a [LoggerMessage], i.e. structured key-value
+/// fields, such as the mapped diagnostic context of the thread that dispatched
+/// the message, which collectors may emit as fields of their own (e.g. JSON).
+///
+/// This is immutable, and stored as a single flat array of alternating keys
+/// and values; every modification returns a copy, so an instance can be held
+/// by a context (e.g. per thread) and attached to any number of messages
+/// without being copied.
+///
+/// @since 1.0
+public final class LoggerAttributes {
+
+	private static final LoggerAttributes EMPTY = new LoggerAttributes(new String[0]);
+
+	private final String[] entries;
+
+	private LoggerAttributes(String[] entries) {
+		this.entries = entries;
+	}
+
+	/// Returns attributes with no entries.
+	public static LoggerAttributes empty() {
+		return EMPTY;
+	}
+
+	/// Returns attributes with an entry for every mapping of the provided map,
+	/// with the values converted with [String#valueOf(Object)]. Mappings with
+	/// a `null` key or value are skipped.
+	public static LoggerAttributes of(@Nullable Map<String, ?> map) {
+		if (map == null || map.isEmpty()) return EMPTY;
+
+		String[] entries = new String[map.size() * 2];
+		int length = 0;
+		for (Map.Entry<String, ?> entry : map.entrySet()) {
+			if (entry.getKey() == null || entry.getValue() == null) continue;
+			entries[length++] = entry.getKey();
+			entries[length++] = String.valueOf(entry.getValue());
+		}
+
+		if (length == 0) return EMPTY;
+		return new LoggerAttributes(length == entries.length ? entries : Arrays.copyOf(entries, length));
+	}
+
+	/// Returns a copy of these attributes, with the provided key mapped to the
+	/// provided value (converted with [String#valueOf(Object)]), replacing any
+	/// existing entry with that key, or removing it if the value is `null`.
+	public LoggerAttributes with(String key, @Nullable Object value) {
+		if (value == null) return this.without(key);
+
+		int index = this.index(key);
+		if (index != -1) {
+			String[] entries = this.entries.clone();
+			entries[index + 1] = String.valueOf(value);
+			return new LoggerAttributes(entries);
+		}
+
+		String[] entries = Arrays.copyOf(this.entries, this.entries.length + 2);
+		entries[this.entries.length] = key;
+		entries[this.entries.length + 1] = String.valueOf(value);
+		return new LoggerAttributes(entries);
+	}
+
+	/// Returns a copy of these attributes without any entry with the provided
+	/// key, or these attributes if there is no such entry.
+	public LoggerAttributes without(String key) {
+		int index = this.index(key);
+		if (index == -1) return this;
+		if (this.entries.length == 2) return EMPTY;
+
+		String[] entries = new String[this.entries.length - 2];
+		System.arraycopy(this.entries, 0, entries, 0, index);
+		System.arraycopy(this.entries, index + 2, entries, index, entries.length - index);
+		return new LoggerAttributes(entries);
+	}
+
+	/// Returns the value of the entry with the provided key, or `null` if
+	/// there is no such entry.
+	@Nullable
+	public String get(String key) {
+		int index = this.index(key);
+		return index == -1 ? null : this.entries[index + 1];
+	}
+
+	/// Returns the key of the entry at the provided index.
+	///
+	/// @throws IndexOutOfBoundsException index not within [#size()]
+	public String key(int index) {
+		return this.entries[index * 2];
+	}
+
+	/// Returns the value of the entry at the provided index.
+	///
+	/// @throws IndexOutOfBoundsException index not within [#size()]
+	public String value(int index) {
+		return this.entries[index * 2 + 1];
+	}
+
+	/// Returns the number of entries.
+	public int size() {
+		return this.entries.length / 2;
+	}
+
+	/// Returns whether there are no entries.
+	public boolean isEmpty() {
+		return this.entries.length == 0;
+	}
+
+	/// Returns an unmodifiable map of the entries, in order.
+	public Map<String, String> asMap() {
+		Map<String, String> map = new LinkedHashMap<>(this.size() * 2);
+		for (int i = 0; i < this.entries.length; i += 2) map.put(this.entries[i], this.entries[i + 1]);
+		return Collections.unmodifiableMap(map);
+	}
+
+	/// Returns the index in the array of entries of the provided key, or `-1`
+	/// if there is no such entry. Keys are compared by identity first, as they
+	/// are usually constants.
+	private int index(String key) {
+		for (int i = 0; i < this.entries.length; i += 2) {
+			if (this.entries[i] == key) return i;
+		}
+		for (int i = 0; i < this.entries.length; i += 2) {
+			if (this.entries[i].equals(key)) return i;
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) return true;
+		if (!(object instanceof LoggerAttributes other)) return false;
+		return Arrays.equals(this.entries, other.entries);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.entries);
+	}
+
+	@Override
+	public String toString() {
+		return this.asMap().toString();
+	}
+}
\ No newline at end of file
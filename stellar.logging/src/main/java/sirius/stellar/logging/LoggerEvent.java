@@ -0,0 +1,59 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.time.Instant;
+
+/// Represents a read-only view of a message emitted by [Logger], which may be
+/// backed by a mutable, reusable object rather than a [LoggerMessage].
+///
+/// When [Logger] is configured to be garbage-free, messages logged through the
+/// methods of [Logger] are written into pre-allocated events, and collectors
+/// receive them through [LoggerCollector#collect(LoggerEvent)]. An event is
+/// only valid for the duration of that invocation, and must not be retained;
+/// use [#message()] to obtain an immutable copy.
+///
+/// @see sirius.stellar.logging.concurrent.LoggerScheduler#garbageFree()
+/// @since 1.0
+public interface LoggerEvent {
+
+	/// Returns the time the message was created, as nanoseconds since the epoch.
+	long epochNanos();
+
+	/// Returns the severity of the message.
+	LoggerLevel level();
+
+	/// Returns the name of the thread.
+	String thread();
+
+	/// Returns the name of the logger.
+	String name();
+
+	/// Returns the text content of the message.
+	CharSequence text();
+
+	/// Returns the text content of the message before it is formatted with any
+	/// arguments (e.g. `"Failed to connect to {}"`), which is the same for every
+	/// message logged from the same call-site, so messages can be grouped by it
+	/// without formatting them. By default, this is the text.
+	///
+	/// @see sirius.stellar.logging.spi.LoggerFilter
+	default String template() {
+		return this.text().toString();
+	}
+
+	/// Returns the attributes of the message.
+	default LoggerAttributes attributes() {
+		return LoggerAttributes.empty();
+	}
+
+	/// Returns the time the message was created.
+	/// This allocates, unless the event is a [LoggerMessage].
+	default Instant time() {
+		return Instant.ofEpochSecond(0L, this.epochNanos());
+	}
+
+	/// Returns an immutable copy of this event, or this event itself if it is
+	/// already a [LoggerMessage].
+	LoggerMessage message();
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package sirius.stellar.logging;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.annotation.Contract;
+import sirius.stellar.annotation.Internal;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.UUID;
+
+/// Utilities shared by implementations of [LoggerEvent] that defer formatting
+/// until the event is collected (on the thread collecting messages, rather
+/// than the thread dispatching them), such as those of the dispatchers.
+///
+/// ### Capture
+/// As the arguments are formatted later, on another thread, they are captured
+/// by [#capture(Object[])] when the event is created, as follows:
+///
+/// - `null`, strings, boxed primitives, exact [BigInteger]s and [BigDecimal]s,
+///   enums, [UUID]s, classes and all `java.time` values are immutable, so are
+///   captured by reference.
+/// - [Date]s are mutable, so are captured as a copy.
+/// - [Formattable]s, [Calendar]s and any other [Number]s are formatted based
+///   on their type (and may be mutable), so they cannot be captured, and the
+///   text is formatted on the dispatching thread instead.
+/// - Any other object is captured as its string representation, obtained on
+///   the dispatching thread, which is what both [String#format] (for `%s`)
+///   and [java.text.MessageFormat] would use.
+///
+/// The throwable is captured by reference; its stacktrace is fixed when it is
+/// created, and only rendered (by [#traceback(Throwable)]) once the event is
+/// collected.
+///
+/// As formatting runs arbitrary code (e.g. [Object#toString()] or
+/// [Throwable#getMessage()]) on the thread collecting messages, an exception
+/// thrown by it must never stop that thread; the message is collected with
+/// the text of [#unformatted] instead.
+@Internal
+public final class LoggerEvents {
+
+	private LoggerEvents() {
+		throw new AssertionError();
+	}
+
+	/// Returns the current time as the number of nanoseconds since the epoch.
+	/// This is kept small, so that the [Instant] read is always inlined into
+	/// the caller and eliminated, rather than allocated for every message.
+	public static long epochNanos() {
+		return epochNanos(Instant.now());
+	}
+
+	/// Returns the provided time as the number of nanoseconds since the epoch.
+	public static long epochNanos(Instant time) {
+		return time.getEpochSecond() * 1_000_000_000L + time.getNano();
+	}
+
+	/// Returns a stacktrace string for the provided throwable.
+	///
+	/// The format of this information depends on the implementation, see
+	/// [Throwable#printStackTrace] for more details. but the following
+	/// example may be regarded as typical:
+	///
+	/// ```
+	/// HighLevelException: MidLevelException: LowLevelException
+	///     at Junk.a(Junk.java:13)
+	///     at Junk.main(Junk.java:4)
+	/// Caused by: MidLevelException: LowLevelException
+	///     at Junk.c(Junk.java:23)
+	///     at Junk.b(Junk.java:17)
+	///     at Junk.a(Junk.java:11)
+	///     ... 1 more
+	/// Caused by: LowLevelException
+	///     at Junk.e(Junk.java:30)
+	///     at Junk.d(Junk.java:27)
+	///     at Junk.c(Junk.java:21)
+	///     ... 3 more
+	/// ```
+	///
+	/// @see Throwable#printStackTrace()
+	@Contract("_ -> new")
+	public static String traceback(@Nullable Throwable throwable) {
+		if (throwable == null) return "null";
+		StringWriter writer = new StringWriter();
+		try (PrintWriter printWriter = new PrintWriter(writer)) {
+			throwable.printStackTrace(printWriter);
+			return writer.toString();
+		}
+	}
+
+	/// Returns the text of a message whose formatting threw the provided
+	/// exception, i.e. the provided template, unformatted, followed by a marker
+	/// naming the exception. Only the class of the exception is named, as its
+	/// message may be what failed to format.
+	public static String unformatted(@Nullable String template, RuntimeException exception) {
+		return ((template == null) ? "" : template) + " [failed to format: " + exception.getClass().getName() + "]";
+	}
+
+	/// Returns a copy of the provided arguments, captured so that they can be
+	/// formatted on another thread, or `null` if any of them cannot be captured
+	/// (see [LoggerEvents]).
+	public static Object @Nullable [] capture(Object[] arguments) {
+		Object[] captured = new Object[arguments.length];
+		for (int i = 0; i < arguments.length; i++) {
+			if (!capturable(arguments[i])) return null;
+			captured[i] = capture(arguments[i]);
+		}
+		return captured;
+	}
+
+	/// Returns whether the provided argument can be captured by [#capture(Object)].
+	public static boolean capturable(@Nullable Object argument) {
+		if (argument instanceof Formattable || argument instanceof Calendar) return false;
+		if (argument instanceof Number) return immutable(argument);
+		return true;
+	}
+
+	/// Returns the provided argument, captured so that it can be formatted on
+	/// another thread (see [LoggerEvents]).
+	public static @Nullable Object capture(@Nullable Object argument) {
+		if (argument == null || immutable(argument)) return argument;
+		if (argument instanceof Date date) return date.clone();
+		return String.valueOf(argument);
+	}
+
+	/// Returns whether the provided argument is known to be immutable, i.e.
+	/// it can be captured by reference (see [LoggerEvents]).
+	public static boolean immutable(Object argument) {
+		Class<?> type = argument.getClass();
+		return argument instanceof String
+			|| argument instanceof Integer
+			|| argument instanceof Long
+			|| argument instanceof Double
+			|| argument instanceof Boolean
+			|| argument instanceof Character
+			|| argument instanceof Float
+			|| argument instanceof Short
+			|| argument instanceof Byte
+			|| argument instanceof Enum<?>
+			|| argument instanceof UUID
+			|| argument instanceof Class<?>
+			|| type == BigInteger.class
+			|| type == BigDecimal.class
+			|| type.getPackageName().equals("java.time");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,934 @@
+package sirius.stellar.logging;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.supplier.ObjectSupplier;
+import sirius.stellar.logging.supplier.ThrowableSupplier;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static sirius.stellar.logging.Logger.*;
+import static sirius.stellar.logging.LoggerLevel.*;
+
+/// Represents a handle to [Logger] for a single class, capturing the name of
+/// that class once, rather than walking the stack for every message (as the
+/// static methods of [Logger] do). It is intended to be stored in a field,
+/// e.g. `private static final LoggerHandle logger = Logger.forClass(Example.class);`.
+///
+/// The methods provided are exactly those of [Logger], and behave the same
+/// way, except for how the logger name is obtained.
+///
+/// The severity of the logger (see [Logger#severities(java.util.Map)]) is
+/// resolved for the handle, and updated whenever the severities change, so
+/// [#enabled(LoggerLevel)] is a single read.
+///
+/// @see Logger#forClass(Class)
+/// @see Logger#forName(String)
+/// @see LoggerMethods
+/// @since 1.0
+public final class LoggerHandle {
+
+	private final String name;
+	private volatile int severity;
+
+	LoggerHandle(String name, int severity) {
+		this.name = name;
+		this.severity = severity;
+	}
+
+	/// Returns the name of the logger, i.e. the name of the class this handle
+	/// was obtained for.
+	public String name() {
+		return this.name;
+	}
+
+	/// Returns whether the severity of the logger allows for the provided
+	/// level to be logged.
+	///
+	/// @see Logger#enabled(String, LoggerLevel)
+	/// @since 1.0
+	public boolean enabled(LoggerLevel level) {
+		return level.severity() <= this.severity;
+	}
+
+	/// Set the resolved severity of the logger.
+	void severity(int severity) {
+		this.severity = severity;
+	}
+
+	@Override
+	public String toString() {
+		return "LoggerHandle[" + this.name + "]";
+	}
+
+	// (regions are generated from LoggerMethods, as instance methods)
+	//#region Logging [information*]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Object object) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, String.valueOf(object), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, Object argument) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, Object argument1, Object argument2) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument1, argument2}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument1, argument2, argument3}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, Object... arguments) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, arguments, null);
+	}
+	//#endregion
+	//#region Logging [information*, Lambda]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(@Nullable ObjectSupplier supplier) {
+		if (!this.enabled(INFORMATION)) return;
+		if (supplier == null) return;
+		emit(INFORMATION, this.name, String.valueOf(supplier.get()), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, @Nullable ObjectSupplier argument) {
+		if (!this.enabled(INFORMATION)) return;
+		if (argument == null) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
+		if (!this.enabled(INFORMATION)) return;
+		if (argument1 == null || argument2 == null) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument1.get(), argument2.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
+		if (!this.enabled(INFORMATION)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(String text, ObjectSupplier @Nullable... arguments) {
+		if (!this.enabled(INFORMATION)) return;
+		if (arguments == null) return;
+		emit(INFORMATION, this.name, text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
+	}
+	//#endregion
+	//#region Logging [information*, Throwable]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Throwable throwable) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, null, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Throwable throwable, String text) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument1, argument2}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, new Object[]{argument1, argument2, argument3}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, text, arguments, throwable);
+	}
+	//#endregion
+	//#region Logging [information*, ThrowableSupplier]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(ThrowableSupplier supplier) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, null, supplier.get());
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void information(ThrowableSupplier supplier, ObjectSupplier message) {
+		if (!this.enabled(INFORMATION)) return;
+		emit(INFORMATION, this.name, String.valueOf(message.get()), supplier.get());
+	}
+	//#endregion
+
+	//#region Logging [warning*]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Object object) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, String.valueOf(object), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, Object argument) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, new Object[]{argument}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, Object argument1, Object argument2) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, new Object[]{argument1, argument2}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, new Object[]{argument1, argument2, argument3}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, Object... arguments) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, arguments, null);
+	}
+	//#endregion
+	//#region Logging [warning*, Lambda]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(@Nullable ObjectSupplier supplier) {
+		if (!this.enabled(WARNING)) return;
+		if (supplier == null) return;
+		emit(WARNING, this.name, String.valueOf(supplier.get()), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, @Nullable ObjectSupplier argument) {
+		if (!this.enabled(WARNING)) return;
+		if (argument == null) return;
+		emit(WARNING, this.name, text, new Object[]{argument.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
+		if (!this.enabled(WARNING)) return;
+		if (argument1 == null || argument2 == null) return;
+		emit(WARNING, this.name, text, new Object[]{argument1.get(), argument2.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
+		if (!this.enabled(WARNING)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		emit(WARNING, this.name, text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(String text, ObjectSupplier @Nullable... arguments) {
+		if (!this.enabled(WARNING)) return;
+		if (arguments == null) return;
+		emit(WARNING, this.name, text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
+	}
+	//#endregion
+	//#region Logging [warning*, Throwable]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Throwable throwable) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, null, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Throwable throwable, String text) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, new Object[]{argument}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, new Object[]{argument1, argument2}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, new Object[]{argument1, argument2, argument3}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, text, arguments, throwable);
+	}
+	//#endregion
+	//#region Logging [warning*, ThrowableSupplier]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(ThrowableSupplier supplier) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, null, supplier.get());
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void warning(ThrowableSupplier supplier, ObjectSupplier message) {
+		if (!this.enabled(WARNING)) return;
+		emit(WARNING, this.name, String.valueOf(message.get()), supplier.get());
+	}
+	//#endregion
+
+	//#region Logging [error*]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Object object) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, String.valueOf(object), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, Object argument) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, new Object[]{argument}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, Object argument1, Object argument2) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, new Object[]{argument1, argument2}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, new Object[]{argument1, argument2, argument3}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, Object... arguments) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, arguments, null);
+	}
+	//#endregion
+	//#region Logging [error*, Lambda]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(@Nullable ObjectSupplier supplier) {
+		if (!this.enabled(ERROR)) return;
+		if (supplier == null) return;
+		emit(ERROR, this.name, String.valueOf(supplier.get()), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, @Nullable ObjectSupplier argument) {
+		if (!this.enabled(ERROR)) return;
+		if (argument == null) return;
+		emit(ERROR, this.name, text, new Object[]{argument.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
+		if (!this.enabled(ERROR)) return;
+		if (argument1 == null || argument2 == null) return;
+		emit(ERROR, this.name, text, new Object[]{argument1.get(), argument2.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
+		if (!this.enabled(ERROR)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		emit(ERROR, this.name, text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(String text, ObjectSupplier @Nullable... arguments) {
+		if (!this.enabled(ERROR)) return;
+		if (arguments == null) return;
+		emit(ERROR, this.name, text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
+	}
+	//#endregion
+	//#region Logging [error*, Throwable]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Throwable throwable) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, null, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Throwable throwable, String text) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, new Object[]{argument}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, new Object[]{argument1, argument2}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, new Object[]{argument1, argument2, argument3}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, text, arguments, throwable);
+	}
+	//#endregion
+	//#region Logging [error*, ThrowableSupplier]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(ThrowableSupplier supplier) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, null, supplier.get());
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void error(ThrowableSupplier supplier, ObjectSupplier message) {
+		if (!this.enabled(ERROR)) return;
+		emit(ERROR, this.name, String.valueOf(message.get()), supplier.get());
+	}
+	//#endregion
+
+	//#region Logging [diagnosis*]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Object object) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, String.valueOf(object), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, Object argument) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, Object argument1, Object argument2) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument1, argument2}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument1, argument2, argument3}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, Object... arguments) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, arguments, null);
+	}
+	//#endregion
+	//#region Logging [diagnosis*, Lambda]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(@Nullable ObjectSupplier supplier) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		if (supplier == null) return;
+		emit(DIAGNOSIS, this.name, String.valueOf(supplier.get()), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, @Nullable ObjectSupplier argument) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		if (argument == null) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		if (argument1 == null || argument2 == null) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument1.get(), argument2.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(String text, ObjectSupplier @Nullable... arguments) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		if (arguments == null) return;
+		emit(DIAGNOSIS, this.name, text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
+	}
+	//#endregion
+	//#region Logging [diagnosis*, Throwable]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Throwable throwable) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, null, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Throwable throwable, String text) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument1, argument2}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, new Object[]{argument1, argument2, argument3}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, text, arguments, throwable);
+	}
+	//#endregion
+	//#region Logging [diagnosis*, ThrowableSupplier]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(ThrowableSupplier supplier) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, null, supplier.get());
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void diagnosis(ThrowableSupplier supplier, ObjectSupplier message) {
+		if (!this.enabled(DIAGNOSIS)) return;
+		emit(DIAGNOSIS, this.name, String.valueOf(message.get()), supplier.get());
+	}
+	//#endregion
+
+	//#region Logging [tracing*]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Object object) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, String.valueOf(object), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, Object argument) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, new Object[]{argument}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, Object argument1, Object argument2) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, new Object[]{argument1, argument2}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, new Object[]{argument1, argument2, argument3}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, Object... arguments) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, arguments, null);
+	}
+	//#endregion
+	//#region Logging [tracing*, Lambda]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(@Nullable ObjectSupplier supplier) {
+		if (!this.enabled(TRACING)) return;
+		if (supplier == null) return;
+		emit(TRACING, this.name, String.valueOf(supplier.get()), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, @Nullable ObjectSupplier argument) {
+		if (!this.enabled(TRACING)) return;
+		if (argument == null) return;
+		emit(TRACING, this.name, text, new Object[]{argument.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
+		if (!this.enabled(TRACING)) return;
+		if (argument1 == null || argument2 == null) return;
+		emit(TRACING, this.name, text, new Object[]{argument1.get(), argument2.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
+		if (!this.enabled(TRACING)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		emit(TRACING, this.name, text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(String text, ObjectSupplier @Nullable... arguments) {
+		if (!this.enabled(TRACING)) return;
+		if (arguments == null) return;
+		emit(TRACING, this.name, text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
+	}
+	//#endregion
+	//#region Logging [tracing*, Throwable]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Throwable throwable) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, null, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Throwable throwable, String text) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, new Object[]{argument}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, new Object[]{argument1, argument2}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, new Object[]{argument1, argument2, argument3}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, text, arguments, throwable);
+	}
+	//#endregion
+	//#region Logging [tracing*, ThrowableSupplier]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(ThrowableSupplier supplier) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, null, supplier.get());
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void tracing(ThrowableSupplier supplier, ObjectSupplier message) {
+		if (!this.enabled(TRACING)) return;
+		emit(TRACING, this.name, String.valueOf(message.get()), supplier.get());
+	}
+	//#endregion
+
+	//#region Logging [configuration*]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Object object) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, String.valueOf(object), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, Object argument) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, Object argument1, Object argument2) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument1, argument2}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument1, argument2, argument3}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, Object... arguments) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, arguments, null);
+	}
+	//#endregion
+	//#region Logging [configuration*, Lambda]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(@Nullable ObjectSupplier supplier) {
+		if (!this.enabled(CONFIGURATION)) return;
+		if (supplier == null) return;
+		emit(CONFIGURATION, this.name, String.valueOf(supplier.get()), null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, @Nullable ObjectSupplier argument) {
+		if (!this.enabled(CONFIGURATION)) return;
+		if (argument == null) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
+		if (!this.enabled(CONFIGURATION)) return;
+		if (argument1 == null || argument2 == null) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument1.get(), argument2.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
+		if (!this.enabled(CONFIGURATION)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(String text, ObjectSupplier @Nullable... arguments) {
+		if (!this.enabled(CONFIGURATION)) return;
+		if (arguments == null) return;
+		emit(CONFIGURATION, this.name, text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
+	}
+	//#endregion
+	//#region Logging [configuration*, Throwable]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Throwable throwable) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, null, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Throwable throwable, String text) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument1, argument2}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, new Object[]{argument1, argument2, argument3}, throwable);
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, text, arguments, throwable);
+	}
+	//#endregion
+	//#region Logging [configuration*, ThrowableSupplier]
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(ThrowableSupplier supplier) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, null, supplier.get());
+	}
+
+	/// @see LoggerMethods (details of this method)
+	/// @since 1.0
+	public void configuration(ThrowableSupplier supplier, ObjectSupplier message) {
+		if (!this.enabled(CONFIGURATION)) return;
+		emit(CONFIGURATION, this.name, String.valueOf(message.get()), supplier.get());
+	}
+	//#endregion
+}
\ No newline at end of file
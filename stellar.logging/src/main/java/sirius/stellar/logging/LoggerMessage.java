@@ -16,6 +16,8 @@ import static java.text.MessageFormat.format;
 /// @param thread The name of the thread.
 /// @param name The name of the logger.
 /// @param text The text content of the message.
+/// @param attributes The attributes of the message, e.g. the mapped diagnostic
+/// context of the thread.
 ///
 /// @author Mahied Maruf (mechite)
 /// @since 1.0
@@ -24,8 +26,24 @@ public record LoggerMessage(
 	LoggerLevel level,
 	String thread,
 	String name,
-	String text
-) implements Comparable<LoggerMessage> {
+	String text,
+	LoggerAttributes attributes
+) implements Comparable<LoggerMessage>, LoggerEvent {
+
+	/// Create a message with no attributes.
+	public LoggerMessage(Instant time, LoggerLevel level, String thread, String name, String text) {
+		this(time, level, thread, name, text, LoggerAttributes.empty());
+	}
+
+	@Override
+	public long epochNanos() {
+		return LoggerEvents.epochNanos(this.time);
+	}
+
+	@Override
+	public LoggerMessage message() {
+		return this;
+	}
 
 	@Override
 	public int compareTo(LoggerMessage other) {
@@ -61,6 +79,12 @@ public record LoggerMessage(
 
 		Builder text(String text);
 		Builder throwable(@Nullable Throwable throwable);
+		Builder attributes(LoggerAttributes attributes);
+
+		/// Modify the text of this builder to the provided string, formatted with
+		/// the provided arguments by [Logger#format(String, Object...)], which is
+		/// deferred until the message is collected when it is dispatched.
+		Builder text(String text, Object... arguments);
 
 		/// Modify the level of this builder. This may disable the underlying
 		/// builder if the provided level is disabled, releasing all built data
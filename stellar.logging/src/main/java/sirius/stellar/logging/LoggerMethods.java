@@ -1,6 +1,7 @@
 package sirius.stellar.logging;
 
 import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.fluent.DeferredLoggerEvent;
 import sirius.stellar.logging.supplier.ObjectSupplier;
 import sirius.stellar.logging.supplier.ThrowableSupplier;
 
@@ -22,7 +23,10 @@ import static sirius.stellar.logging.LoggerLevel.*;
 /// exposes are public API of [Logger] and can be used there.
 ///
 /// - All methods will walk the stack in order to retrieve the caller class for
-///   their respective invocations, using [StackWalker#getCallerClass()].
+///   their respective invocations, using [StackWalker#getCallerClass()]. For
+///   classes that log frequently, prefer to obtain a [LoggerHandle] instead,
+///   with [Logger#forClass(Class)], which provides the same methods without
+///   walking the stack.
 ///
 /// - Methods which accept no formatting arguments, are present to prevent the
 ///   creation of an array (when variadic argument methods can also be called
@@ -37,7 +41,9 @@ import static sirius.stellar.logging.LoggerLevel.*;
 ///   [#information(Object)].
 ///
 /// - Methods which accept both a formatting [String] and arguments array, will
-///   perform their formatting using [Logger#format(String, Object...)], e.g.,
+///   perform their formatting using [Logger#format(String, Object...)], which
+///   is deferred (along with rendering the stacktrace of any [Throwable]) until
+///   the message is collected, as described by [DeferredLoggerEvent], e.g.,
 ///
 ///   [#information(String, Object...)].
 ///
@@ -82,84 +88,103 @@ sealed abstract class LoggerMethods permits Logger {
 
 	private static final StackWalker walker = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
 
+	/// Dispatch a message with the provided level, logger name and text (if
+	/// any), followed by the stacktrace of the provided throwable (if any).
+	///
+	/// When invoked by the methods of this class, the name must be obtained by
+	/// the public method being invoked, so that it is the name of the class that
+	/// invoked that method; if the name is `null`, nothing is dispatched (see
+	/// [#caller(LoggerLevel, Class)]).
+	static void emit(LoggerLevel level, @Nullable String name, @Nullable String text, @Nullable Throwable throwable) {
+		emit(level, name, text, null, throwable);
+	}
+
+	/// Dispatch a message with the provided level, logger name and text (if
+	/// any), formatted with the provided arguments (if any), followed by the
+	/// stacktrace of the provided throwable (if any).
+	///
+	/// Formatting (and rendering the stacktrace) is deferred until the message
+	/// is collected, with the arguments captured as described by
+	/// [LoggerEvents]; when any argument cannot be captured, the text is
+	/// formatted immediately instead.
+	///
+	/// The message is evaluated by every filter once (see [Logger#accepted]),
+	/// before anything is allocated for it.
+	///
+	/// @see #emit(LoggerLevel, String, String, Throwable)
+	static void emit(LoggerLevel level, @Nullable String name, @Nullable String text, Object @Nullable [] arguments, @Nullable Throwable throwable) {
+		if (name == null) return;
+		if (!accepted(level, name, (text == null) ? "" : text)) return;
+
+		long epochNanos = LoggerEvents.epochNanos();
+		String thread = currentThread().getName();
+		if (publish(level, epochNanos, thread, name, text, arguments, throwable)) return;
+
+		if (arguments == null && throwable == null) {
+			if (text == null) return;
+			enqueue(new LoggerMessage(Instant.ofEpochSecond(0L, epochNanos), level, thread, name, text));
+			return;
+		}
+
+		Object[] captured = arguments == null ? null : LoggerEvents.capture(arguments);
+		if (arguments != null && captured == null) text = format(text, arguments);
+		enqueue(new DeferredLoggerEvent(epochNanos, level, thread, name, text, captured, throwable, LoggerAttributes.empty()));
+	}
+
+	/// Returns the name of the provided caller class, or `null` if the severity
+	/// of its logger does not allow for the provided level to be logged.
+	///
+	/// As the methods of this class check [Logger#enabled(LoggerLevel)] first,
+	/// which allows for a level if any logger does, this is only invoked when the
+	/// level could be enabled, and is evaluated before any suppliers or arguments.
+	@Nullable
+	private static String caller(LoggerLevel level, Class<?> caller) {
+		LoggerHandle handle = forClass(caller);
+		return handle.enabled(level) ? handle.name() : null;
+	}
+
 	// (other regions are clones replacing /(?i)information/g)
 	//#region Logging [information*]
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(String text) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(Object object) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(object))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), String.valueOf(object), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(String text, Object argument) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(String text, Object argument1, Object argument2) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument1, argument2}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(String text, Object... arguments) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, arguments, null);
 	}
 	//#endregion
 	//#region Logging [information*, Lambda]
@@ -168,13 +193,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void information(@Nullable ObjectSupplier supplier) {
 		if (!enabled(INFORMATION)) return;
 		if (supplier == null) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(supplier.get()))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), String.valueOf(supplier.get()), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -182,13 +201,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void information(String text, @Nullable ObjectSupplier argument) {
 		if (!enabled(INFORMATION)) return;
 		if (argument == null) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument.get()))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -196,13 +209,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void information(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
 		if (!enabled(INFORMATION)) return;
 		if (argument1 == null || argument2 == null) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get()))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -210,13 +217,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void information(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
 		if (!enabled(INFORMATION)) return;
 		if (argument1 == null || argument2 == null || argument3 == null) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get(), argument3.get()))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -224,15 +225,9 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void information(String text, ObjectSupplier @Nullable... arguments) {
 		if (!enabled(INFORMATION)) return;
 		if (arguments == null) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, Arrays.stream(arguments)
-					.map(Supplier::get)
-					.toArray()))
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
 	}
 	//#endregion
 	//#region Logging [information*, Throwable]
@@ -240,83 +235,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void information(Throwable throwable) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(throwable)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), null, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(Throwable throwable, String text) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(Throwable throwable, String text, Object argument) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.throwable(throwable)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.throwable(throwable)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument1, argument2}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.throwable(throwable)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), text, arguments, throwable);
 	}
 	//#endregion
 	//#region Logging [information*, ThrowableSupplier]
@@ -324,27 +278,14 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void information(ThrowableSupplier supplier) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(supplier.get())
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), null, supplier.get());
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void information(ThrowableSupplier supplier, ObjectSupplier message) {
 		if (!enabled(INFORMATION)) return;
-		LoggerMessage.builder()
-				.level(INFORMATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(message.get()))
-				.throwable(supplier.get())
-				.dispatch();
+		emit(INFORMATION, caller(INFORMATION, walker.getCallerClass()), String.valueOf(message.get()), supplier.get());
 	}
 	//#endregion
 
@@ -353,78 +294,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void warning(String text) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(Object object) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(object))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), String.valueOf(object), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(String text, Object argument) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(String text, Object argument1, Object argument2) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument1, argument2}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(String text, Object... arguments) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, arguments, null);
 	}
 	//#endregion
 	//#region Logging [warning*, Lambda]
@@ -433,13 +338,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void warning(@Nullable ObjectSupplier supplier) {
 		if (!enabled(WARNING)) return;
 		if (supplier == null) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(supplier.get()))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), String.valueOf(supplier.get()), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -447,13 +346,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void warning(String text, @Nullable ObjectSupplier argument) {
 		if (!enabled(WARNING)) return;
 		if (argument == null) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument.get()))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -461,13 +354,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void warning(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
 		if (!enabled(WARNING)) return;
 		if (argument1 == null || argument2 == null) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get()))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -475,13 +362,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void warning(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
 		if (!enabled(WARNING)) return;
 		if (argument1 == null || argument2 == null || argument3 == null) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get(), argument3.get()))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -489,15 +370,9 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void warning(String text, ObjectSupplier @Nullable... arguments) {
 		if (!enabled(WARNING)) return;
 		if (arguments == null) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, Arrays.stream(arguments)
-					.map(Supplier::get)
-					.toArray()))
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
 	}
 	//#endregion
 	//#region Logging [warning*, Throwable]
@@ -505,83 +380,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void warning(Throwable throwable) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(throwable)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), null, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(Throwable throwable, String text) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(Throwable throwable, String text, Object argument) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.throwable(throwable)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.throwable(throwable)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument1, argument2}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.throwable(throwable)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), text, arguments, throwable);
 	}
 	//#endregion
 	//#region Logging [warning*, ThrowableSupplier]
@@ -589,27 +423,14 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void warning(ThrowableSupplier supplier) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(supplier.get())
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), null, supplier.get());
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void warning(ThrowableSupplier supplier, ObjectSupplier message) {
 		if (!enabled(WARNING)) return;
-		LoggerMessage.builder()
-				.level(WARNING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(message.get()))
-				.throwable(supplier.get())
-				.dispatch();
+		emit(WARNING, caller(WARNING, walker.getCallerClass()), String.valueOf(message.get()), supplier.get());
 	}
 	//#endregion
 
@@ -618,78 +439,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void error(String text) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(Object object) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(object))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), String.valueOf(object), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(String text, Object argument) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(String text, Object argument1, Object argument2) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument1, argument2}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(String text, Object... arguments) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, arguments, null);
 	}
 	//#endregion
 	//#region Logging [error*, Lambda]
@@ -698,13 +483,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void error(@Nullable ObjectSupplier supplier) {
 		if (!enabled(ERROR)) return;
 		if (supplier == null) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(supplier.get()))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), String.valueOf(supplier.get()), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -712,13 +491,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void error(String text, @Nullable ObjectSupplier argument) {
 		if (!enabled(ERROR)) return;
 		if (argument == null) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument.get()))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -726,13 +499,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void error(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
 		if (!enabled(ERROR)) return;
 		if (argument1 == null || argument2 == null) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get()))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -740,13 +507,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void error(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
 		if (!enabled(ERROR)) return;
 		if (argument1 == null || argument2 == null || argument3 == null) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get(), argument3.get()))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -754,15 +515,9 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void error(String text, ObjectSupplier @Nullable... arguments) {
 		if (!enabled(ERROR)) return;
 		if (arguments == null) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, Arrays.stream(arguments)
-					.map(Supplier::get)
-					.toArray()))
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
 	}
 	//#endregion
 	//#region Logging [error*, Throwable]
@@ -770,83 +525,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void error(Throwable throwable) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(throwable)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), null, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(Throwable throwable, String text) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(Throwable throwable, String text, Object argument) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.throwable(throwable)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.throwable(throwable)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument1, argument2}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.throwable(throwable)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), text, arguments, throwable);
 	}
 	//#endregion
 	//#region Logging [error*, ThrowableSupplier]
@@ -854,27 +568,14 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void error(ThrowableSupplier supplier) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(supplier.get())
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), null, supplier.get());
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void error(ThrowableSupplier supplier, ObjectSupplier message) {
 		if (!enabled(ERROR)) return;
-		LoggerMessage.builder()
-				.level(ERROR)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(message.get()))
-				.throwable(supplier.get())
-				.dispatch();
+		emit(ERROR, caller(ERROR, walker.getCallerClass()), String.valueOf(message.get()), supplier.get());
 	}
 	//#endregion
 
@@ -883,78 +584,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void diagnosis(String text) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(Object object) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(object))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), String.valueOf(object), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(String text, Object argument) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(String text, Object argument1, Object argument2) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument1, argument2}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(String text, Object... arguments) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, arguments, null);
 	}
 	//#endregion
 	//#region Logging [diagnosis*, Lambda]
@@ -963,13 +628,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void diagnosis(@Nullable ObjectSupplier supplier) {
 		if (!enabled(DIAGNOSIS)) return;
 		if (supplier == null) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(supplier.get()))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), String.valueOf(supplier.get()), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -977,13 +636,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void diagnosis(String text, @Nullable ObjectSupplier argument) {
 		if (!enabled(DIAGNOSIS)) return;
 		if (argument == null) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument.get()))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -991,13 +644,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void diagnosis(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
 		if (!enabled(DIAGNOSIS)) return;
 		if (argument1 == null || argument2 == null) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get()))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1005,13 +652,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void diagnosis(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
 		if (!enabled(DIAGNOSIS)) return;
 		if (argument1 == null || argument2 == null || argument3 == null) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get(), argument3.get()))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1019,15 +660,9 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void diagnosis(String text, ObjectSupplier @Nullable... arguments) {
 		if (!enabled(DIAGNOSIS)) return;
 		if (arguments == null) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, Arrays.stream(arguments)
-					.map(Supplier::get)
-					.toArray()))
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
 	}
 	//#endregion
 	//#region Logging [diagnosis*, Throwable]
@@ -1035,83 +670,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void diagnosis(Throwable throwable) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(throwable)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), null, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(Throwable throwable, String text) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(Throwable throwable, String text, Object argument) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.throwable(throwable)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.throwable(throwable)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument1, argument2}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.throwable(throwable)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), text, arguments, throwable);
 	}
 	//#endregion
 	//#region Logging [diagnosis*, ThrowableSupplier]
@@ -1119,27 +713,14 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void diagnosis(ThrowableSupplier supplier) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(supplier.get())
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), null, supplier.get());
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void diagnosis(ThrowableSupplier supplier, ObjectSupplier message) {
 		if (!enabled(DIAGNOSIS)) return;
-		LoggerMessage.builder()
-				.level(DIAGNOSIS)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(message.get()))
-				.throwable(supplier.get())
-				.dispatch();
+		emit(DIAGNOSIS, caller(DIAGNOSIS, walker.getCallerClass()), String.valueOf(message.get()), supplier.get());
 	}
 	//#endregion
 
@@ -1148,78 +729,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void tracing(String text) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(Object object) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(object))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), String.valueOf(object), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(String text, Object argument) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(String text, Object argument1, Object argument2) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument1, argument2}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(String text, Object... arguments) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, arguments, null);
 	}
 	//#endregion
 	//#region Logging [tracing*, Lambda]
@@ -1228,13 +773,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void tracing(@Nullable ObjectSupplier supplier) {
 		if (!enabled(TRACING)) return;
 		if (supplier == null) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(supplier.get()))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), String.valueOf(supplier.get()), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1242,13 +781,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void tracing(String text, @Nullable ObjectSupplier argument) {
 		if (!enabled(TRACING)) return;
 		if (argument == null) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument.get()))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1256,13 +789,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void tracing(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
 		if (!enabled(TRACING)) return;
 		if (argument1 == null || argument2 == null) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get()))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1270,13 +797,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void tracing(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
 		if (!enabled(TRACING)) return;
 		if (argument1 == null || argument2 == null || argument3 == null) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get(), argument3.get()))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1284,15 +805,9 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void tracing(String text, ObjectSupplier @Nullable... arguments) {
 		if (!enabled(TRACING)) return;
 		if (arguments == null) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, Arrays.stream(arguments)
-					.map(Supplier::get)
-					.toArray()))
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
 	}
 	//#endregion
 	//#region Logging [tracing*, Throwable]
@@ -1300,83 +815,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void tracing(Throwable throwable) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(throwable)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), null, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(Throwable throwable, String text) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(Throwable throwable, String text, Object argument) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.throwable(throwable)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.throwable(throwable)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument1, argument2}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.throwable(throwable)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), text, arguments, throwable);
 	}
 	//#endregion
 	//#region Logging [tracing*, ThrowableSupplier]
@@ -1384,27 +858,14 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void tracing(ThrowableSupplier supplier) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(supplier.get())
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), null, supplier.get());
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void tracing(ThrowableSupplier supplier, ObjectSupplier message) {
 		if (!enabled(TRACING)) return;
-		LoggerMessage.builder()
-				.level(TRACING)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(message.get()))
-				.throwable(supplier.get())
-				.dispatch();
+		emit(TRACING, caller(TRACING, walker.getCallerClass()), String.valueOf(message.get()), supplier.get());
 	}
 	//#endregion
 
@@ -1413,78 +874,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void configuration(String text) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(Object object) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(object))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), String.valueOf(object), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(String text, Object argument) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(String text, Object argument1, Object argument2) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument1, argument2}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(String text, Object... arguments) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, arguments, null);
 	}
 	//#endregion
 	//#region Logging [configuration*, Lambda]
@@ -1493,13 +918,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void configuration(@Nullable ObjectSupplier supplier) {
 		if (!enabled(CONFIGURATION)) return;
 		if (supplier == null) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(supplier.get()))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), String.valueOf(supplier.get()), null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1507,13 +926,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void configuration(String text, @Nullable ObjectSupplier argument) {
 		if (!enabled(CONFIGURATION)) return;
 		if (argument == null) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument.get()))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1521,13 +934,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void configuration(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2) {
 		if (!enabled(CONFIGURATION)) return;
 		if (argument1 == null || argument2 == null) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get()))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1535,13 +942,7 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void configuration(String text, @Nullable ObjectSupplier argument1, @Nullable ObjectSupplier argument2, @Nullable ObjectSupplier argument3) {
 		if (!enabled(CONFIGURATION)) return;
 		if (argument1 == null || argument2 == null || argument3 == null) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1.get(), argument2.get(), argument3.get()))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument1.get(), argument2.get(), argument3.get()}, null);
 	}
 
 	/// @see LoggerMethods (details of this method)
@@ -1549,15 +950,9 @@ sealed abstract class LoggerMethods permits Logger {
 	public static void configuration(String text, ObjectSupplier @Nullable... arguments) {
 		if (!enabled(CONFIGURATION)) return;
 		if (arguments == null) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, Arrays.stream(arguments)
-					.map(Supplier::get)
-					.toArray()))
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, Arrays.stream(arguments)
+				.map(Supplier::get)
+				.toArray(), null);
 	}
 	//#endregion
 	//#region Logging [configuration*, Throwable]
@@ -1565,83 +960,42 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void configuration(Throwable throwable) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(throwable)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), null, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(Throwable throwable, String text) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(text)
-				.throwable(throwable)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(Throwable throwable, String text, Object argument) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument))
-				.throwable(throwable)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2))
-				.throwable(throwable)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument1, argument2}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, argument1, argument2, argument3))
-				.throwable(throwable)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, new Object[]{argument1, argument2, argument3}, throwable);
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(format(text, arguments))
-				.throwable(throwable)
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), text, arguments, throwable);
 	}
 	//#endregion
 	//#region Logging [configuration*, ThrowableSupplier]
@@ -1649,27 +1003,14 @@ sealed abstract class LoggerMethods permits Logger {
 	/// @since 1.0
 	public static void configuration(ThrowableSupplier supplier) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.throwable(supplier.get())
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), null, supplier.get());
 	}
 
 	/// @see LoggerMethods (details of this method)
 	/// @since 1.0
 	public static void configuration(ThrowableSupplier supplier, ObjectSupplier message) {
 		if (!enabled(CONFIGURATION)) return;
-		LoggerMessage.builder()
-				.level(CONFIGURATION)
-				.time(Instant.now())
-				.thread(currentThread().getName())
-				.name(walker.getCallerClass().getName())
-				.text(String.valueOf(message.get()))
-				.throwable(supplier.get())
-				.dispatch();
+		emit(CONFIGURATION, caller(CONFIGURATION, walker.getCallerClass()), String.valueOf(message.get()), supplier.get());
 	}
 	//#endregion
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package sirius.stellar.logging;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.concurrent.LoggerHistogram;
+import sirius.stellar.logging.concurrent.LoggerLane;
+import sirius.stellar.logging.concurrent.LoggerOverflow;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/// A snapshot of the metrics of the logging system, see [Logger#metrics()].
+///
+/// Every count is since startup, and every duration is in nanoseconds.
+///
+/// @param dispatched The number of messages dispatched, per level, i.e.
+/// enqueued (or written into the ring of events, if garbage-free).
+/// @param emitted The number of messages submitted to collectors, per level,
+/// i.e. that were dispatched, and were not filtered out by severity.
+/// @param dropped The number of messages discarded as the queue was full,
+/// per level (see [LoggerOverflow]).
+/// @param failed The number of messages that threw while being formatted, per
+/// level, which were collected unformatted instead (see
+/// [LoggerEvents#unformatted]).
+/// @param depth The number of messages currently queued. This is an estimate.
+/// @param peak The highest number of messages that have been queued at once,
+/// as sampled every time a batch is drained from the queue.
+/// @param capacity The number of messages that can be queued.
+/// @param latency The time between messages being dispatched and being
+/// submitted to collectors (according to the wall clock).
+/// @param collectors The metrics of every registered collector.
+/// @param drain The time taken to drain the queue (and every lane) when the
+/// logger was shut down, or `null` if it has not been shut down.
+///
+/// @since 1.0
+public record LoggerMetrics(
+	Map<LoggerLevel, Long> dispatched,
+	Map<LoggerLevel, Long> emitted,
+	Map<LoggerLevel, Long> dropped,
+	Map<LoggerLevel, Long> failed,
+	int depth,
+	int peak,
+	int capacity,
+	LoggerHistogram.Snapshot latency,
+	List<Collector> collectors,
+	@Nullable Duration drain
+) {
+
+	/// The metrics of a single [LoggerCollector].
+	///
+	/// @param collector The collector.
+	/// @param collected The number of messages submitted to the collector.
+	/// @param errors The number of invocations of the collector that have thrown.
+	/// @param time The time taken by every invocation of the collector.
+	/// @param depth The number of messages queued on the lane of the collector,
+	/// or zero if lanes are not enabled (see [LoggerLane#depth()]).
+	/// @param dropped The number of messages discarded as the lane of the
+	/// collector was full, or zero if lanes are not enabled.
+	///
+	/// @since 1.0
+	public record Collector(
+		LoggerCollector collector,
+		long collected,
+		long errors,
+		LoggerHistogram.Snapshot time,
+		int depth,
+		long dropped
+	) {}
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package sirius.stellar.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/// Compiled form of the severities of [Logger], i.e. the root severity and
+/// the severities of loggers by name, which resolves the severity of any name.
+///
+/// Names are resolved hierarchically, by segments separated by `.`, through
+/// a trie of the configured names: the severity of the longest configured name
+/// that equals, or is an ancestor of, the resolved name applies, otherwise the
+/// root severity. A configured name may end with `.*`, which is equivalent to
+/// the name without it, and `*` applies to every name (overriding the root).
+///
+/// Names are only resolved once per [LoggerHandle], and again for every handle
+/// when the severities change, so this is never consulted per message.
+final class LoggerSeverities {
+
+	/// The severity of a node of the trie that no severity is configured for.
+	private static final int UNSET = Integer.MIN_VALUE;
+
+	private final int root;
+	private final Map<String, Integer> named;
+
+	private final Node trie;
+	private final int maximum;
+
+	/// Compile the provided root severity and severities of loggers by name.
+	///
+	/// @throws UnsupportedOperationException any severity is below `-1`
+	LoggerSeverities(int root, Map<String, Integer> named) {
+		this.root = check(root);
+		this.named = unmodifiableMap(new HashMap<>(named));
+		this.trie = new Node();
+
+		int maximum = root;
+		for (Map.Entry<String, Integer> entry : this.named.entrySet()) {
+			int severity = check(entry.getValue());
+			maximum = Math.max(maximum, severity);
+
+			String name = entry.getKey();
+			if (name.equals("*")) {
+				this.trie.severity = severity;
+				continue;
+			}
+			if (name.endsWith(".*")) name = name.substring(0, name.length() - 2);
+
+			Node node = this.trie;
+			for (String segment : name.split("\\.")) node = node.children.computeIfAbsent(segment, key -> new Node());
+			node.severity = severity;
+		}
+		this.maximum = maximum;
+	}
+
+	/// Returns the root severity, i.e. the severity of names that no severity
+	/// is configured for.
+	int root() {
+		return this.root;
+	}
+
+	/// Returns the configured severities of loggers by name.
+	Map<String, Integer> named() {
+		return this.named;
+	}
+
+	/// Returns the highest severity of any name, i.e. whether any logger could
+	/// log a level is determined by comparing with this.
+	int maximum() {
+		return this.maximum;
+	}
+
+	/// Returns whether every name has the root severity.
+	boolean uniform() {
+		return this.named.isEmpty();
+	}
+
+	/// Returns the severity of the provided name.
+	int severity(String name) {
+		int severity = (this.trie.severity == UNSET) ? this.root : this.trie.severity;
+		if (this.trie.children.isEmpty()) return severity;
+
+		Node node = this.trie;
+		int start = 0;
+		while (start <= name.length()) {
+			int end = name.indexOf('.', start);
+			if (end == -1) end = name.length();
+
+			node = node.children.get(name.substring(start, end));
+			if (node == null) break;
+			if (node.severity != UNSET) severity = node.severity;
+			start = end + 1;
+		}
+		return severity;
+	}
+
+	/// Returns the provided severity, if it is valid.
+	private static int check(int severity) {
+		if (severity < -1) throw new UnsupportedOperationException("Logger severity must be between -1 and " + Integer.MAX_VALUE);
+		return severity;
+	}
+
+	/// A node of the trie, i.e. a segment of a configured name.
+	private static final class Node {
+
+		private final Map<String, Node> children = new HashMap<>();
+		private int severity = UNSET;
+	}
+}
\ No newline at end of file
@@ -1,16 +1,17 @@
 package sirius.stellar.logging.concurrent;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
-/// Implementation of [LoggerScheduler] for JVM <21 (single thread executor).
+/// Implementation of [LoggerScheduler] for JVM <21 (platform thread executor).
 final class DefaultLoggerScheduler
 		extends ThreadPoolExecutor
 		implements LoggerScheduler {
 
-	/// The initial and maximum number of threads to use.
+	/// The initial number of threads to use.
+	/// Threads are created on demand beyond this, e.g. for [LoggerLane]s.
 	private static final int SCHEDULER_THREADS = 1;
 
 	/// The number of milliseconds to keep threads alive without tasks.
@@ -18,9 +19,14 @@ final class DefaultLoggerScheduler
 
 	DefaultLoggerScheduler() {
 		super(
-			SCHEDULER_THREADS, SCHEDULER_THREADS,
+			SCHEDULER_THREADS, Integer.MAX_VALUE,
 			SCHEDULER_KEEPALIVE, MILLISECONDS,
-			new LinkedBlockingQueue<>()
+			new SynchronousQueue<>()
 		);
 	}
+
+	@Override
+	public boolean lanes() {
+		return true;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package sirius.stellar.logging.concurrent;
+
+import sirius.stellar.annotation.Internal;
+import sirius.stellar.logging.Logger;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Supplier;
+
+/// A pre-sized, lock-free, bounded ring of pre-allocated (mutable) events,
+/// used by [Logger] when configured to be garbage-free.
+///
+/// Unlike [LoggerRingBuffer], elements are never enqueued or dequeued; instead
+/// a producer claims a position with [#claim()], overwrites the event in that
+/// position (from [#get(long)]), and makes it visible with [#publish(long)].
+/// A consumer then obtains the next published position with [#next()], reads
+/// the event, and returns the slot to producers with [#release(long)].
+///
+/// @implNote This uses the same per-slot sequence scheme as [LoggerRingBuffer]
+/// (the bounded queue described by Dmitry Vyukov), split into two phases.
+///
+/// @param <E> The type of event.
+/// @since 1.0
+@Internal
+public final class LoggerEventRing<E> {
+
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private final long[] sequences;
+	private final Object[] events;
+	private final int mask;
+
+	private final LoggerSequence head;
+	private final LoggerSequence tail;
+
+	/// Create a ring with the provided capacity, rounded up to the next power
+	/// of two, with every slot pre-allocated with the provided factory.
+	///
+	/// @throws IllegalArgumentException capacity below one or above 2^30
+	public LoggerEventRing(int capacity, Supplier<E> factory) {
+		if (capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("Event ring capacity must be between 1 and " + (1 << 30));
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) size <<= 1;
+
+		this.sequences = new long[size];
+		this.events = new Object[size];
+		this.mask = size - 1;
+		for (int i = 0; i < size; i++) {
+			this.sequences[i] = 2L * i;
+			this.events[i] = factory.get();
+		}
+
+		this.head = new LoggerSequence(0L);
+		this.tail = new LoggerSequence(0L);
+	}
+
+	/// Claim the next position for writing, returning `-1` if the ring is full.
+	/// This never waits; a claimed position must always be published.
+	public long claim() {
+		long position = this.tail.get();
+		while (true) {
+			int index = (int) position & this.mask;
+			long sequence = (long) SEQUENCES.getAcquire(this.sequences, index);
+			long difference = sequence - 2L * position;
+
+			if (difference == 0L) {
+				if (this.tail.compareAndSet(position, position + 1L)) return position;
+				position = this.tail.get();
+				continue;
+			}
+
+			if (difference < 0L) return -1L;
+			position = this.tail.get();
+		}
+	}
+
+	/// Make the event at the provided (claimed) position visible to consumers.
+	public void publish(long position) {
+		SEQUENCES.setRelease(this.sequences, (int) position & this.mask, 2L * position + 1L);
+	}
+
+	/// Obtain the next published position for reading, returning `-1` if there
+	/// is none. This never waits; an obtained position must always be released.
+	public long next() {
+		long position = this.head.get();
+		while (true) {
+			int index = (int) position & this.mask;
+			long sequence = (long) SEQUENCES.getAcquire(this.sequences, index);
+			long difference = sequence - (2L * position + 1L);
+
+			if (difference == 0L) {
+				if (this.head.compareAndSet(position, position + 1L)) return position;
+				position = this.head.get();
+				continue;
+			}
+
+			if (difference < 0L) return -1L;
+			position = this.head.get();
+		}
+	}
+
+	/// Return the slot at the provided (read) position to producers.
+	public void release(long position) {
+		SEQUENCES.setRelease(this.sequences, (int) position & this.mask, 2L * (position + this.mask + 1L));
+	}
+
+	/// Returns the event at the provided position, which must be claimed or
+	/// obtained by the calling thread.
+	@SuppressWarnings("unchecked")
+	public E get(long position) {
+		return (E) this.events[(int) position & this.mask];
+	}
+
+	/// Returns whether there are no events in the ring, including those that
+	/// are in the process of being written or read.
+	public boolean isEmpty() {
+		return this.head.get() == this.tail.get();
+	}
+
+	/// Returns the maximum number of events that the ring can hold.
+	public int capacity() {
+		return this.events.length;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package sirius.stellar.logging.concurrent;
+
+import sirius.stellar.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A histogram of durations in nanoseconds, e.g. the time spent collecting,
+/// which can be recorded into concurrently, without locking or allocating.
+///
+/// Values are counted in log-linear buckets (as HdrHistogram does): every power
+/// of two is divided into 8 buckets, so the percentiles reported by [#snapshot()]
+/// are within 12.5% of the recorded values, with a fixed size of 496 buckets
+/// covering every positive `long`.
+///
+/// @since 1.0
+public final class LoggerHistogram {
+
+	/// The number of bits of every value that are significant, beyond the
+	/// highest bit, i.e. every power of two is divided into `1 << 3` buckets.
+	private static final int PRECISION = 3;
+	private static final int BUCKETS = ((63 - PRECISION) << PRECISION) + (2 << PRECISION);
+
+	private final AtomicLongArray counts;
+	private final LongAdder count;
+	private final LongAdder total;
+	private final LongAccumulator maximum;
+
+	@Internal
+	public LoggerHistogram() {
+		this.counts = new AtomicLongArray(BUCKETS);
+		this.count = new LongAdder();
+		this.total = new LongAdder();
+		this.maximum = new LongAccumulator(Math::max, 0L);
+	}
+
+	/// Record the provided value, in nanoseconds; negative values are
+	/// recorded as zero.
+	@Internal
+	public void record(long nanos) {
+		long value = Math.max(0L, nanos);
+		this.counts.incrementAndGet(index(value));
+		this.count.increment();
+		this.total.add(value);
+		this.maximum.accumulate(value);
+	}
+
+	/// Returns a snapshot of the values recorded so far.
+	/// This is an estimate, if values are recorded concurrently.
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		long count = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = this.counts.get(i);
+			count += counts[i];
+		}
+
+		long maximum = this.maximum.get();
+		return new Snapshot(
+			count,
+			this.total.sum(),
+			maximum,
+			percentile(counts, count, 0.5, maximum),
+			percentile(counts, count, 0.9, maximum),
+			percentile(counts, count, 0.99, maximum),
+			percentile(counts, count, 0.999, maximum)
+		);
+	}
+
+	/// Returns the highest value of the bucket that the provided fraction of
+	/// the provided number of values falls in, or zero if there are none.
+	private static long percentile(long[] counts, long count, double fraction, long maximum) {
+		if (count == 0L) return 0L;
+		long rank = Math.max(1L, (long) Math.ceil(count * fraction));
+
+		long seen = 0L;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) return Math.min(highest(i), maximum);
+		}
+		return maximum;
+	}
+
+	/// Returns the index of the bucket for the provided (non-negative) value.
+	private static int index(long value) {
+		int bucket = Math.max(0, (63 - Long.numberOfLeadingZeros(value)) - PRECISION);
+		return (bucket << PRECISION) + (int) (value >>> bucket);
+	}
+
+	/// Returns the highest value counted in the bucket with the provided index.
+	private static long highest(int index) {
+		if (index < (2 << PRECISION)) return index;
+		int bucket = (index >>> PRECISION) - 1;
+		long sub = (index & ((1 << PRECISION) - 1)) + (1 << PRECISION);
+		return ((sub + 1) << bucket) - 1;
+	}
+
+	/// A snapshot of a [LoggerHistogram], where every value is in nanoseconds.
+	///
+	/// @param count The number of values recorded.
+	/// @param total The sum of all values recorded.
+	/// @param maximum The highest value recorded.
+	/// @param p50 The median value.
+	/// @param p90 The 90th percentile value.
+	/// @param p99 The 99th percentile value.
+	/// @param p999 The 99.9th percentile value.
+	/// @since 1.0
+	public record Snapshot(long count, long total, long maximum, long p50, long p90, long p99, long p999) {
+
+		/// Returns the mean value, or zero if there are no values.
+		public long mean() {
+			return (this.count == 0L) ? 0L : this.total / this.count;
+		}
+	}
+}
\ No newline at end of file
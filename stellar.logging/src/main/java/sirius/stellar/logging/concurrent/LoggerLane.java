@@ -0,0 +1,203 @@
+package sirius.stellar.logging.concurrent;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.annotation.Internal;
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.util.Collections.unmodifiableList;
+
+/// A lane dedicated to a single [LoggerCollector], consisting of a bounded
+/// queue of messages, and a worker that drains that queue in batches and
+/// submits them to the collector.
+///
+/// [Logger] fans out every collected message to the lane of each collector,
+/// so a collector that stalls (e.g. writing to a blocked pipe) only fills up
+/// its own lane, and does not delay any of the other collectors until then.
+///
+/// When a lane is full, the [LoggerOverflow] policy of the [LoggerScheduler]
+/// is applied, as it is for the queue of [Logger]; with the default policy,
+/// the thread fanning out messages waits for capacity, so no messages are
+/// discarded (but the other collectors are delayed once the lane is full).
+/// Messages that are discarded are counted by [#dropped()], as well as by
+/// [Logger#dropped(LoggerLevel)].
+///
+/// @see LoggerScheduler#lanes()
+/// @since 1.0
+public final class LoggerLane implements Runnable {
+
+	private final LoggerMeter meter;
+	private final LoggerRingBuffer<LoggerMessage> ring;
+	private final LoggerWaitStrategy waiting;
+	private final LoggerOverflow overflow;
+	private final LoggerOverflow.Queue queue;
+	private final int batch;
+
+	private final LongAdder dropped;
+	private final Consumer<LoggerEvent> discarded;
+	private final CountDownLatch finished;
+
+	@Nullable
+	private volatile Thread worker;
+	private volatile boolean closing;
+
+	/// Create a lane for the collector of the provided meter, configured by the
+	/// provided scheduler. This does not start the worker, see [#run()].
+	///
+	/// Every message discarded by this lane is counted by [#dropped()], and
+	/// then provided to the provided consumer.
+	@Internal
+	public LoggerLane(LoggerMeter meter, LoggerScheduler scheduler, Consumer<LoggerEvent> discarded) {
+		this.meter = meter;
+		this.waiting = scheduler.waiting();
+		this.ring = new LoggerRingBuffer<>(scheduler.laneCapacity(), this.waiting);
+		this.overflow = scheduler.overflow();
+		this.queue = new LaneQueue();
+		this.batch = Math.max(1, scheduler.batch());
+
+		this.dropped = new LongAdder();
+		this.discarded = discarded;
+		this.finished = new CountDownLatch(1);
+	}
+
+	/// Enqueue the provided message for the collector of this lane, applying
+	/// the [LoggerOverflow] policy if this lane is full.
+	///
+	/// @throws InterruptedException interrupted while waiting for capacity
+	@Internal
+	public void offer(LoggerMessage message) throws InterruptedException {
+		if (this.ring.offer(message)) return;
+		this.overflow.overflow(this.queue, message);
+	}
+
+	/// Repeatedly drain a batch of messages from this lane, waiting for the
+	/// first message, then submit the batch to the collector, until the thread
+	/// is interrupted, or this lane is closing and has been emptied.
+	@Override
+	@Internal
+	public void run() {
+		this.worker = Thread.currentThread();
+		try {
+			List<LoggerMessage> batch = new ArrayList<>(this.batch);
+			List<LoggerMessage> view = unmodifiableList(batch);
+			int attempt = 0;
+
+			while (!Thread.currentThread().isInterrupted()) {
+				LoggerMessage message = this.ring.poll();
+				if (message == null) {
+					if (this.closing && this.ring.isEmpty()) return;
+					attempt = this.waiting.idle(attempt);
+					continue;
+				}
+				attempt = 0;
+
+				batch.add(message);
+				this.ring.drainTo(batch, this.batch - 1);
+
+				try {
+					this.meter.collect(view);
+				} finally {
+					batch.clear();
+				}
+			}
+		} finally {
+			this.finished.countDown();
+		}
+	}
+
+	/// Close this lane, so that the worker stops once all messages queued on
+	/// this lane have been collected. This does not wait, see [#await()].
+	@Internal
+	public void close() {
+		this.closing = true;
+	}
+
+	/// Wait for the worker of this lane to stop, after [#close()].
+	///
+	/// @throws InterruptedException interrupted while waiting
+	@Internal
+	public void await() throws InterruptedException {
+		this.finished.await();
+	}
+
+	/// Returns the thread running the worker of this lane, or `null` if the
+	/// worker has not started.
+	@Internal
+	@Nullable
+	public Thread worker() {
+		return this.worker;
+	}
+
+	/// Returns the collector that this lane submits messages to.
+	public LoggerCollector collector() {
+		return this.meter.collector();
+	}
+
+	/// Returns the meter of the collector that this lane submits messages to.
+	public LoggerMeter meter() {
+		return this.meter;
+	}
+
+	/// Returns the number of messages currently queued on this lane.
+	/// This is an estimate.
+	public int depth() {
+		return this.ring.size();
+	}
+
+	/// Returns the number of messages that have been submitted to the collector
+	/// of this lane.
+	public long collected() {
+		return this.meter.collected();
+	}
+
+	/// Returns the number of messages that have been discarded, as this lane
+	/// was full.
+	public long dropped() {
+		return this.dropped.sum();
+	}
+
+	/// Implementation of [LoggerOverflow.Queue] over the queue of this lane.
+	private final class LaneQueue implements LoggerOverflow.Queue {
+
+		@Override
+		public boolean offer(LoggerEvent event) {
+			return ring.offer(event.message());
+		}
+
+		@Override
+		public boolean offer(LoggerEvent event, long nanos) throws InterruptedException {
+			return ring.put(event.message(), nanos);
+		}
+
+		@Override
+		public void put(LoggerEvent event) throws InterruptedException {
+			ring.put(event.message());
+		}
+
+		@Override
+		@Nullable
+		public LoggerEvent poll() {
+			return ring.poll();
+		}
+
+		@Override
+		public void collect(LoggerEvent event) {
+			meter.collect(event.message());
+		}
+
+		@Override
+		public void discard(LoggerEvent event) {
+			dropped.increment();
+			discarded.accept(event);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package sirius.stellar.logging.concurrent;
+
+import sirius.stellar.annotation.Internal;
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.System.nanoTime;
+
+/// Measures a single [LoggerCollector], i.e. every submission of messages to
+/// the collector goes through this, which counts the messages collected, and
+/// times every invocation of the collector.
+///
+/// A [RuntimeException] thrown by the collector is counted by [#errors()]
+/// rather than propagated, so that a failing collector can never stop the
+/// thread collecting messages (for [Logger], or for its [LoggerLane]).
+///
+/// @see Logger#metrics()
+/// @since 1.0
+public final class LoggerMeter {
+
+	private final LoggerCollector collector;
+	private final LongAdder collected;
+	private final LongAdder errors;
+	private final LoggerHistogram time;
+
+	@Internal
+	public LoggerMeter(LoggerCollector collector) {
+		this.collector = collector;
+		this.collected = new LongAdder();
+		this.errors = new LongAdder();
+		this.time = new LoggerHistogram();
+	}
+
+	/// Submit the provided batch of messages to the collector.
+	///
+	/// @see LoggerCollector#collect(List)
+	@Internal
+	public void collect(List<LoggerMessage> messages) {
+		long start = nanoTime();
+		try {
+			this.collector.collect(messages);
+			this.collected.add(messages.size());
+		} catch (RuntimeException exception) {
+			this.errors.increment();
+		} finally {
+			this.time.record(nanoTime() - start);
+		}
+	}
+
+	/// Submit the provided message to the collector.
+	///
+	/// @see LoggerCollector#collect(LoggerMessage)
+	@Internal
+	public void collect(LoggerMessage message) {
+		long start = nanoTime();
+		try {
+			this.collector.collect(message);
+			this.collected.increment();
+		} catch (RuntimeException exception) {
+			this.errors.increment();
+		} finally {
+			this.time.record(nanoTime() - start);
+		}
+	}
+
+	/// Submit the provided event to the collector.
+	///
+	/// @see LoggerCollector#collect(LoggerEvent)
+	@Internal
+	public void collect(LoggerEvent event) {
+		long start = nanoTime();
+		try {
+			this.collector.collect(event);
+			this.collected.increment();
+		} catch (RuntimeException exception) {
+			this.errors.increment();
+		} finally {
+			this.time.record(nanoTime() - start);
+		}
+	}
+
+	/// Returns the collector that this measures.
+	public LoggerCollector collector() {
+		return this.collector;
+	}
+
+	/// Returns the number of messages that have been collected, i.e. submitted
+	/// to the collector without it throwing.
+	public long collected() {
+		return this.collected.sum();
+	}
+
+	/// Returns the number of invocations of the collector that have thrown.
+	public long errors() {
+		return this.errors.sum();
+	}
+
+	/// Returns the time taken by every invocation of the collector.
+	public LoggerHistogram time() {
+		return this.time;
+	}
+}
\ No newline at end of file
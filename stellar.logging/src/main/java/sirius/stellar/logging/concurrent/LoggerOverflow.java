@@ -0,0 +1,134 @@
+package sirius.stellar.logging.concurrent;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerEvent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Represents the policy applied by [Logger#dispatch] for a message that
+/// could not be enqueued, as the queue of messages waiting to be collected is
+/// full (e.g. when a collector has stalled on a slow disk or backend).
+///
+/// Any message that a policy decides not to keep must be reported with
+/// [Queue#discard], which is what drives the counters for [Logger#dropped].
+///
+/// @see LoggerScheduler#overflow()
+/// @since 1.0
+@FunctionalInterface
+public interface LoggerOverflow {
+
+	/// Handle the provided message, which could not be enqueued.
+	/// This is invoked on the thread dispatching the message.
+	///
+	/// @throws InterruptedException interrupted while waiting for capacity
+	void overflow(Queue queue, LoggerEvent message) throws InterruptedException;
+
+	/// Returns a policy that waits for capacity indefinitely, so no messages
+	/// are ever discarded. This is the default policy.
+	static LoggerOverflow blocking() {
+		return Queue::put;
+	}
+
+	/// Returns a policy that waits for capacity up to the provided timeout,
+	/// discarding the message if none became available in time.
+	static LoggerOverflow blocking(Duration timeout) {
+		long nanos = timeout.toNanos();
+		return (queue, message) -> {
+			if (queue.offer(message, nanos)) return;
+			queue.discard(message);
+		};
+	}
+
+	/// Returns a policy that discards the message being dispatched.
+	static LoggerOverflow dropNewest() {
+		return Queue::discard;
+	}
+
+	/// Returns a policy that discards the oldest messages in the queue
+	/// until there is capacity for the message being dispatched.
+	static LoggerOverflow dropOldest() {
+		return (queue, message) -> {
+			while (!queue.offer(message)) {
+				LoggerEvent oldest = queue.poll();
+				if (oldest != null) queue.discard(oldest);
+			}
+		};
+	}
+
+	/// Returns a policy that discards messages with a severity above the
+	/// provided level (e.g. [LoggerLevel#TRACING] and [LoggerLevel#DIAGNOSIS]
+	/// when the provided level is [LoggerLevel#ERROR]), and waits for capacity
+	/// indefinitely for all other messages.
+	///
+	/// @see LoggerLevel#severity()
+	static LoggerOverflow shedding(LoggerLevel level) {
+		int severity = level.severity();
+		return (queue, message) -> {
+			if (message.level().severity() > severity) {
+				queue.discard(message);
+				return;
+			}
+			queue.put(message);
+		};
+	}
+
+	/// Returns a policy that waits for capacity indefinitely for one in every
+	/// `rate` messages that overflow, and discards the others.
+	///
+	/// @throws IllegalArgumentException rate below one
+	static LoggerOverflow sampling(int rate) {
+		if (rate < 1) throw new IllegalArgumentException("Sampling rate must be at least 1");
+		AtomicLong counter = new AtomicLong();
+		return (queue, message) -> {
+			if (counter.getAndIncrement() % rate == 0) {
+				queue.put(message);
+				return;
+			}
+			queue.discard(message);
+		};
+	}
+
+	/// Returns a policy that collects the message on the dispatching thread,
+	/// by invoking all collectors directly (a "caller-runs" policy).
+	///
+	/// This means that messages may be collected out of order, and that
+	/// collectors may be invoked by several threads at once, so they must
+	/// be thread-safe to be used with this policy.
+	static LoggerOverflow collecting() {
+		return Queue::collect;
+	}
+
+	/// Represents the queue of messages waiting to be collected, as seen from
+	/// an overflowing [LoggerOverflow] policy.
+	interface Queue {
+
+		/// Enqueue the provided message, returning `false` if the queue is full.
+		boolean offer(LoggerEvent message);
+
+		/// Enqueue the provided message, waiting for capacity to become available,
+		/// for at most the provided number of nanoseconds.
+		///
+		/// @return whether the message was enqueued before the timeout
+		/// @throws InterruptedException interrupted while waiting for capacity
+		boolean offer(LoggerEvent message, long nanos) throws InterruptedException;
+
+		/// Enqueue the provided message, waiting for capacity to become available.
+		///
+		/// @throws InterruptedException interrupted while waiting for capacity
+		void put(LoggerEvent message) throws InterruptedException;
+
+		/// Dequeue the oldest message, or return `null` if there is none.
+		/// The returned message must be passed to [#discard], or enqueued again.
+		@Nullable
+		LoggerEvent poll();
+
+		/// Collect the provided message on the calling thread, bypassing the queue.
+		void collect(LoggerEvent message);
+
+		/// Discard the provided message, counting it as dropped.
+		void discard(LoggerEvent message);
+	}
+}
\ No newline at end of file
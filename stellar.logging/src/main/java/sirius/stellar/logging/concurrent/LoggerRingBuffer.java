@@ -0,0 +1,198 @@
+package sirius.stellar.logging.concurrent;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.annotation.Internal;
+import sirius.stellar.logging.Logger;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+
+/// A pre-sized, lock-free, bounded ring buffer used by [Logger] for queueing
+/// messages between dispatching threads and the collecting thread.
+///
+/// Every slot of the ring carries its own sequence number, and producers and
+/// consumers claim slots by advancing their own padded [LoggerSequence] with a
+/// single compare-and-set; no locks are taken, and nothing is allocated for an
+/// element being queued.
+///
+/// While primarily used by a single consumer, it is safe for any thread to
+/// [#poll()] (e.g. when an overflowing producer discards the oldest message).
+///
+/// @implNote This is an implementation of the bounded multi-producer,
+/// multi-consumer queue described by Dmitry Vyukov, where the sequence of a
+/// slot is doubled (even while the slot is free for the producer at half of
+/// it, odd while it is full for the consumer at half of it), so that a free
+/// slot can be told apart from a full one even when the capacity is one.
+///
+/// @param <E> The type of element.
+/// @since 1.0
+@Internal
+public final class LoggerRingBuffer<E> {
+
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	private final long[] sequences;
+	private final Object[] elements;
+	private final int mask;
+
+	private final LoggerWaitStrategy strategy;
+
+	private final LoggerSequence head;
+	private final LoggerSequence tail;
+
+	/// Create a ring buffer with the provided capacity, rounded up to the
+	/// next power of two, and the provided strategy for waiting.
+	///
+	/// @throws IllegalArgumentException capacity below one or above 2^30
+	public LoggerRingBuffer(int capacity, LoggerWaitStrategy strategy) {
+		if (capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("Ring buffer capacity must be between 1 and " + (1 << 30));
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) size <<= 1;
+
+		this.sequences = new long[size];
+		this.elements = new Object[size];
+		this.mask = size - 1;
+		for (int i = 0; i < size; i++) this.sequences[i] = 2L * i;
+
+		this.strategy = strategy;
+
+		this.head = new LoggerSequence(0L);
+		this.tail = new LoggerSequence(0L);
+	}
+
+	/// Enqueue the provided element, returning `false` if the ring is full.
+	/// This never waits.
+	public boolean offer(E element) {
+		long position = this.tail.get();
+		while (true) {
+			int index = (int) position & this.mask;
+			long sequence = (long) SEQUENCES.getAcquire(this.sequences, index);
+			long difference = sequence - 2L * position;
+
+			if (difference == 0L) {
+				if (this.tail.compareAndSet(position, position + 1L)) {
+					ELEMENTS.set(this.elements, index, element);
+					SEQUENCES.setRelease(this.sequences, index, 2L * position + 1L);
+					return true;
+				}
+				position = this.tail.get();
+				continue;
+			}
+
+			if (difference < 0L) return false;
+			position = this.tail.get();
+		}
+	}
+
+	/// Enqueue the provided element, waiting with the [LoggerWaitStrategy]
+	/// of this ring buffer for capacity to become available.
+	///
+	/// @throws InterruptedException interrupted while waiting for capacity
+	public void put(E element) throws InterruptedException {
+		int attempt = 0;
+		while (!this.offer(element)) {
+			if (Thread.interrupted()) throw new InterruptedException();
+			attempt = this.strategy.idle(attempt);
+		}
+	}
+
+	/// Enqueue the provided element, waiting with the [LoggerWaitStrategy]
+	/// of this ring buffer for capacity to become available, for at most the
+	/// provided number of nanoseconds.
+	///
+	/// @return whether the element was enqueued before the timeout
+	/// @throws InterruptedException interrupted while waiting for capacity
+	public boolean put(E element, long nanos) throws InterruptedException {
+		long deadline = System.nanoTime() + nanos;
+		int attempt = 0;
+		while (!this.offer(element)) {
+			if (Thread.interrupted()) throw new InterruptedException();
+			if (System.nanoTime() - deadline >= 0L) return false;
+			attempt = this.strategy.idle(attempt);
+		}
+		return true;
+	}
+
+	/// Dequeue the element at the head of the ring, or return `null` if the
+	/// ring is empty (or the next element has not finished being enqueued).
+	/// This never waits.
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		long position = this.head.get();
+		while (true) {
+			int index = (int) position & this.mask;
+			long sequence = (long) SEQUENCES.getAcquire(this.sequences, index);
+			long difference = sequence - (2L * position + 1L);
+
+			if (difference == 0L) {
+				if (this.head.compareAndSet(position, position + 1L)) {
+					E element = (E) ELEMENTS.get(this.elements, index);
+					ELEMENTS.set(this.elements, index, null);
+					SEQUENCES.setRelease(this.sequences, index, 2L * (position + this.mask + 1L));
+					return element;
+				}
+				position = this.head.get();
+				continue;
+			}
+
+			if (difference < 0L) return null;
+			position = this.head.get();
+		}
+	}
+
+	/// Dequeue up to the provided number of elements at the head of the ring,
+	/// adding them to the provided collection. This never waits.
+	///
+	/// @return the number of elements dequeued
+	public int drainTo(Collection<? super E> collection, int limit) {
+		int drained = 0;
+		while (drained < limit) {
+			E element = this.poll();
+			if (element == null) break;
+
+			collection.add(element);
+			drained++;
+		}
+		return drained;
+	}
+
+	/// Dequeue the element at the head of the ring, waiting with the
+	/// [LoggerWaitStrategy] of this ring buffer for one to be enqueued.
+	///
+	/// @throws InterruptedException interrupted while waiting for an element
+	public E take() throws InterruptedException {
+		int attempt = 0;
+		while (true) {
+			E element = this.poll();
+			if (element != null) return element;
+
+			if (Thread.interrupted()) throw new InterruptedException();
+			attempt = this.strategy.idle(attempt);
+		}
+	}
+
+	/// Returns the number of elements in the ring, including those that are
+	/// in the process of being enqueued or dequeued. This is an estimate.
+	public int size() {
+		while (true) {
+			long head = this.head.get();
+			long tail = this.tail.get();
+			if (head != this.head.get()) continue;
+			return (int) Math.max(0L, Math.min(tail - head, this.elements.length));
+		}
+	}
+
+	/// Returns whether there are no elements in the ring, including those that
+	/// are in the process of being enqueued or dequeued.
+	public boolean isEmpty() {
+		return this.head.get() == this.tail.get();
+	}
+
+	/// Returns the maximum number of elements that the ring can hold.
+	public int capacity() {
+		return this.elements.length;
+	}
+}
\ No newline at end of file
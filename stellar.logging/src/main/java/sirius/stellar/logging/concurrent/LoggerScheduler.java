@@ -2,7 +2,12 @@ package sirius.stellar.logging.concurrent;
 
 import sirius.stellar.annotation.Internal;
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerCollector;
+import sirius.stellar.logging.spi.LoggerFilter;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ExecutorService;
@@ -13,8 +18,10 @@ import static java.util.stream.Collectors.joining;
 /// [ExecutorService] used by [Logger] for scheduling logging.
 /// This SPI allows for another implementation to be provided, if desired.
 ///
-/// @implNote By default, a single thread worker is used, and on JVM >21,
-/// an executor that creates a virtual thread per task.
+/// @implNote By default, a thread is created per long-lived task (i.e. the task
+/// collecting messages, one per [LoggerLane], and one reporting for every
+/// [LoggerFilter], once any is registered), and on JVM >21, these are virtual
+/// threads.
 ///
 /// @since 1.0
 public interface LoggerScheduler
@@ -27,6 +34,90 @@ public interface LoggerScheduler
 		return false;
 	}
 
+	/// Whether every collector should be given its own [LoggerLane], so that a
+	/// collector that stalls does not delay any of the other collectors.
+	///
+	/// This requires the scheduler to be able to run a long-lived task per
+	/// collector at once (in addition to the task collecting messages), and
+	/// takes precedence over [#parallel()] if both are enabled.
+	default boolean lanes() {
+		return false;
+	}
+
+	/// The number of messages that can be queued for collection at once.
+	/// This is rounded up to the next power of two.
+	///
+	/// The queue is a [LoggerRingBuffer], allocated once with this capacity
+	/// when [Logger] is initialized, so this should be large enough to absorb
+	/// bursts of logging without making dispatching threads wait.
+	default int capacity() {
+		return 1 << 16;
+	}
+
+	/// The number of messages that can be queued per [LoggerLane], if enabled.
+	/// This is rounded up to the next power of two.
+	///
+	/// Every lane allocates its own queue with this capacity, so by default,
+	/// this is a sixteenth of [#capacity()] (but at least [#batch()]).
+	default int laneCapacity() {
+		return Math.max(this.capacity() >> 4, this.batch());
+	}
+
+	/// The strategy used for waiting on the queue, both by the thread collecting
+	/// messages while the queue is empty, and by threads dispatching messages
+	/// while the queue is full.
+	///
+	/// @see LoggerWaitStrategy
+	default LoggerWaitStrategy waiting() {
+		return LoggerWaitStrategy.PARKING;
+	}
+
+	/// The policy applied when a message is dispatched while the queue is full,
+	/// or fanned out to a [LoggerLane] that is full.
+	///
+	/// @see LoggerOverflow
+	default LoggerOverflow overflow() {
+		return LoggerOverflow.blocking();
+	}
+
+	/// The maximum number of messages drained from the queue at once, and
+	/// submitted to every collector together (as a batch).
+	///
+	/// @see LoggerCollector#collect(List)
+	default int batch() {
+		return 512;
+	}
+
+	/// The maximum amount of time to wait for a batch to fill up, once the
+	/// first message of the batch has been drained.
+	///
+	/// By default, this is zero, so batches consist of whatever messages are
+	/// queued when collection starts; a small value (e.g. tens of microseconds)
+	/// trades latency for fewer, larger batches under moderate load.
+	default Duration linger() {
+		return Duration.ZERO;
+	}
+
+	/// Whether messages logged through the methods of [Logger] should be written
+	/// into pre-allocated, reusable events (see [LoggerEvent]), rather than being
+	/// allocated as a [LoggerMessage] each, so that no garbage is created per
+	/// message in steady state.
+	///
+	/// If [#lanes()] are enabled, every event is copied into a message for the
+	/// [LoggerLane]s, so only the dispatching thread is garbage-free. Otherwise,
+	/// these events are collected directly by the thread collecting messages,
+	/// so collectors should be fast, and override
+	/// [LoggerCollector#collect(LoggerEvent)] to avoid allocation entirely.
+	default boolean garbageFree() {
+		return false;
+	}
+
+	/// The interval at which every [LoggerFilter] reports the messages it has
+	/// rejected (see [LoggerFilter#report]), as synthetic messages.
+	default Duration reporting() {
+		return Duration.ofSeconds(30);
+	}
+
 	/// Obtain a [LoggerScheduler] instance, service-loading the first
 	/// alternative implementation found on the class-path/module-path,
 	/// if one is available.
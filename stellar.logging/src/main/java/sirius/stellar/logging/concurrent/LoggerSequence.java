@@ -0,0 +1,54 @@
+package sirius.stellar.logging.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/// Padding preceding the value of a [LoggerSequence].
+@SuppressWarnings("unused")
+abstract class LoggerSequenceLeftPadding {
+	protected long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/// The value of a [LoggerSequence], between both of its paddings.
+abstract class LoggerSequenceValue extends LoggerSequenceLeftPadding {
+	protected volatile long value;
+}
+
+/// Padding following the value of a [LoggerSequence].
+@SuppressWarnings("unused")
+abstract class LoggerSequenceRightPadding extends LoggerSequenceValue {
+	protected long p11, p12, p13, p14, p15, p16, p17;
+}
+
+/// A sequence counter, padded on both sides to occupy its own cache line, so
+/// that producers and consumers of [LoggerRingBuffer] updating their respective
+/// sequences never contend on the same line (false sharing).
+///
+/// @implNote Field layout relies on superclass fields being laid out before
+/// those of the subclass, which is the case for all mainstream JVMs.
+final class LoggerSequence extends LoggerSequenceRightPadding {
+
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(LoggerSequenceValue.class, "value", long.class);
+		} catch (ReflectiveOperationException exception) {
+			throw new ExceptionInInitializerError(exception);
+		}
+	}
+
+	LoggerSequence(long initial) {
+		VALUE.setRelease(this, initial);
+	}
+
+	/// Returns the current value with volatile semantics.
+	long get() {
+		return this.value;
+	}
+
+	/// Atomically sets the value to `next` if it is currently `current`.
+	boolean compareAndSet(long current, long next) {
+		return VALUE.compareAndSet(this, current, next);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package sirius.stellar.logging.concurrent;
+
+import sirius.stellar.logging.Logger;
+
+import static java.lang.Thread.onSpinWait;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+
+/// Strategies for waiting on a [LoggerRingBuffer], used both by the thread
+/// collecting messages (waiting for a message to be dispatched), and by any
+/// thread dispatching messages (waiting for capacity when the buffer is full).
+///
+/// None of these strategies acquire a lock; they only differ in the trade-off
+/// between latency and the CPU time burned while there is nothing to do.
+///
+/// @see LoggerScheduler#waiting()
+/// @see Logger
+/// @since 1.0
+public enum LoggerWaitStrategy {
+
+	/// Busy-spin, hinting the processor with [Thread#onSpinWait()].
+	/// This provides the lowest latency, but occupies an entire core.
+	SPINNING {
+		@Override
+		void pause(int attempt) {
+			onSpinWait();
+		}
+	},
+
+	/// Busy-spin for a short while, then [Thread#yield()] to other threads.
+	/// This is a compromise that is suitable when cores are not oversubscribed.
+	YIELDING {
+		@Override
+		void pause(int attempt) {
+			if (attempt < SPINS) {
+				onSpinWait();
+				return;
+			}
+			Thread.yield();
+		}
+	},
+
+	/// Busy-spin and yield for a short while, then park the thread, for twice
+	/// as long on every attempt, from 50 microseconds up to 4 milliseconds.
+	/// This is the least CPU intensive strategy; an idle thread only wakes up
+	/// every few milliseconds.
+	PARKING {
+		@Override
+		void pause(int attempt) {
+			if (attempt < SPINS) {
+				onSpinWait();
+				return;
+			}
+			if (attempt < SPINS + YIELDS) {
+				Thread.yield();
+				return;
+			}
+			parkNanos(Math.min(PARK_NANOS << Math.min(attempt - SPINS - YIELDS, 16), PARK_NANOS_MAXIMUM));
+		}
+	};
+
+	/// The number of attempts to spin before backing off.
+	private static final int SPINS = 128;
+
+	/// The number of attempts to yield before parking (where applicable).
+	private static final int YIELDS = 64;
+
+	/// The number of nanoseconds to park for, once spinning and yielding
+	/// have been exhausted.
+	private static final long PARK_NANOS = 50_000L;
+
+	/// The number of nanoseconds to park for at most, once parking has backed
+	/// off.
+	private static final long PARK_NANOS_MAXIMUM = 4_000_000L;
+
+	/// The attempt above which every attempt waits the same, and is no longer
+	/// counted, so that it never overflows.
+	private static final int ATTEMPTS = SPINS + YIELDS + 64;
+
+	/// Wait once, where the provided attempt is the number of times this has
+	/// been invoked consecutively without the awaited condition being met
+	/// (starting at zero).
+	///
+	/// @return the attempt to provide to the next invocation, which is capped,
+	/// so that it never overflows however long the condition is awaited
+	public int idle(int attempt) {
+		this.pause(attempt);
+		return (attempt < ATTEMPTS) ? attempt + 1 : attempt;
+	}
+
+	/// Wait once, for the provided attempt (see [#idle(int)]).
+	abstract void pause(int attempt);
+}
\ No newline at end of file
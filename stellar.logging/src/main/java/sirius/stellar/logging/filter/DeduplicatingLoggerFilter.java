@@ -0,0 +1,133 @@
+package sirius.stellar.logging.filter;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerFilter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static java.lang.Thread.currentThread;
+
+/// Implementation of [LoggerFilter] that suppresses duplicate messages, i.e.
+/// messages with the same level, logger name and template (regardless of their
+/// arguments, or throwable) as a message that was accepted since this last
+/// reported, which are reported as `"Message repeated N times"` instead.
+///
+/// Messages are tracked in a small table of fingerprints (hashes of the level,
+/// name and template), where every slot is claimed with a compare-and-set, so
+/// this never locks, and only allocates the first time a message is seen since
+/// this last reported. When two messages collide in the table, the message that
+/// does not occupy the slot is accepted. The table is emptied every time this
+/// reports, so that the next occurrence of every message is accepted again.
+///
+/// Reporting retires a fingerprint (by swapping its count for a sentinel)
+/// before removing it from its slot, so an occurrence counted concurrently is
+/// either included in the report, or sees the retired fingerprint and is
+/// accepted as the first occurrence since, replacing it; none are lost.
+///
+/// @since 1.0
+public final class DeduplicatingLoggerFilter implements LoggerFilter {
+
+	/// The count of a fingerprint that has been reported, and is being removed.
+	private static final long RETIRED = Long.MIN_VALUE;
+
+	private final AtomicReferenceArray<@Nullable Fingerprint> fingerprints;
+	private final int mask;
+
+	/// Create a filter with a table of `1024` fingerprints.
+	public DeduplicatingLoggerFilter() {
+		this(1 << 10);
+	}
+
+	/// Create a filter with a table of the provided number of fingerprints,
+	/// rounded up to the next power of two.
+	///
+	/// @throws IllegalArgumentException capacity below one or above 2^30
+	public DeduplicatingLoggerFilter(int capacity) {
+		if (capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("Fingerprint table capacity must be between 1 and " + (1 << 30));
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) size <<= 1;
+
+		this.fingerprints = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	@Override
+	public boolean test(LoggerLevel level, String name, String template) {
+		int hash = hash(level, name, template);
+		int index = hash & this.mask;
+
+		while (true) {
+			Fingerprint fingerprint = this.fingerprints.get(index);
+			if (fingerprint == null || fingerprint.retired()) {
+				if (this.fingerprints.compareAndSet(index, fingerprint, new Fingerprint(hash, level, name, template))) return true;
+				continue;
+			}
+			if (!fingerprint.matches(hash, level, name, template)) return true;
+			if (fingerprint.repeated.getAndIncrement() >= 0L) return false;
+		}
+	}
+
+	@Override
+	public void report(Consumer<LoggerMessage> reporter) {
+		Instant time = Instant.now();
+		String thread = currentThread().getName();
+
+		for (int i = 0; i < this.fingerprints.length(); i++) {
+			Fingerprint fingerprint = this.fingerprints.get(i);
+			if (fingerprint == null) continue;
+
+			long repeated = fingerprint.repeated.getAndSet(RETIRED);
+			this.fingerprints.compareAndSet(i, fingerprint, null);
+			if (repeated <= 0L) continue;
+
+			String text = "Message repeated " + repeated + " times: " + fingerprint.template;
+			reporter.accept(new LoggerMessage(time, fingerprint.level, thread, fingerprint.name, text));
+		}
+	}
+
+	/// Returns the hash of the provided level, name and template, spread so
+	/// that the lower bits (which are used as the index into the table) depend
+	/// on the higher bits.
+	private static int hash(LoggerLevel level, String name, String template) {
+		int hash = level.ordinal();
+		hash = 31 * hash + name.hashCode();
+		hash = 31 * hash + template.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	/// Slot of the table, for a single message.
+	private static final class Fingerprint {
+
+		private final int hash;
+		private final LoggerLevel level;
+		private final String name;
+		private final String template;
+		private final AtomicLong repeated;
+
+		private Fingerprint(int hash, LoggerLevel level, String name, String template) {
+			this.hash = hash;
+			this.level = level;
+			this.name = name;
+			this.template = template;
+			this.repeated = new AtomicLong();
+		}
+
+		/// Returns whether this has been reported, and is being removed.
+		private boolean retired() {
+			return this.repeated.get() < 0L;
+		}
+
+		/// Returns whether this is the fingerprint of the provided message.
+		private boolean matches(int hash, LoggerLevel level, String name, String template) {
+			return this.hash == hash
+				&& this.level == level
+				&& this.name.equals(name)
+				&& this.template.equals(template);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package sirius.stellar.logging.filter;
+
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerFilter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+
+/// Implementation of [LoggerFilter] that limits the rate of messages with a
+/// token bucket per logger name, or per template (see [Key]), so that a storm
+/// of the same message being logged (e.g. an exception logged on every request)
+/// cannot flood the queue, and every collector.
+///
+/// Every bucket allows for a burst of up to the provided number of permits,
+/// and is refilled at that many permits per the provided period; a message is
+/// rejected when its bucket is empty. A bucket is a single [AtomicLong], the
+/// time at which it would be full again (as in the "generic cell rate
+/// algorithm"), so acquiring a permit is a compare-and-set, and never locks.
+///
+/// Up to [#LIMIT] buckets are kept at once, and buckets that are full are
+/// evicted whenever this reports; messages for any other key share a single
+/// overflow bucket, so that a storm of distinct keys is limited too. The
+/// messages rejected per bucket are reported as a synthetic message of
+/// [LoggerLevel#WARNING], for the logger name that the bucket was created for
+/// (or the name of this class, for the overflow bucket).
+///
+/// @since 1.0
+public final class RateLimitingLoggerFilter implements LoggerFilter {
+
+	/// The number of buckets that are kept at once.
+	public static final int LIMIT = 1 << 12;
+
+	private final Key key;
+	private final int permits;
+	private final Duration period;
+
+	/// The number of nanoseconds for a single permit to be refilled.
+	private final long interval;
+
+	/// The number of nanoseconds for an empty bucket to be refilled.
+	private final long capacity;
+
+	private final Map<String, Bucket> buckets;
+	private final Bucket overflow;
+
+	/// Create a filter that allows for up to the provided number of permits per
+	/// the provided period, per logger name or per template.
+	///
+	/// @throws IllegalArgumentException permits below one, or period not positive
+	public RateLimitingLoggerFilter(Key key, int permits, Duration period) {
+		if (permits < 1) throw new IllegalArgumentException("Rate limit must be at least 1 permit");
+		if (period.isNegative() || period.isZero()) throw new IllegalArgumentException("Rate limit period must be positive");
+
+		this.key = key;
+		this.permits = permits;
+		this.period = period;
+		this.interval = Math.max(1L, period.toNanos() / permits);
+		this.capacity = this.interval * permits;
+		this.buckets = new ConcurrentHashMap<>();
+		this.overflow = new Bucket(RateLimitingLoggerFilter.class.getName(), "");
+	}
+
+	@Override
+	public boolean test(LoggerLevel level, String name, String template) {
+		String key = (this.key == Key.NAME) ? name : template;
+
+		Bucket bucket = this.buckets.get(key);
+		if (bucket == null) {
+			bucket = (this.buckets.size() >= LIMIT) ? this.overflow : this.buckets.computeIfAbsent(key, it -> new Bucket(name, template));
+		}
+		if (bucket.acquire(nanoTime(), this.interval, this.capacity)) return true;
+
+		bucket.rejected.increment();
+		return false;
+	}
+
+	@Override
+	public void report(Consumer<LoggerMessage> reporter) {
+		long now = nanoTime();
+		Instant time = Instant.now();
+		String thread = currentThread().getName();
+
+		Iterator<Bucket> iterator = this.buckets.values().iterator();
+		while (iterator.hasNext()) {
+			Bucket bucket = iterator.next();
+			long rejected = bucket.rejected.sumThenReset();
+			if (rejected == 0L) {
+				if (bucket.full(now)) iterator.remove();
+				continue;
+			}
+
+			String text = "Rate limited " + rejected + " messages (above " + this.permits + " per " + this.period + ")";
+			if (this.key == Key.TEMPLATE) text += ": " + bucket.template;
+			reporter.accept(new LoggerMessage(time, LoggerLevel.WARNING, thread, bucket.name, text));
+		}
+
+		long rejected = this.overflow.rejected.sumThenReset();
+		if (rejected == 0L) return;
+
+		String text = "Rate limited " + rejected + " messages (above " + this.permits + " per " + this.period + ") for keys beyond the first " + LIMIT;
+		reporter.accept(new LoggerMessage(time, LoggerLevel.WARNING, thread, this.overflow.name, text));
+	}
+
+	/// Represents what messages are rate-limited by, i.e. which messages share
+	/// a token bucket.
+	///
+	/// @since 1.0
+	public enum Key {
+
+		/// Messages are rate-limited per logger name.
+		NAME,
+
+		/// Messages are rate-limited per template (see
+		/// [sirius.stellar.logging.LoggerEvent#template()]), i.e. per call-site.
+		TEMPLATE
+	}
+
+	/// Token bucket for a single logger name, or template.
+	private static final class Bucket {
+
+		private final String name;
+		private final String template;
+
+		/// The time (as [System#nanoTime()]) at which this bucket is full again.
+		private final AtomicLong full;
+		private final LongAdder rejected;
+
+		private Bucket(String name, String template) {
+			this.name = name;
+			this.template = template;
+			this.full = new AtomicLong(nanoTime());
+			this.rejected = new LongAdder();
+		}
+
+		/// Acquire a permit from this bucket, returning `false` if it is empty,
+		/// i.e. if acquiring a permit would take it above its capacity.
+		private boolean acquire(long now, long interval, long capacity) {
+			while (true) {
+				long full = this.full.get();
+				long next = ((full - now < 0L) ? now : full) + interval;
+				if (next - now > capacity) return false;
+				if (this.full.compareAndSet(full, next)) return true;
+			}
+		}
+
+		/// Returns whether this bucket is full, i.e. holds every permit.
+		private boolean full(long now) {
+			return this.full.get() - now <= 0L;
+		}
+	}
+}
\ No newline at end of file
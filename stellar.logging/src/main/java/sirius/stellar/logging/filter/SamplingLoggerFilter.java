@@ -0,0 +1,71 @@
+package sirius.stellar.logging.filter;
+
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerFilter;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.lang.Thread.currentThread;
+
+/// Implementation of [LoggerFilter] that samples messages by level, i.e.
+/// accepts every message of a level with the probability provided for that
+/// level (e.g. `0.01` to keep one in every hundred [LoggerLevel#TRACING]
+/// messages), and rejects the others. Messages of any level that no
+/// probability is provided for are always accepted.
+///
+/// The messages rejected per level are reported as a synthetic message of
+/// that level, for the name of this class.
+///
+/// @since 1.0
+public final class SamplingLoggerFilter implements LoggerFilter {
+
+	private final double[] probabilities;
+	private final LongAdder[] rejected;
+
+	/// Create a filter that samples messages with the provided probabilities,
+	/// per level, between `0.0` (rejecting every message) and `1.0`.
+	///
+	/// @throws IllegalArgumentException probability below zero or above one
+	public SamplingLoggerFilter(Map<LoggerLevel, Double> probabilities) {
+		this.probabilities = new double[LoggerLevel.values().length];
+		this.rejected = new LongAdder[LoggerLevel.values().length];
+		Arrays.fill(this.probabilities, 1.0);
+
+		for (Map.Entry<LoggerLevel, Double> entry : probabilities.entrySet()) {
+			double probability = entry.getValue();
+			if (!(probability >= 0.0 && probability <= 1.0)) throw new IllegalArgumentException("Sampling probability must be between 0 and 1");
+			this.probabilities[entry.getKey().ordinal()] = probability;
+		}
+		for (int i = 0; i < this.rejected.length; i++) this.rejected[i] = new LongAdder();
+	}
+
+	@Override
+	public boolean test(LoggerLevel level, String name, String template) {
+		double probability = this.probabilities[level.ordinal()];
+		if (probability >= 1.0) return true;
+		if (ThreadLocalRandom.current().nextDouble() < probability) return true;
+
+		this.rejected[level.ordinal()].increment();
+		return false;
+	}
+
+	@Override
+	public void report(Consumer<LoggerMessage> reporter) {
+		Instant time = Instant.now();
+		String thread = currentThread().getName();
+
+		for (LoggerLevel level : LoggerLevel.values()) {
+			long rejected = this.rejected[level.ordinal()].sumThenReset();
+			if (rejected == 0L) continue;
+
+			String text = "Sampled out " + rejected + " messages (keeping " + (this.probabilities[level.ordinal()] * 100.0) + "% of messages)";
+			reporter.accept(new LoggerMessage(time, level, thread, SamplingLoggerFilter.class.getName(), text));
+		}
+	}
+}
\ No newline at end of file
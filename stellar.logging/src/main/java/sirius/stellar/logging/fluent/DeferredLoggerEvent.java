@@ -0,0 +1,108 @@
+package sirius.stellar.logging.fluent;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.annotation.Internal;
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerAttributes;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerEvents;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.time.Instant;
+
+import static java.lang.System.lineSeparator;
+import static sirius.stellar.logging.LoggerEvents.traceback;
+
+/// Implementation of [LoggerEvent] that carries the unformatted text of a
+/// message, the arguments to format it with, and the throwable to append the
+/// stacktrace of, so that formatting is deferred until the message is known
+/// to be collected (on the thread collecting messages, rather than the thread
+/// dispatching them).
+///
+/// The arguments must have been captured as described by [LoggerEvents].
+@Internal
+public final class DeferredLoggerEvent implements LoggerEvent {
+
+	private final long epochNanos;
+	private final LoggerLevel level;
+	private final String thread;
+	private final String name;
+
+	@Nullable
+	private final String template;
+	private final Object @Nullable [] arguments;
+	@Nullable
+	private final Throwable throwable;
+
+	private final LoggerAttributes attributes;
+
+	@Nullable
+	private String text;
+
+	/// Create an event with the provided values, where the arguments must have
+	/// already been captured with [LoggerEvents#capture(Object[])] (or be `null`).
+	public DeferredLoggerEvent(long epochNanos, LoggerLevel level, String thread, String name, @Nullable String template, Object @Nullable [] arguments, @Nullable Throwable throwable, LoggerAttributes attributes) {
+		this.epochNanos = epochNanos;
+		this.level = level;
+		this.thread = thread;
+		this.name = name;
+		this.template = template;
+		this.arguments = arguments;
+		this.throwable = throwable;
+		this.attributes = attributes;
+	}
+
+	@Override
+	public long epochNanos() {
+		return this.epochNanos;
+	}
+
+	@Override
+	public LoggerLevel level() {
+		return this.level;
+	}
+
+	@Override
+	public String thread() {
+		return this.thread;
+	}
+
+	@Override
+	public String name() {
+		return this.name;
+	}
+
+	@Override
+	public LoggerAttributes attributes() {
+		return this.attributes;
+	}
+
+	@Override
+	public String template() {
+		return this.template == null ? "" : this.template;
+	}
+
+	/// Returns the text content of the message, formatting it (and appending
+	/// the stacktrace of the throwable, if any) the first time this is invoked.
+	@Override
+	public String text() {
+		if (this.text != null) return this.text;
+
+		String text = this.template == null ? "" : this.template;
+		if (this.arguments != null) text = Logger.format(text, this.arguments);
+		if (this.throwable != null) text += lineSeparator() + traceback(this.throwable);
+		return this.text = text;
+	}
+
+	@Override
+	public LoggerMessage message() {
+		Instant time = Instant.ofEpochSecond(0L, this.epochNanos);
+		return new LoggerMessage(time, this.level, this.thread, this.name, this.text(), this.attributes);
+	}
+
+	@Override
+	public String toString() {
+		return this.message().toString();
+	}
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package sirius.stellar.logging.fluent;
 
 import org.jspecify.annotations.Nullable;
+import sirius.stellar.logging.LoggerAttributes;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 import sirius.stellar.logging.LoggerMessage.Builder;
@@ -45,6 +46,16 @@ final class DisabledBuilder implements Builder {
 		return this;
 	}
 
+	@Override
+	public Builder text(String text, Object... arguments) {
+		return this;
+	}
+
+	@Override
+	public Builder attributes(LoggerAttributes attributes) {
+		return this;
+	}
+
 	@Override
 	public Builder throwable(@Nullable Throwable throwable) {
 		return this;
@@ -1,19 +1,20 @@
 package sirius.stellar.logging.fluent;
 
 import org.jspecify.annotations.Nullable;
-import sirius.stellar.annotation.Contract;
 import sirius.stellar.annotation.Internal;
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerAttributes;
 import sirius.stellar.logging.LoggerLevel;
 import sirius.stellar.logging.LoggerMessage;
 import sirius.stellar.logging.LoggerMessage.Builder;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.time.Instant;
 
 import static java.lang.System.lineSeparator;
 import static java.util.Objects.requireNonNull;
+import static sirius.stellar.logging.LoggerEvents.capture;
+import static sirius.stellar.logging.LoggerEvents.epochNanos;
+import static sirius.stellar.logging.LoggerEvents.traceback;
 
 /// Default implementation of [Builder].
 @Internal
@@ -34,19 +35,47 @@ public final class DispatchingBuilder implements Builder {
 	@Nullable
 	private String text;
 
+	private Object @Nullable [] arguments;
+
+	@Nullable
+	private Throwable throwable;
+
+	private LoggerAttributes attributes = LoggerAttributes.empty();
+
 	@Override
 	public LoggerMessage build() {
 		Instant time = requireNonNull(this.time);
 		LoggerLevel level = requireNonNull(this.level);
 		String thread = requireNonNull(this.thread);
 		String name = requireNonNull(this.name);
-		String text = requireNonNull(this.text);
-		return new LoggerMessage(time, level, thread, name, text);
+
+		String text = this.text;
+		if (this.arguments != null) text = Logger.format(text, this.arguments);
+		if (this.throwable != null) text = (text == null ? "" : text) + lineSeparator() + traceback(this.throwable);
+		return new LoggerMessage(time, level, thread, name, requireNonNull(text), this.attributes);
 	}
 
+	/// Dispatch the built message, deferring formatting of the text (and
+	/// rendering the stacktrace of the throwable) until the message is
+	/// collected, if there is anything to format (see [DeferredLoggerEvent]).
 	@Override
 	public void dispatch() {
-		Logger.dispatch(this.build());
+		if (this.arguments == null && this.throwable == null) {
+			Logger.dispatch(this.build());
+			return;
+		}
+
+		Instant time = requireNonNull(this.time);
+		long epochNanos = epochNanos(time);
+		LoggerLevel level = requireNonNull(this.level);
+		String thread = requireNonNull(this.thread);
+		String name = requireNonNull(this.name);
+
+		String text = this.text;
+		Object[] arguments = this.arguments == null ? null : capture(this.arguments);
+		if (this.arguments != null && arguments == null) text = Logger.format(text, this.arguments);
+
+		Logger.dispatch(new DeferredLoggerEvent(epochNanos, level, thread, name, text, arguments, this.throwable, this.attributes));
 	}
 
 	@Override
@@ -77,48 +106,36 @@ public final class DispatchingBuilder implements Builder {
 	@Override
 	public Builder text(String text) {
 		this.text = text;
+		this.arguments = null;
 		return this;
 	}
 
 	@Override
-	public Builder throwable(@Nullable Throwable throwable) {
-		if (throwable == null) return this;
+	public Builder text(String text, Object... arguments) {
+		this.text = text;
+		this.arguments = arguments;
+		return this;
+	}
 
-		if (this.text == null) this.text = "";
-		this.text += lineSeparator() + traceback(throwable);
+	@Override
+	public Builder attributes(LoggerAttributes attributes) {
+		this.attributes = attributes;
 		return this;
 	}
 
-	/// Returns a stacktrace string for the provided throwable.
-	///
-	/// The format of this information depends on the implementation, see
-	/// [Throwable#printStackTrace] for more details. but the following
-	/// example may be regarded as typical:
-	///
-	/// ```
-	/// HighLevelException: MidLevelException: LowLevelException
-	///     at Junk.a(Junk.java:13)
-	///     at Junk.main(Junk.java:4)
-	/// Caused by: MidLevelException: LowLevelException
-	///     at Junk.c(Junk.java:23)
-	///     at Junk.b(Junk.java:17)
-	///     at Junk.a(Junk.java:11)
-	///     ... 1 more
-	/// Caused by: LowLevelException
-	///     at Junk.e(Junk.java:30)
-	///     at Junk.d(Junk.java:27)
-	///     at Junk.c(Junk.java:21)
-	///     ... 3 more
-	/// ```
-	///
-	/// @see Throwable#printStackTrace()
-	@Contract("_ -> new")
-	static String traceback(@Nullable Throwable throwable) {
-		if (throwable == null) return "null";
-		StringWriter writer = new StringWriter();
-		try (PrintWriter printWriter = new PrintWriter(writer)) {
-			throwable.printStackTrace(printWriter);
-			return writer.toString();
+	@Override
+	public Builder throwable(@Nullable Throwable throwable) {
+		if (throwable == null) return this;
+		if (this.throwable == null) {
+			this.throwable = throwable;
+			return this;
 		}
+
+		if (this.arguments != null) this.text = Logger.format(this.text, this.arguments);
+		if (this.text == null) this.text = "";
+		this.text += lineSeparator() + traceback(this.throwable);
+		this.arguments = null;
+		this.throwable = throwable;
+		return this;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package sirius.stellar.logging.fluent;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.annotation.Internal;
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerEvents;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.format.LoggerFormatter;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static java.lang.System.lineSeparator;
+import static sirius.stellar.logging.LoggerLevel.OFF;
+
+/// Mutable implementation of [LoggerEvent], pre-allocated as a slot of the
+/// ring of events used by [Logger] when configured to
+/// be garbage-free, and overwritten for every message written to that slot.
+///
+/// Formatting is deferred until [#render] is invoked by the thread collecting
+/// events, with the arguments captured by the rules of [DeferredLoggerEvent]
+/// into arrays owned by the slot (reused for up to [#ARRAYS] arguments).
+@Internal
+public final class MutableLoggerEvent implements LoggerEvent {
+
+	/// The capacity above which the text buffer is replaced rather than reused,
+	/// so that a single large message does not stay retained by the slot.
+	private static final int TEXT_RETAINED = 1 << 14;
+
+	/// The number of arguments below which the array they are captured into
+	/// is reused, rather than allocated for every message.
+	private static final int ARRAYS = 5;
+
+	private long epochNanos;
+	private LoggerLevel level = OFF;
+	private String thread = "";
+	private String name = "";
+	private StringBuilder text = new StringBuilder(128);
+	private final CharSequence view = new Text();
+
+	@Nullable
+	private String template;
+	private Object @Nullable [] arguments;
+	@Nullable
+	private Throwable throwable;
+	private final Object[][] arrays = new Object[ARRAYS][];
+
+	/// Overwrite this event with the provided values. The text is formatted
+	/// with the provided arguments (if any), and the stacktrace of the provided
+	/// throwable (if any) is appended to it, once [#render] is invoked.
+	public void set(long epochNanos, LoggerLevel level, String thread, String name, @Nullable String text, Object @Nullable [] arguments, @Nullable Throwable throwable) {
+		this.epochNanos = epochNanos;
+		this.level = level;
+		this.thread = thread;
+		this.name = name;
+
+		this.template = text;
+		this.arguments = null;
+		this.throwable = throwable;
+		if (arguments == null || text == null) return;
+
+		for (Object argument : arguments) {
+			if (LoggerEvents.capturable(argument)) continue;
+			this.template = Logger.format(text, arguments);
+			return;
+		}
+
+		Object[] captured = arguments.length < ARRAYS ? this.arrays[arguments.length] : new Object[arguments.length];
+		if (captured == null) captured = this.arrays[arguments.length] = new Object[arguments.length];
+		for (int i = 0; i < arguments.length; i++) captured[i] = LoggerEvents.capture(arguments[i]);
+		this.arguments = captured;
+	}
+
+	/// Format the text of this event into its reusable buffer, with the provided
+	/// formatter and locale, releasing the captured arguments and throwable.
+	/// This must be invoked before any other method, after [#set].
+	///
+	/// @return `false` if formatting threw, in which case the text is the
+	/// template, unformatted (see [LoggerEvents#unformatted])
+	public boolean render(LoggerFormatter formatter, Locale locale) {
+		if (this.text.capacity() > TEXT_RETAINED) this.text = new StringBuilder(128);
+		this.text.setLength(0);
+
+		try {
+			if (this.template != null && this.arguments != null) {
+				formatter.formatTo(this.text, locale, this.template, this.arguments);
+			} else if (this.template != null) {
+				this.text.append(this.template);
+			}
+
+			if (this.throwable != null) {
+				this.text.append(lineSeparator());
+				this.text.append(LoggerEvents.traceback(this.throwable));
+			}
+			return true;
+		} catch (RuntimeException exception) {
+			this.text.setLength(0);
+			this.text.append(LoggerEvents.unformatted(this.template, exception));
+			return false;
+		} finally {
+			if (this.arguments != null) Arrays.fill(this.arguments, null);
+			this.template = null;
+			this.arguments = null;
+			this.throwable = null;
+		}
+	}
+
+	@Override
+	public long epochNanos() {
+		return this.epochNanos;
+	}
+
+	@Override
+	public LoggerLevel level() {
+		return this.level;
+	}
+
+	@Override
+	public String thread() {
+		return this.thread;
+	}
+
+	@Override
+	public String name() {
+		return this.name;
+	}
+
+	/// Returns a read-only view of the reusable text buffer of this event,
+	/// which is overwritten once the slot is reused, so it must be copied
+	/// (e.g. with [Object#toString()]) to be retained.
+	@Override
+	public CharSequence text() {
+		return this.view;
+	}
+
+	@Override
+	public LoggerMessage message() {
+		Instant time = Instant.ofEpochSecond(0L, this.epochNanos);
+		return new LoggerMessage(time, this.level, this.thread, this.name, this.text.toString());
+	}
+
+	@Override
+	public String toString() {
+		return this.message().toString();
+	}
+
+	/// Read-only view of the text buffer of this event, which always reads the
+	/// current buffer, as it may be replaced by [#render].
+	private final class Text implements CharSequence {
+
+		@Override
+		public int length() {
+			return MutableLoggerEvent.this.text.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return MutableLoggerEvent.this.text.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return MutableLoggerEvent.this.text.substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return MutableLoggerEvent.this.text.toString();
+		}
+	}
+}
\ No newline at end of file
@@ -1,17 +1,41 @@
 package sirius.stellar.logging.format;
 
 import java.text.MessageFormat;
-import java.util.Formatter;
-import java.util.IllegalFormatException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.lang.ThreadLocal.withInitial;
 import static java.util.Locale.Category.FORMAT;
 
 /// The default implementation of [LoggerFormatter], combining an invocation of
 /// both [String#format] and [MessageFormat], in order to allow both with their
 /// non-clashing syntax, for interpolation, as efficiently as possible.
+///
+/// Every distinct format string is compiled once per locale into a
+/// [LoggerTemplate], which is kept in a bounded cache (cleared entirely once it
+/// is full, e.g. when format strings are being built dynamically).
+///
+/// @implNote Each thread reuses a builder, which is only in use while it is
+/// not empty; a nested invocation (e.g. from the [Object#toString] of an
+/// argument) that finds it in use formats into a new builder instead.
 final class CombinedLoggerFormatter implements LoggerFormatter {
 
+	/// The maximum number of templates cached for each locale.
+	private static final int CAPACITY = 1024;
+
+	/// The capacity above which a builder is not reused, so that formatting a
+	/// large message once does not retain its memory for the life of a thread.
+	private static final int RETAINED = 8192;
+
+	private final Map<Locale, Map<String, LoggerTemplate>> templates;
+	private final ThreadLocal<StringBuilder> builder;
+
+	CombinedLoggerFormatter() {
+		this.templates = new ConcurrentHashMap<>();
+		this.builder = withInitial(() -> new StringBuilder(128));
+	}
+
 	@Override
 	public String formatString(String string, Object[] arguments) {
 		return this.formatString(Locale.getDefault(FORMAT), string, arguments);
@@ -20,56 +44,40 @@ final class CombinedLoggerFormatter implements LoggerFormatter {
 	@Override
 	public String formatString(Locale locale, String string, Object[] arguments) {
 		if (arguments.length == 0) return string;
-		string = messageFormat(locale, string, arguments);
-		string = stringFormat(locale, string, arguments);
-		return string;
-	}
 
-	/// Conditionally invokes [MessageFormat] on the provided string, with the
-	/// provided arguments, only if it actually matches the required format,
-	/// otherwise returning the format string without failure.
-	///
-	/// @implNote A regular expression, e.g. `string.matches("\\{\\d")`, could
-	/// be used to perform this same check, but the cost of this is ~15% higher.
-	private static String messageFormat(Locale locale, String string, Object[] arguments) {
-		boolean matches = false;
-		for (int i = 0; i < string.length() - 2; i++) {
-			char parenthesis = string.charAt(i);
-			if (parenthesis != '{') continue;
-
-			char digit = string.charAt(i + 1);
-			if (digit < '0' || digit > '9') continue;
-
-			matches = true;
-			break;
-		}
+		StringBuilder builder = this.builder.get();
+		if (builder.length() != 0) builder = new StringBuilder(string.length() + 16);
 
 		try {
-			if (!matches) return string;
+			this.template(locale, string).formatTo(builder, arguments);
+			return builder.toString();
+		} finally {
+			builder.setLength(0);
+			if (builder.capacity() > RETAINED) this.builder.remove();
+		}
+	}
 
-			MessageFormat formatter = new MessageFormat(string, locale);
-			return formatter.format(arguments);
-		} catch (IllegalArgumentException exception) {
-			return string;
+	@Override
+	public void formatTo(StringBuilder builder, Locale locale, String string, Object[] arguments) {
+		if (arguments.length == 0) {
+			builder.append(string);
+			return;
 		}
+		this.template(locale, string).formatTo(builder, arguments);
 	}
 
-	/// Conditionally invokes [Formatter] (same as the [String#format] method)
-	/// on the provided string, with the provided arguments, only if it actually
-	/// matches the required format, otherwise returning the format string
-	/// without failure.
-	///
-	/// @implNote The check for format-string syntax is very basic, only making
-	/// the assertion that a `%` is in the string, and allowing illegal formats
-	/// to be ignored and the format string safely returned.
-	private static String stringFormat(Locale locale, String string, Object[] arguments) {
-		if (string.indexOf('%') == -1) return string;
+	/// Returns the template compiled from the provided format string and locale,
+	/// compiling and caching it if this has not already been done.
+	private LoggerTemplate template(Locale locale, String string) {
+		Map<String, LoggerTemplate> templates = this.templates.get(locale);
+		if (templates == null) templates = this.templates.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
 
-		try {
-			Formatter formatter = new Formatter(locale);
-			return formatter.format(string, arguments).toString();
-		} catch (IllegalFormatException exception) {
-			return string;
-		}
+		LoggerTemplate template = templates.get(string);
+		if (template != null) return template;
+
+		if (templates.size() >= CAPACITY) templates.clear();
+		template = LoggerTemplate.compile(string, locale);
+		templates.putIfAbsent(string, template);
+		return template;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package sirius.stellar.logging.format;
+
+import org.jspecify.annotations.Nullable;
+import sirius.stellar.annotation.Internal;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Encoder of the parts of a message shared by collectors that write messages
+/// straight into a [ByteBuffer], encoded as UTF-8, without allocating (e.g. the
+/// JSON, CSV and console collectors), i.e. timestamps and strings.
+///
+/// This holds state that is reused across invocations, so an instance must
+/// only be used by one thread at a time (e.g. held in a [ThreadLocal]).
+///
+/// ### Strings
+/// Strings are copied into a reusable array, then written 8 characters at a
+/// time, as long as none of those characters have to be escaped (see
+/// [Escapes]) or take more than one byte; the check for this is branch-free,
+/// and the 8 bytes are put as a single `long`. Otherwise, every character is
+/// escaped, or encoded as UTF-8 (where unpaired surrogates are replaced with
+/// `?`, as [String#getBytes] would).
+///
+/// ### Timestamps
+/// Timestamps are only displayed to the second by a [DateTimeFormatter], or
+/// written as [Instant#toString()] would; either way, the date and time up to
+/// the second is cached, so that it is only formatted once per second.
+///
+/// ### Buffers
+/// A message that does not fit into a buffer is encoded again into a buffer
+/// twice as large, see [#grow(ByteBuffer)]; only buffers of up to [#RETAINED]
+/// bytes should be kept for reuse (e.g. in a [ThreadLocal]), so that a single
+/// large message does not stay retained by every thread that encoded it.
+@Internal
+public final class LoggerEncoder {
+
+	/// The capacity above which a buffer should not be kept for reuse.
+	public static final int RETAINED = 1 << 16;
+
+	/// The largest capacity of a buffer, i.e. the largest array that can be
+	/// allocated.
+	private static final int MAXIMUM = Integer.MAX_VALUE - 8;
+
+	private char[] characters;
+
+	/// The date and time up to the second most recently written, the second it
+	/// was written for, and the formatter it was written with (`null` for
+	/// [Instant#toString()]).
+	private long second;
+	private byte[] prefix;
+	@Nullable
+	private DateTimeFormatter formatter;
+
+	public LoggerEncoder() {
+		this.characters = new char[256];
+		this.second = Long.MIN_VALUE;
+		this.prefix = new byte[0];
+	}
+
+	/// Returns a new buffer with twice the capacity of the provided buffer (or
+	/// at most [Integer#MAX_VALUE] minus a few bytes), for encoding a message
+	/// that did not fit into it.
+	///
+	/// @throws OutOfMemoryError the provided buffer is already of the largest
+	/// capacity that can be allocated
+	public static ByteBuffer grow(ByteBuffer buffer) {
+		int capacity = buffer.capacity();
+		if (capacity >= MAXIMUM) throw new OutOfMemoryError("Message too large to encode into a buffer");
+		return ByteBuffer.allocate((int) Math.min(Math.max(capacity, 1) * 2L, MAXIMUM));
+	}
+
+	/// Write the provided time as [Instant#toString()] would.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer
+	public void timestamp(Instant time, ByteBuffer buffer) {
+		long second = time.getEpochSecond();
+		if (second != this.second || this.formatter != null) {
+			String string = Instant.ofEpochSecond(second).toString();
+			this.prefix = string.substring(0, string.length() - 1).getBytes(UTF_8);
+			this.second = second;
+			this.formatter = null;
+		}
+		buffer.put(this.prefix);
+
+		int nano = time.getNano();
+		if (nano != 0) {
+			buffer.put((byte) '.');
+			if (nano % 1_000_000 == 0) digits(nano / 1_000_000, 3, buffer);
+			else if (nano % 1_000 == 0) digits(nano / 1_000, 6, buffer);
+			else digits(nano, 9, buffer);
+		}
+		buffer.put((byte) 'Z');
+	}
+
+	/// Write the provided time as formatted by the provided formatter, which
+	/// must only display the time up to the second.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer
+	public void timestamp(Instant time, DateTimeFormatter formatter, ByteBuffer buffer) {
+		long second = time.getEpochSecond();
+		if (second != this.second || formatter != this.formatter) {
+			this.prefix = formatter.format(Instant.ofEpochSecond(second)).getBytes(UTF_8);
+			this.second = second;
+			this.formatter = formatter;
+		}
+		buffer.put(this.prefix);
+	}
+
+	/// Write the provided value, zero-padded to the provided number of digits.
+	private static void digits(int value, int digits, ByteBuffer buffer) {
+		int divisor = 1;
+		for (int i = 1; i < digits; i++) divisor *= 10;
+		for (; divisor > 0; divisor /= 10) buffer.put((byte) ('0' + (value / divisor) % 10));
+	}
+
+	/// Write the provided string, encoded as UTF-8, without escaping it.
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer
+	public void string(String string, ByteBuffer buffer) {
+		this.string(string, buffer, Escapes.NONE);
+	}
+
+	/// Write the provided string, encoded as UTF-8, with every ASCII character
+	/// escaped by the provided escapes (e.g. quotes in JSON).
+	///
+	/// @throws BufferOverflowException insufficient space remaining in the buffer
+	public void string(String string, ByteBuffer buffer, Escapes escapes) {
+		int length = string.length();
+		if (this.characters.length < length) this.characters = new char[Math.max(length, this.characters.length * 2)];
+
+		char[] characters = this.characters;
+		string.getChars(0, length, characters, 0);
+
+		int i = 0;
+		while (i < length) {
+			if (i + 8 <= length && escapes.plain(characters, i)) {
+				long packed = pack(characters, i);
+				buffer.putLong((buffer.order() == BIG_ENDIAN) ? packed : Long.reverseBytes(packed));
+				i += 8;
+				continue;
+			}
+
+			char character = characters[i++];
+			if (character < 0x80) {
+				byte[] replacement = escapes.replacements[character];
+				if (replacement == null) buffer.put((byte) character);
+				else buffer.put(replacement);
+				continue;
+			}
+			if (character < 0x800) {
+				buffer.put((byte) (0xC0 | (character >>> 6)));
+				buffer.put((byte) (0x80 | (character & 0x3F)));
+				continue;
+			}
+			if (Character.isSurrogate(character)) {
+				if (Character.isHighSurrogate(character) && i < length && Character.isLowSurrogate(characters[i])) {
+					int point = Character.toCodePoint(character, characters[i++]);
+					buffer.put((byte) (0xF0 | (point >>> 18)));
+					buffer.put((byte) (0x80 | ((point >>> 12) & 0x3F)));
+					buffer.put((byte) (0x80 | ((point >>> 6) & 0x3F)));
+					buffer.put((byte) (0x80 | (point & 0x3F)));
+					continue;
+				}
+				buffer.put((byte) '?');
+				continue;
+			}
+			buffer.put((byte) (0xE0 | (character >>> 12)));
+			buffer.put((byte) (0x80 | ((character >>> 6) & 0x3F)));
+			buffer.put((byte) (0x80 | (character & 0x3F)));
+		}
+	}
+
+	/// Returns the 8 characters at the provided index packed into a `long`, a
+	/// byte each, in the order they are put into a big-endian buffer.
+	private static long pack(char[] characters, int index) {
+		long packed = 0L;
+		for (int i = index; i < index + 8; i++) packed = (packed << 8) | characters[i];
+		return packed;
+	}
+
+	/// Represents the ASCII characters that are escaped when writing a string
+	/// with [LoggerEncoder#string(String, ByteBuffer, Escapes)], and what
+	/// each of them is replaced with.
+	@Internal
+	public static final class Escapes {
+
+		/// Escapes that escape no characters.
+		public static final Escapes NONE = of(Map.of());
+
+		/// The replacement of every ASCII character (`null` if it is not
+		/// escaped), and `-1` for every ASCII character that is escaped.
+		private final byte[] @Nullable [] replacements;
+		private final int[] flags;
+
+		private Escapes(byte[] @Nullable [] replacements) {
+			this.replacements = replacements;
+			this.flags = new int[128];
+			for (int i = 0; i < 128; i++) this.flags[i] = (replacements[i] == null) ? 0 : -1;
+		}
+
+		/// Returns escapes that replace every ASCII character in the provided
+		/// map with the mapped string.
+		///
+		/// @throws IllegalArgumentException character not within ASCII
+		public static Escapes of(Map<Character, String> replacements) {
+			byte[][] bytes = new byte[128][];
+			for (Map.Entry<Character, String> entry : replacements.entrySet()) {
+				char character = entry.getKey();
+				if (character >= 0x80) throw new IllegalArgumentException("Only ASCII characters can be escaped");
+				bytes[character] = entry.getValue().getBytes(UTF_8);
+			}
+			return new Escapes(bytes);
+		}
+
+		/// Returns whether none of the 8 characters at the provided index are
+		/// escaped or take more than one byte; every check sets the sign bit if
+		/// it fails.
+		private boolean plain(char[] characters, int index) {
+			int flags = 0;
+			for (int i = index; i < index + 8; i++) {
+				int character = characters[i];
+				flags |= (0x7F - character) | this.flags[character & 0x7F];
+			}
+			return flags >= 0;
+		}
+	}
+}
\ No newline at end of file
@@ -31,6 +31,16 @@ public interface LoggerFormatter {
 	/// @since 1.0
 	String formatString(Locale locale, String string, Object[] arguments);
 
+	/// Appends the provided string, formatted (using the provided locale), to
+	/// the provided builder, which allows for a builder to be reused.
+	/// Implementations of this method should never `throw`.
+	///
+	/// @see #formatString(Locale, String, Object...)
+	/// @since 1.0
+	default void formatTo(StringBuilder builder, Locale locale, String string, Object[] arguments) {
+		builder.append(this.formatString(locale, string, arguments));
+	}
+
 	/// Obtain a [LoggerFormatter] instance, service-loading the first
 	/// alternative implementation found on the class-path/module-path,
 	/// if one is available.
@@ -0,0 +1,339 @@
+package sirius.stellar.logging.format;
+
+import org.jspecify.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+
+import static java.lang.System.lineSeparator;
+import static java.text.DateFormat.SHORT;
+
+/// A format string compiled for [CombinedLoggerFormatter], with a locale, so
+/// that it is parsed once, rather than for every message that is formatted.
+///
+/// The [MessageFormat] syntax is compiled into literal segments and argument
+/// slots (`{0}`, `{1}`, ...), and the [String#format] syntax into literal
+/// segments and conversions (`%s`, `%d`, `%n` and `%%`), which are rendered
+/// straight into a [StringBuilder] without constructing either of them.
+///
+/// Any other syntax (e.g. `{0,number,#.##}` or `%08.3f`) is still supported,
+/// by falling back to [MessageFormat] (cloned from a compiled prototype) and
+/// [Formatter] respectively; the output is always the same as if [String#format]
+/// and [MessageFormat] were invoked, and illegal formats are never thrown.
+final class LoggerTemplate {
+
+	private final String string;
+	private final Locale locale;
+
+	private final String @Nullable [] literals;
+	private final int @Nullable [] slots;
+	private final @Nullable MessageFormat message;
+
+	private final String @Nullable [] parts;
+	private final char @Nullable [] conversions;
+	private final boolean formatted;
+
+	private final NumberFormat numbers;
+	private final boolean integral;
+	private final boolean decimal;
+
+	private final char zero;
+	private final char separator;
+	private final int grouping;
+	private final String positivePrefix, positiveSuffix;
+	private final String negativePrefix, negativeSuffix;
+
+	private LoggerTemplate(String string, Locale locale) {
+		this.string = string;
+		this.locale = locale;
+
+		List<String> literals = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+		MessageFormat message = null;
+		if (matches(string) && !compileMessage(string, literals, slots)) {
+			literals.clear();
+			try {
+				message = new MessageFormat(string, locale);
+			} catch (IllegalArgumentException exception) {
+				message = null;
+			}
+		}
+		this.message = message;
+		this.literals = literals.isEmpty() ? null : literals.toArray(String[]::new);
+		this.slots = literals.isEmpty() ? null : slots.stream().mapToInt(Integer::intValue).toArray();
+
+		this.formatted = string.indexOf('%') != -1;
+		List<String> parts = new ArrayList<>();
+		StringBuilder conversions = new StringBuilder();
+		if (this.formatted && this.literals == null && this.message == null && compileString(string, parts, conversions)) {
+			this.parts = parts.toArray(String[]::new);
+			this.conversions = conversions.toString().toCharArray();
+		} else {
+			this.parts = null;
+			this.conversions = null;
+		}
+
+		this.numbers = NumberFormat.getInstance(locale);
+		this.decimal = DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+		if (this.numbers instanceof DecimalFormat format) {
+			DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+			this.integral = format.getMultiplier() == 1 && format.getMinimumIntegerDigits() <= 1;
+			this.zero = symbols.getZeroDigit();
+			this.separator = symbols.getGroupingSeparator();
+			this.grouping = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+			this.positivePrefix = format.getPositivePrefix();
+			this.positiveSuffix = format.getPositiveSuffix();
+			this.negativePrefix = format.getNegativePrefix();
+			this.negativeSuffix = format.getNegativeSuffix();
+		} else {
+			this.integral = false;
+			this.zero = '0';
+			this.separator = ',';
+			this.grouping = 0;
+			this.positivePrefix = this.positiveSuffix = "";
+			this.negativePrefix = this.negativeSuffix = "";
+		}
+	}
+
+	/// Returns a template compiled from the provided format string and locale.
+	static LoggerTemplate compile(String string, Locale locale) {
+		return new LoggerTemplate(string, locale);
+	}
+
+	/// Append the format string of this template to the provided builder,
+	/// formatted with the provided arguments.
+	///
+	/// As the [String#format] syntax is applied to the output of [MessageFormat],
+	/// rather than to the format string, an argument containing `%` can still
+	/// introduce conversions into a format string that contains none.
+	void formatTo(StringBuilder builder, Object[] arguments) {
+		if (this.literals == null && this.message == null) {
+			if (this.formatted) this.stringTo(builder, this.string, arguments);
+			else builder.append(this.string);
+			return;
+		}
+
+		int start = builder.length();
+		this.messageTo(builder, arguments);
+		if (builder.indexOf("%", start) == -1) return;
+
+		String message = builder.substring(start);
+		builder.setLength(start);
+		this.stringTo(builder, message, arguments);
+	}
+
+	/// Append the format string, with the [MessageFormat] syntax formatted.
+	private void messageTo(StringBuilder builder, Object[] arguments) {
+		if (this.message != null) {
+			MessageFormat format = (MessageFormat) this.message.clone();
+			try {
+				builder.append(format.format(arguments));
+			} catch (IllegalArgumentException exception) {
+				builder.append(this.string);
+			}
+			return;
+		}
+		if (this.literals == null || this.slots == null) {
+			builder.append(this.string);
+			return;
+		}
+
+		int start = builder.length();
+		try {
+			for (int i = 0; i < this.slots.length; i++) {
+				builder.append(this.literals[i]);
+				this.argumentTo(builder, this.slots[i], arguments);
+			}
+			builder.append(this.literals[this.slots.length]);
+		} catch (IllegalArgumentException exception) {
+			builder.setLength(start);
+			builder.append(this.string);
+		}
+	}
+
+	/// Append the argument at the provided index, as [MessageFormat] would for
+	/// an argument with no format type (i.e. `{0}`).
+	private void argumentTo(StringBuilder builder, int index, Object[] arguments) {
+		if (index >= arguments.length) {
+			builder.append('{').append(index).append('}');
+			return;
+		}
+
+		Object argument = arguments[index];
+		if (argument == null) {
+			builder.append("null");
+			return;
+		}
+		if (argument instanceof String string) {
+			builder.append(string);
+			return;
+		}
+		if (argument instanceof Number number) {
+			if (this.integral && (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte)) {
+				this.integralTo(builder, number.longValue());
+				return;
+			}
+			builder.append(((NumberFormat) this.numbers.clone()).format(number));
+			return;
+		}
+		if (argument instanceof Date date) {
+			builder.append(DateFormat.getDateTimeInstance(SHORT, SHORT, this.locale).format(date));
+			return;
+		}
+		builder.append(String.valueOf(argument.toString()));
+	}
+
+	/// Append the provided value, as the [DecimalFormat] of the locale would,
+	/// without cloning it.
+	private void integralTo(StringBuilder builder, long value) {
+		builder.append(value < 0L ? this.negativePrefix : this.positivePrefix);
+
+		String digits = Long.toString(value);
+		for (int i = value < 0L ? 1 : 0; i < digits.length(); i++) {
+			builder.append((char) (this.zero + (digits.charAt(i) - '0')));
+			int remaining = digits.length() - i - 1;
+			if (this.grouping > 0 && remaining > 0 && remaining % this.grouping == 0) builder.append(this.separator);
+		}
+
+		builder.append(value < 0L ? this.negativeSuffix : this.positiveSuffix);
+	}
+
+	/// Append the provided string, with the [String#format] syntax formatted,
+	/// falling back to [Formatter] unless this template was compiled with only
+	/// conversions that can be rendered directly (in which case, the provided
+	/// string is always the format string of this template).
+	private void stringTo(StringBuilder builder, String string, Object[] arguments) {
+		int start = builder.length();
+		if (this.parts != null && this.conversions != null) {
+			if (this.conversionsTo(builder, arguments)) return;
+			builder.setLength(start);
+		}
+
+		try {
+			new Formatter(builder, this.locale).format(string, arguments);
+		} catch (IllegalFormatException exception) {
+			builder.setLength(start);
+			builder.append(string);
+		}
+	}
+
+	/// Append the compiled conversions, returning `false` if any argument
+	/// requires [Formatter] (or would make it throw).
+	private boolean conversionsTo(StringBuilder builder, Object[] arguments) {
+		assert this.parts != null && this.conversions != null;
+
+		int index = 0;
+		for (int i = 0; i < this.conversions.length; i++) {
+			builder.append(this.parts[i]);
+			switch (this.conversions[i]) {
+				case 'n' -> builder.append(lineSeparator());
+				case '%' -> builder.append('%');
+				case 's' -> {
+					if (index >= arguments.length) return false;
+					Object argument = arguments[index++];
+					if (argument instanceof Formattable) return false;
+					builder.append(argument);
+				}
+				case 'd' -> {
+					if (index >= arguments.length || !this.decimal) return false;
+					Object argument = arguments[index++];
+					if (argument == null) {
+						builder.append("null");
+						continue;
+					}
+					if (!(argument instanceof Integer || argument instanceof Long || argument instanceof Short || argument instanceof Byte)) return false;
+					builder.append(((Number) argument).longValue());
+				}
+				default -> {
+					return false;
+				}
+			}
+		}
+		builder.append(this.parts[this.conversions.length]);
+		return true;
+	}
+
+	/// Returns whether the provided string contains what appears to be the
+	/// [MessageFormat] syntax, i.e. an opening brace followed by a digit.
+	///
+	/// @implNote A regular expression, e.g. `string.matches("\\{\\d")`, could
+	/// be used to perform this same check, but the cost of this is ~15% higher.
+	private static boolean matches(String string) {
+		for (int i = 0; i < string.length() - 2; i++) {
+			char parenthesis = string.charAt(i);
+			if (parenthesis != '{') continue;
+
+			char digit = string.charAt(i + 1);
+			if (digit < '0' || digit > '9') continue;
+
+			return true;
+		}
+		return false;
+	}
+
+	/// Compile the [MessageFormat] syntax of the provided string into literal
+	/// segments (with quotes resolved) and argument slots, returning `false` if
+	/// the string uses any syntax other than arguments with no format type.
+	private static boolean compileMessage(String string, List<String> literals, List<Integer> slots) {
+		StringBuilder literal = new StringBuilder(string.length());
+		boolean quoted = false;
+
+		for (int i = 0; i < string.length(); i++) {
+			char character = string.charAt(i);
+			if (character == '\'') {
+				if (i + 1 < string.length() && string.charAt(i + 1) == '\'') {
+					literal.append('\'');
+					i++;
+					continue;
+				}
+				quoted = !quoted;
+				continue;
+			}
+			if (quoted || character != '{') {
+				literal.append(character);
+				continue;
+			}
+
+			int end = i + 1;
+			while (end < string.length() && string.charAt(end) >= '0' && string.charAt(end) <= '9') end++;
+			if (end == i + 1 || end - i - 1 > 4 || end >= string.length() || string.charAt(end) != '}') return false;
+
+			literals.add(literal.toString());
+			literal.setLength(0);
+			slots.add(Integer.parseInt(string, i + 1, end, 10));
+			i = end;
+		}
+
+		literals.add(literal.toString());
+		return true;
+	}
+
+	/// Compile the [String#format] syntax of the provided string into literal
+	/// segments and conversions, returning `false` if the string uses any
+	/// syntax other than `%s`, `%d`, `%n` and `%%`.
+	private static boolean compileString(String string, List<String> parts, StringBuilder conversions) {
+		int start = 0;
+		for (int i = string.indexOf('%'); i != -1; i = string.indexOf('%', start)) {
+			if (i + 1 >= string.length()) return false;
+
+			char conversion = string.charAt(i + 1);
+			if (conversion != 's' && conversion != 'd' && conversion != 'n' && conversion != '%') return false;
+
+			parts.add(string.substring(start, i));
+			conversions.append(conversion);
+			start = i + 2;
+		}
+		parts.add(string.substring(start));
+		return true;
+	}
+}
\ No newline at end of file
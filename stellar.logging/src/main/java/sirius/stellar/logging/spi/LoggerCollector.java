@@ -1,7 +1,11 @@
 package sirius.stellar.logging.spi;
 
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
 import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.concurrent.LoggerScheduler;
+
+import java.util.List;
 
 /// Represents a collector (consumer) of logger messages.
 ///
@@ -18,6 +22,38 @@ public interface LoggerCollector extends LoggerExtension, AutoCloseable {
 	/// @since 1.0
 	void collect(LoggerMessage message);
 
+	/// Runs when a logger message is emitted as a [LoggerEvent], which is the
+	/// case when [Logger] is configured to be garbage-free. By default, this
+	/// invokes [#collect(LoggerMessage)] with a copy of the event.
+	///
+	/// Implementations should override this to read the event directly, so no
+	/// objects are allocated per message. The provided event is only valid for
+	/// the duration of this invocation; it must not be retained, and neither
+	/// must its [LoggerEvent#text()], which is overwritten once the event is
+	/// reused (copy it, e.g. with [Object#toString()], to retain it).
+	///
+	/// @see LoggerScheduler#garbageFree()
+	/// @since 1.0
+	default void collect(LoggerEvent event) {
+		this.collect(event.message());
+	}
+
+	/// Runs when a batch of logger messages is emitted, in the order that they
+	/// were dispatched. By default, this invokes [#collect(LoggerMessage)] for
+	/// every message of the batch.
+	///
+	/// Implementations should override this to amortize per-message costs,
+	/// such as acquiring locks or performing I/O, over the entire batch.
+	///
+	/// The provided list is unmodifiable, and only valid for the duration of
+	/// this invocation; it must not be retained.
+	///
+	/// @see LoggerScheduler#batch()
+	/// @since 1.0
+	default void collect(List<LoggerMessage> messages) {
+		for (LoggerMessage message : messages) this.collect(message);
+	}
+
 	@Override
 	default void wire() {
 		Logger.collector(this);
@@ -1,5 +1,6 @@
 package sirius.stellar.logging.spi;
 
+import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerMessage;
 
 /// Represents a dispatcher (producer) of logger messages.
@@ -30,4 +31,16 @@ public interface LoggerDispatcher extends LoggerExtension {
 	default LoggerMessage.Builder message() {
 		return LoggerMessage.builder();
 	}
+
+	/// Run automatically whenever the severities of [Logger] change (see
+	/// [Logger#severity(int)] and [Logger#severities(java.util.Map)]).
+	///
+	/// Dispatchers should use this to reject messages that no logger would log
+	/// before they are created, where the logging facade being delegated allows
+	/// for that (e.g. by setting its level, based on [Logger#enabled(sirius.stellar.logging.LoggerLevel)]).
+	///
+	/// @since 1.0
+	default void refresh() {
+		assert true;
+	}
 }
\ No newline at end of file
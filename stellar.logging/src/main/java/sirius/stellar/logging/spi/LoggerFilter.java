@@ -0,0 +1,50 @@
+package sirius.stellar.logging.spi;
+
+import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.concurrent.LoggerScheduler;
+
+import java.util.function.Consumer;
+
+/// Represents a filter of logger messages, evaluated on the thread dispatching
+/// every message, before it is enqueued, e.g. for rate-limiting or sampling
+/// messages during a storm of the same message being logged.
+///
+/// A filter is provided the level, logger name and template of every message
+/// (see [LoggerEvent#template()]), so that a message can be rejected before it
+/// is formatted, or anything is allocated for it. Implementations must be
+/// thread-safe, and should never block.
+///
+/// Implementations can be provided as [LoggerExtension] service providers,
+/// or registered with [Logger#filter(LoggerFilter)]. Filters are evaluated in
+/// the order they were registered, until one of them rejects the message.
+///
+/// @see sirius.stellar.logging.filter
+/// @since 1.0
+public interface LoggerFilter extends LoggerExtension {
+
+	/// Returns whether a message with the provided level, logger name and
+	/// template should be dispatched.
+	///
+	/// @since 1.0
+	boolean test(LoggerLevel level, String name, String template);
+
+	/// Runs periodically (see [LoggerScheduler#reporting()]), and when the
+	/// logging system is shut down, to report the messages that this filter has
+	/// rejected since it last ran, by providing synthetic messages to the
+	/// provided consumer (which enqueues them without evaluating any filters).
+	///
+	/// By default, nothing is reported.
+	///
+	/// @since 1.0
+	default void report(Consumer<LoggerMessage> reporter) {
+		assert true;
+	}
+
+	@Override
+	default void wire() {
+		Logger.filter(this);
+	}
+}
\ No newline at end of file
@@ -1,6 +1,6 @@
 package sirius.stellar.logging.concurrent;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -10,7 +10,8 @@ final class DefaultLoggerScheduler
 		extends ThreadPoolExecutor
 		implements LoggerScheduler {
 
-	/// The initial and maximum number of threads to use.
+	/// The initial number of threads to use.
+	/// Threads are created on demand beyond this, e.g. for [LoggerLane]s.
 	private static final int SCHEDULER_THREADS = 1;
 
 	/// The number of milliseconds to keep threads alive without tasks.
@@ -18,10 +19,15 @@ final class DefaultLoggerScheduler
 
 	DefaultLoggerScheduler() {
 		super(
-			SCHEDULER_THREADS, SCHEDULER_THREADS,
+			SCHEDULER_THREADS, Integer.MAX_VALUE,
 			SCHEDULER_KEEPALIVE, MILLISECONDS,
-			new LinkedBlockingQueue<>(),
+			new SynchronousQueue<>(),
 			Thread.ofVirtual().factory()
 		);
 	}
+
+	@Override
+	public boolean lanes() {
+		return true;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package sirius.stellar.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LoggerAttributesTest {
+
+	@Test @DisplayName("with(String, Object) replaces existing entries and returns a copy")
+	void withReplaces() {
+		var empty = LoggerAttributes.empty();
+		var attributes = empty.with("user", "alice").with("request", 42).with("user", "bob");
+
+		assertThat(empty.isEmpty()).isTrue();
+		assertThat(attributes.size()).isEqualTo(2);
+		assertThat(attributes.key(0)).isEqualTo("user");
+		assertThat(attributes.value(0)).isEqualTo("bob");
+		assertThat(attributes.get("request")).isEqualTo("42");
+	}
+
+	@Test @DisplayName("without(String) and a null value remove the entry")
+	void withoutRemoves() {
+		var attributes = LoggerAttributes.empty().with("a", 1).with("b", 2).with("c", 3);
+
+		assertThat(attributes.without("b").asMap()).containsExactly(
+			java.util.Map.entry("a", "1"),
+			java.util.Map.entry("c", "3")
+		);
+		assertThat(attributes.with("a", null).get("a")).isNull();
+		assertThat(attributes.without("d")).isSameAs(attributes);
+	}
+
+	@Test @DisplayName("of(Map) skips null values")
+	void ofMap() {
+		var map = new LinkedHashMap<String, Object>();
+		map.put(new String("key"), "value");
+		map.put("missing", null);
+
+		var attributes = LoggerAttributes.of(map);
+
+		assertThat(attributes.size()).isEqualTo(1);
+		assertThat(attributes.key(0)).isEqualTo("key");
+	}
+}
\ No newline at end of file
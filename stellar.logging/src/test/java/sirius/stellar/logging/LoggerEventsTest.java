@@ -0,0 +1,84 @@
+package sirius.stellar.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Thread.onSpinWait;
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.ERROR;
+
+final class LoggerEventsTest {
+
+	@Test @DisplayName("capture(Object[]) keeps immutable values, copies dates, and stringifies other objects")
+	void captureArguments() {
+		var date = new Date(0L);
+		var instant = Instant.EPOCH;
+		var mutable = new StringBuilder("before");
+
+		var captured = LoggerEvents.capture(new Object[]{"text", 1, instant, date, mutable, null});
+		date.setTime(1L);
+		mutable.append(" after");
+
+		assertThat(captured).isNotNull();
+		assertThat(captured[0]).isEqualTo("text");
+		assertThat(captured[1]).isEqualTo(1);
+		assertThat(captured[2]).isSameAs(instant);
+		assertThat(captured[3]).isEqualTo(new Date(0L));
+		assertThat(captured[4]).isEqualTo("before");
+		assertThat(captured[5]).isNull();
+	}
+
+	@Test @DisplayName("capture(Object[]) returns null when an argument is formatted based on its mutable type")
+	void captureMutableNumber() {
+		assertThat(LoggerEvents.capture(new Object[]{"text", new AtomicInteger(1)})).isNull();
+	}
+
+	@Test @DisplayName("epochNanos(Instant) counts the nanoseconds since the epoch")
+	void epochNanos() {
+		var time = Instant.ofEpochSecond(1_700_000_000L, 123_456_789L);
+		assertThat(LoggerEvents.epochNanos(time)).isEqualTo(1_700_000_000_123_456_789L);
+		assertThat(Instant.ofEpochSecond(0L, LoggerEvents.epochNanos(time))).isEqualTo(time);
+	}
+
+	@Test @DisplayName("a message that throws while being formatted is collected unformatted, and collection continues")
+	@Timeout(5)
+	void unformatted() {
+		Queue<String> collected = new ConcurrentLinkedQueue<>();
+		LoggerCollector collector = message -> {
+			if (message.name().equals("com.example.Unformatted")) collected.add(message.text());
+		};
+		var throwable = new IllegalStateException() {
+			@Override
+			public String getMessage() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public String toString() {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		long failed = Logger.metrics().failed().get(ERROR);
+		Logger.collector(collector);
+		try {
+			var handle = Logger.forName("com.example.Unformatted");
+			handle.error(throwable, "Lorem {0}", "ipsum");
+			handle.error("dolor");
+
+			while (collected.size() < 2) onSpinWait();
+			assertThat(collected).containsExactly("Lorem {0} [failed to format: java.lang.UnsupportedOperationException]", "dolor");
+			assertThat(Logger.metrics().failed().get(ERROR)).isEqualTo(failed + 1);
+		} finally {
+			Logger.collectorRemove(collector);
+		}
+	}
+}
\ No newline at end of file
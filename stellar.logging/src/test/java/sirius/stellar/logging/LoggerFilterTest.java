@@ -0,0 +1,130 @@
+package sirius.stellar.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.spi.LoggerCollector;
+import sirius.stellar.logging.spi.LoggerFilter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.lang.Thread.onSpinWait;
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.WARNING;
+
+@Timeout(5)
+final class LoggerFilterTest {
+
+	@Test @DisplayName("filter(LoggerFilter) rejects messages before they are collected, and reports them when removed")
+	void filtered() {
+		var filter = new RejectingFilter("com.example.Rejected");
+		Queue<String> collected = new ConcurrentLinkedQueue<>();
+		LoggerCollector collector = message -> {
+			if (message.name().startsWith("com.example.")) collected.add(message.name() + ": " + message.text());
+		};
+
+		Logger.collector(collector);
+		Logger.filter(filter);
+		try {
+			Logger.forName("com.example.Rejected").information("Lorem");
+			Logger.forName("com.example.Accepted").information("ipsum");
+			Logger.filterRemove(filter);
+			Logger.forName("com.example.Rejected").information("dolor");
+
+			while (collected.size() < 3) onSpinWait();
+			assertThat(collected).containsExactlyInAnyOrder(
+				"com.example.Accepted: ipsum",
+				"com.example.Rejected: Rejected 1 messages",
+				"com.example.Rejected: dolor"
+			);
+		} finally {
+			Logger.filterRemove(filter);
+			Logger.collectorRemove(collector);
+		}
+	}
+
+	@Test @DisplayName("filter(LoggerFilter) registers every filter, when registered concurrently")
+	void filteredConcurrently() throws InterruptedException {
+		List<RejectingFilter> filters = new ArrayList<>();
+		for (int i = 0; i < 64; i++) filters.add(new RejectingFilter("com.example.Concurrent" + i));
+
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			int offset = i;
+			threads[i] = Thread.ofPlatform().start(() -> {
+				for (int j = offset; j < filters.size(); j += threads.length) Logger.filter(filters.get(j));
+			});
+		}
+		try {
+			for (Thread thread : threads) thread.join();
+
+			for (RejectingFilter filter : filters) {
+				Logger.forName(filter.name).information("Lorem");
+				assertThat(filter.rejected.get()).isEqualTo(1);
+			}
+		} finally {
+			for (RejectingFilter filter : filters) Logger.filterRemove(filter);
+		}
+	}
+
+	@Test @DisplayName("report(Duration) reports for every filter at the provided interval, even if one throws, until interrupted")
+	void reported() throws InterruptedException {
+		LoggerFilter failing = new RejectingFilter("com.example.Failing") {
+			@Override
+			public void report(Consumer<LoggerMessage> reporter) {
+				throw new IllegalStateException();
+			}
+		};
+		var filter = new RejectingFilter("com.example.Reported");
+		Logger.filter(failing);
+		Logger.filter(filter);
+		try {
+			Thread thread = Thread.ofPlatform().start(() -> Logger.report(Duration.ofMillis(10)));
+			while (filter.reports.get() < 3) onSpinWait();
+
+			thread.interrupt();
+			thread.join();
+			assertThat(thread.isAlive()).isFalse();
+		} finally {
+			Logger.filterRemove(failing);
+			Logger.filterRemove(filter);
+		}
+	}
+
+	/// Implementation of [LoggerFilter] that rejects every message for the
+	/// provided logger name, and reports how many it rejected.
+	private static class RejectingFilter implements LoggerFilter {
+
+		private final String name;
+		private final AtomicInteger rejected;
+		private final AtomicInteger reports;
+
+		private RejectingFilter(String name) {
+			this.name = name;
+			this.rejected = new AtomicInteger();
+			this.reports = new AtomicInteger();
+		}
+
+		@Override
+		public boolean test(LoggerLevel level, String name, String template) {
+			if (!name.equals(this.name)) return true;
+			this.rejected.incrementAndGet();
+			return false;
+		}
+
+		@Override
+		public void report(Consumer<LoggerMessage> reporter) {
+			this.reports.incrementAndGet();
+			int rejected = this.rejected.getAndSet(0);
+			if (rejected == 0) return;
+			reporter.accept(new LoggerMessage(Instant.now(), WARNING, "main", this.name, "Rejected " + rejected + " messages"));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package sirius.stellar.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.DIAGNOSIS;
+import static sirius.stellar.logging.LoggerLevel.WARNING;
+
+final class LoggerHandleTest {
+
+	@Test @DisplayName("forClass(Class) returns the same handle, named after the class")
+	void forClassIsCached() {
+		var handle = Logger.forClass(LoggerHandleTest.class);
+
+		assertThat(handle.name()).isEqualTo(LoggerHandleTest.class.getName());
+		assertThat(Logger.forClass(LoggerHandleTest.class)).isSameAs(handle);
+	}
+
+	@Test @DisplayName("severities(Map) applies hierarchically by name, including to existing handles")
+	void severitiesApplyByName() {
+		var handle = Logger.forName("com.example.Handle");
+
+		try {
+			Logger.severities(Map.of("com.example.*", WARNING.severity()));
+
+			assertThat(handle.enabled(WARNING)).isTrue();
+			assertThat(handle.enabled(DIAGNOSIS)).isFalse();
+			assertThat(Logger.forName("com.example.nested.Handle").enabled(DIAGNOSIS)).isFalse();
+			assertThat(Logger.forName("com.examples.Handle").enabled(DIAGNOSIS)).isTrue();
+		} finally {
+			Logger.severities(Map.of());
+		}
+		assertThat(handle.enabled(DIAGNOSIS)).isTrue();
+	}
+
+	@Test @DisplayName("enabled(String, LoggerLevel) resolves names that no handle exists for")
+	void enabledByName() {
+		try {
+			Logger.severities(Map.of("com.example.*", WARNING.severity()));
+
+			assertThat(Logger.enabled("com.example.Unseen", WARNING)).isTrue();
+			assertThat(Logger.enabled("com.example.Unseen", DIAGNOSIS)).isFalse();
+			assertThat(Logger.enabled("com.examples.Unseen", DIAGNOSIS)).isTrue();
+
+			Logger.forName("com.example.Seen");
+			assertThat(Logger.enabled("com.example.Seen", DIAGNOSIS)).isFalse();
+		} finally {
+			Logger.severities(Map.of());
+		}
+		assertThat(Logger.enabled("com.example.Unseen", DIAGNOSIS)).isTrue();
+	}
+}
\ No newline at end of file
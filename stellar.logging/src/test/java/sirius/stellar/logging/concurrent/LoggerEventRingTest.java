@@ -0,0 +1,61 @@
+package sirius.stellar.logging.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LoggerEventRingTest {
+
+	@Test @DisplayName("events are pre-allocated, and reused once released")
+	void eventsAreReused() {
+		var allocated = new AtomicInteger();
+		var ring = new LoggerEventRing<>(2, () -> new int[] {allocated.incrementAndGet()});
+
+		long first = ring.claim();
+		int[] event = ring.get(first);
+		ring.publish(first);
+
+		long read = ring.next();
+		assertThat(read).isEqualTo(first);
+		assertThat(ring.get(read)).isSameAs(event);
+		ring.release(read);
+
+		for (int i = 0; i < 2; i++) ring.publish(ring.claim());
+		for (int i = 0; i < 2; i++) ring.release(ring.next());
+
+		assertThat(allocated).hasValue(2);
+		assertThat(ring.isEmpty()).isTrue();
+	}
+
+	@Test @DisplayName("claim returns -1 when full, and next returns -1 until published")
+	void claimWhenFull() {
+		var ring = new LoggerEventRing<>(2, Object::new);
+
+		long first = ring.claim();
+		long second = ring.claim();
+		assertThat(ring.claim()).isEqualTo(-1L);
+		assertThat(ring.next()).isEqualTo(-1L);
+
+		ring.publish(first);
+		ring.publish(second);
+		ring.release(ring.next());
+
+		assertThat(ring.claim()).isNotEqualTo(-1L);
+	}
+
+	@Test @DisplayName("a ring with a capacity of one is full after one claim")
+	void capacityOfOne() {
+		var ring = new LoggerEventRing<>(1, Object::new);
+
+		long first = ring.claim();
+		assertThat(ring.claim()).isEqualTo(-1L);
+		ring.publish(first);
+		assertThat(ring.claim()).isEqualTo(-1L);
+
+		ring.release(ring.next());
+		assertThat(ring.claim()).isEqualTo(1L);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package sirius.stellar.logging.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+final class LoggerHistogramTest {
+
+	@Test @DisplayName("snapshot reports percentiles within 12.5% of the recorded values")
+	void percentiles() {
+		var histogram = new LoggerHistogram();
+		for (long i = 1; i <= 100_000; i++) histogram.record(i * 1_000L);
+
+		var snapshot = histogram.snapshot();
+		assertThat(snapshot.count()).isEqualTo(100_000L);
+		assertThat(snapshot.maximum()).isEqualTo(100_000_000L);
+		assertThat(snapshot.mean()).isEqualTo(50_000_500L);
+
+		assertThat(snapshot.p50()).isCloseTo(50_000_000L, within(6_250_000L));
+		assertThat(snapshot.p99()).isCloseTo(99_000_000L, within(12_375_000L));
+		assertThat(snapshot.p999()).isBetween(99_900_000L, 100_000_000L);
+	}
+
+	@Test @DisplayName("snapshot is zero when empty, and negative values are recorded as zero")
+	void empty() {
+		var histogram = new LoggerHistogram();
+		assertThat(histogram.snapshot().p99()).isZero();
+		assertThat(histogram.snapshot().mean()).isZero();
+
+		histogram.record(-5L);
+		assertThat(histogram.snapshot().count()).isEqualTo(1L);
+		assertThat(histogram.snapshot().maximum()).isZero();
+	}
+}
\ No newline at end of file
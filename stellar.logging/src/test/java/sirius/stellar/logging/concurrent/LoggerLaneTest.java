@@ -0,0 +1,100 @@
+package sirius.stellar.logging.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.spi.LoggerCollector;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LoggerLaneTest {
+
+	@Test @Timeout(10) @DisplayName("offer applies the overflow policy when full, and reports discarded messages")
+	void overflowDiscarding() throws InterruptedException {
+		List<LoggerMessage> collected = new CopyOnWriteArrayList<>();
+		List<LoggerEvent> discarded = new CopyOnWriteArrayList<>();
+		var scheduler = new TestScheduler(LoggerOverflow.dropNewest());
+		var lane = new LoggerLane(new LoggerMeter(collected::add), scheduler, discarded::add);
+
+		lane.offer(message("a"));
+		lane.offer(message("b"));
+		assertThat(lane.depth()).isEqualTo(1);
+		assertThat(lane.dropped()).isEqualTo(1L);
+		assertThat(discarded).extracting(LoggerEvent::text).containsExactly("b");
+
+		scheduler.execute(lane);
+		lane.close();
+		lane.await();
+		scheduler.shutdownNow();
+		assertThat(collected).extracting(LoggerMessage::text).containsExactly("a");
+	}
+
+	@Test @Timeout(10) @DisplayName("offer waits for capacity when full, with the default overflow policy")
+	void overflowBlocking() throws InterruptedException {
+		List<LoggerMessage> collected = new CopyOnWriteArrayList<>();
+		var scheduler = new TestScheduler(LoggerOverflow.blocking());
+		var lane = new LoggerLane(new LoggerMeter(collected::add), scheduler, event -> {});
+
+		lane.offer(message("a"));
+		var offering = new Thread(() -> {
+			try {
+				lane.offer(message("b"));
+			} catch (InterruptedException exception) {
+				throw new IllegalStateException(exception);
+			}
+		});
+		offering.start();
+		offering.join(100L);
+		assertThat(offering.isAlive()).isTrue();
+
+		scheduler.execute(lane);
+		offering.join();
+		lane.close();
+		lane.await();
+		scheduler.shutdownNow();
+
+		assertThat(collected).extracting(LoggerMessage::text).containsExactly("a", "b");
+		assertThat(lane.dropped()).isZero();
+	}
+
+	/// Returns a message with the provided text.
+	private static LoggerMessage message(String text) {
+		return new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "main", "test", text);
+	}
+
+	/// Implementation of [LoggerScheduler] with lanes of a single message.
+	private static final class TestScheduler extends ThreadPoolExecutor implements LoggerScheduler {
+
+		private final LoggerOverflow overflow;
+
+		TestScheduler(LoggerOverflow overflow) {
+			super(1, Integer.MAX_VALUE, 250L, MILLISECONDS, new SynchronousQueue<>());
+			this.overflow = overflow;
+		}
+
+		@Override
+		public int laneCapacity() {
+			return 1;
+		}
+
+		@Override
+		public LoggerOverflow overflow() {
+			return this.overflow;
+		}
+
+		@Override
+		public void close() {
+			this.shutdownNow();
+		}
+	}
+}
\ No newline at end of file
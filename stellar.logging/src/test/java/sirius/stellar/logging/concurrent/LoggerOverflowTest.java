@@ -0,0 +1,127 @@
+package sirius.stellar.logging.concurrent;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.*;
+import static sirius.stellar.logging.concurrent.LoggerWaitStrategy.PARKING;
+
+final class LoggerOverflowTest {
+
+	@Test @DisplayName("dropNewest() discards the message being dispatched")
+	void dropNewest() throws InterruptedException {
+		var queue = new TestQueue(1);
+		queue.offer(message(INFORMATION, "a"));
+
+		LoggerOverflow.dropNewest().overflow(queue, message(INFORMATION, "b"));
+
+		assertThat(queue.poll()).extracting(LoggerEvent::text).isEqualTo("a");
+		assertThat(queue.discarded).extracting(LoggerEvent::text).containsExactly("b");
+	}
+
+	@Test @DisplayName("dropOldest() discards the head of the queue to make capacity")
+	void dropOldest() throws InterruptedException {
+		var queue = new TestQueue(2);
+		queue.offer(message(INFORMATION, "a"));
+		queue.offer(message(INFORMATION, "b"));
+
+		LoggerOverflow.dropOldest().overflow(queue, message(INFORMATION, "c"));
+
+		assertThat(queue.poll()).extracting(LoggerEvent::text).isEqualTo("b");
+		assertThat(queue.poll()).extracting(LoggerEvent::text).isEqualTo("c");
+		assertThat(queue.discarded).extracting(LoggerEvent::text).containsExactly("a");
+	}
+
+	@Test @DisplayName("shedding(LoggerLevel) discards messages with a severity above the level")
+	void shedding() throws InterruptedException {
+		var queue = new TestQueue(1);
+		queue.offer(message(INFORMATION, "a"));
+
+		LoggerOverflow.shedding(ERROR).overflow(queue, message(TRACING, "b"));
+		LoggerOverflow.shedding(ERROR).overflow(queue, message(DIAGNOSIS, "c"));
+
+		assertThat(queue.discarded)
+			.extracting(LoggerEvent::level)
+			.containsExactly(TRACING, DIAGNOSIS);
+	}
+
+	@Test @DisplayName("blocking(Duration) discards the message after the timeout elapses")
+	void blockingWithTimeout() throws InterruptedException {
+		var queue = new TestQueue(1);
+		queue.offer(message(ERROR, "a"));
+
+		LoggerOverflow.blocking(Duration.ofMillis(10)).overflow(queue, message(ERROR, "b"));
+
+		assertThat(queue.discarded).extracting(LoggerEvent::text).containsExactly("b");
+	}
+
+	@Test @DisplayName("collecting() collects the message on the dispatching thread")
+	void collecting() throws InterruptedException {
+		var queue = new TestQueue(1);
+		queue.offer(message(ERROR, "a"));
+
+		LoggerOverflow.collecting().overflow(queue, message(ERROR, "b"));
+
+		assertThat(queue.collected).extracting(LoggerEvent::text).containsExactly("b");
+		assertThat(queue.discarded).isEmpty();
+	}
+
+	/// Returns a message with the provided level and text.
+	private static LoggerMessage message(LoggerLevel level, String text) {
+		return new LoggerMessage(Instant.now(), level, "main", "test", text);
+	}
+
+	/// Implementation of [LoggerOverflow.Queue] recording collected and discarded messages.
+	private static final class TestQueue implements LoggerOverflow.Queue {
+
+		private final LoggerRingBuffer<LoggerEvent> ring;
+
+		final List<LoggerEvent> collected = new ArrayList<>();
+		final List<LoggerEvent> discarded = new ArrayList<>();
+
+		TestQueue(int capacity) {
+			this.ring = new LoggerRingBuffer<>(capacity, PARKING);
+		}
+
+		@Override
+		public boolean offer(LoggerEvent message) {
+			return this.ring.offer(message);
+		}
+
+		@Override
+		public boolean offer(LoggerEvent message, long nanos) throws InterruptedException {
+			return this.ring.put(message, nanos);
+		}
+
+		@Override
+		public void put(LoggerEvent message) throws InterruptedException {
+			this.ring.put(message);
+		}
+
+		@Override
+		@Nullable
+		public LoggerEvent poll() {
+			return this.ring.poll();
+		}
+
+		@Override
+		public void collect(LoggerEvent message) {
+			this.collected.add(message);
+		}
+
+		@Override
+		public void discard(LoggerEvent message) {
+			this.discarded.add(message);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package sirius.stellar.logging.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sirius.stellar.logging.concurrent.LoggerWaitStrategy.PARKING;
+import static sirius.stellar.logging.concurrent.LoggerWaitStrategy.YIELDING;
+
+final class LoggerRingBufferTest {
+
+	@Test @DisplayName("capacity is rounded up to the next power of two")
+	void capacityRoundsUp() {
+		var ring = new LoggerRingBuffer<Integer>(100, PARKING);
+
+		assertThat(ring.capacity()).isEqualTo(128);
+		assertThatThrownBy(() -> new LoggerRingBuffer<Integer>(0, PARKING))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test @DisplayName("offer returns false when full, and poll is first-in-first-out")
+	void offerWhenFull() {
+		var ring = new LoggerRingBuffer<Integer>(4, PARKING);
+
+		for (int i = 0; i < 4; i++) assertThat(ring.offer(i)).isTrue();
+		assertThat(ring.offer(4)).isFalse();
+		assertThat(ring.size()).isEqualTo(4);
+
+		assertThat(ring.poll()).isEqualTo(0);
+		assertThat(ring.offer(4)).isTrue();
+
+		for (int i = 1; i <= 4; i++) assertThat(ring.poll()).isEqualTo(i);
+		assertThat(ring.poll()).isNull();
+		assertThat(ring.isEmpty()).isTrue();
+	}
+
+	@Test @DisplayName("a ring with a capacity of one is full after one element")
+	void capacityOfOne() {
+		var ring = new LoggerRingBuffer<Integer>(1, PARKING);
+
+		assertThat(ring.offer(0)).isTrue();
+		assertThat(ring.offer(1)).isFalse();
+		assertThat(ring.poll()).isEqualTo(0);
+		assertThat(ring.poll()).isNull();
+
+		assertThat(ring.offer(1)).isTrue();
+		assertThat(ring.poll()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("drainTo dequeues at most the provided number of elements")
+	void drainToLimit() {
+		var ring = new LoggerRingBuffer<Integer>(8, PARKING);
+		for (int i = 0; i < 5; i++) ring.offer(i);
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat(ring.drainTo(drained, 3)).isEqualTo(3);
+		assertThat(ring.drainTo(drained, 3)).isEqualTo(2);
+
+		assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+		assertThat(ring.isEmpty()).isTrue();
+	}
+
+	@Test @Timeout(10) @DisplayName("every element from multiple producers is taken exactly once")
+	void multipleProducers() throws InterruptedException {
+		var ring = new LoggerRingBuffer<Integer>(64, YIELDING);
+		var producers = 4;
+		var count = 50_000;
+		var start = new CountDownLatch(1);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			int offset = p * count;
+			var thread = new Thread(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < count; i++) ring.put(offset + i);
+				} catch (InterruptedException exception) {
+					throw new IllegalStateException(exception);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		start.countDown();
+		var taken = new HashSet<Integer>();
+		for (int i = 0; i < producers * count; i++) taken.add(ring.take());
+		for (Thread thread : threads) thread.join();
+
+		assertThat(taken).hasSize(producers * count);
+		assertThat(ring.isEmpty()).isTrue();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package sirius.stellar.logging.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LoggerWaitStrategyTest {
+
+	@Test @DisplayName("idle(int) returns the next attempt, capped so that it never overflows")
+	void attemptsAreCapped() {
+		for (LoggerWaitStrategy strategy : LoggerWaitStrategy.values()) {
+			assertThat(strategy.idle(0)).isEqualTo(1);
+			assertThat(strategy.idle(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+		}
+
+		int attempt = 0;
+		for (int i = 0; i < 1_000; i++) {
+			int next = LoggerWaitStrategy.SPINNING.idle(attempt);
+			assertThat(next).isGreaterThanOrEqualTo(attempt);
+			attempt = next;
+		}
+		assertThat(LoggerWaitStrategy.SPINNING.idle(attempt)).isEqualTo(attempt);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package sirius.stellar.logging.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.ERROR;
+import static sirius.stellar.logging.LoggerLevel.WARNING;
+
+final class DeduplicatingLoggerFilterTest {
+
+	@Test @DisplayName("test accepts the first occurrence of a message, and reports the repeats")
+	void repeated() {
+		var filter = new DeduplicatingLoggerFilter();
+		for (int i = 0; i < 5; i++) assertThat(filter.test(ERROR, "a", "Failed to connect to {}")).isEqualTo(i == 0);
+		assertThat(filter.test(WARNING, "a", "Failed to connect to {}")).isTrue();
+		assertThat(filter.test(ERROR, "b", "Failed to connect to {}")).isTrue();
+
+		List<LoggerMessage> reported = new ArrayList<>();
+		filter.report(reported::add);
+		assertThat(reported).singleElement().satisfies(message -> {
+			assertThat(message.level()).isEqualTo(ERROR);
+			assertThat(message.name()).isEqualTo("a");
+			assertThat(message.text()).isEqualTo("Message repeated 4 times: Failed to connect to {}");
+		});
+
+		assertThat(filter.test(ERROR, "a", "Failed to connect to {}")).isTrue();
+	}
+
+	@Test @DisplayName("every occurrence is either accepted or reported, while reporting concurrently")
+	void concurrent() throws InterruptedException {
+		var filter = new DeduplicatingLoggerFilter();
+		var accepted = new LongAdder();
+		var repeated = new LongAdder();
+		Consumer<LoggerMessage> reporter = message -> repeated.add(Long.parseLong(message.text().split(" ")[2]));
+
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = Thread.ofPlatform().start(() -> {
+				for (int j = 0; j < 100_000; j++) {
+					if (filter.test(ERROR, "a", "Failed to connect to {}")) accepted.increment();
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			while (thread.isAlive()) filter.report(reporter);
+			thread.join();
+		}
+		filter.report(reporter);
+
+		assertThat(accepted.sum() + repeated.sum()).isEqualTo(threads.length * 100_000L);
+	}
+}
@@ -0,0 +1,70 @@
+package sirius.stellar.logging.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.ERROR;
+import static sirius.stellar.logging.LoggerLevel.WARNING;
+import static sirius.stellar.logging.filter.RateLimitingLoggerFilter.Key.NAME;
+import static sirius.stellar.logging.filter.RateLimitingLoggerFilter.Key.TEMPLATE;
+
+final class RateLimitingLoggerFilterTest {
+
+	@Test @DisplayName("test accepts a burst of permits per key, then rejects and reports the rest")
+	void limited() {
+		var filter = new RateLimitingLoggerFilter(TEMPLATE, 10, Duration.ofHours(1));
+
+		int accepted = 0;
+		for (int i = 0; i < 100; i++) {
+			if (filter.test(ERROR, "a", "Failed to connect to {}")) accepted++;
+		}
+		assertThat(accepted).isEqualTo(10);
+		assertThat(filter.test(ERROR, "a", "Connected to {}")).isTrue();
+
+		List<LoggerMessage> reported = new ArrayList<>();
+		filter.report(reported::add);
+		assertThat(reported).singleElement().satisfies(message -> {
+			assertThat(message.level()).isEqualTo(WARNING);
+			assertThat(message.name()).isEqualTo("a");
+			assertThat(message.text()).startsWith("Rate limited 90 messages").endsWith(": Failed to connect to {}");
+		});
+
+		reported.clear();
+		filter.report(reported::add);
+		assertThat(reported).isEmpty();
+	}
+
+	@Test @DisplayName("test refills permits over the period, per logger name")
+	void refilled() throws InterruptedException {
+		var filter = new RateLimitingLoggerFilter(NAME, 1, Duration.ofMillis(50));
+		assertThat(filter.test(ERROR, "a", "1")).isTrue();
+		assertThat(filter.test(ERROR, "a", "2")).isFalse();
+		assertThat(filter.test(ERROR, "b", "2")).isTrue();
+
+		Thread.sleep(100L);
+		assertThat(filter.test(ERROR, "a", "3")).isTrue();
+	}
+
+	@Test @DisplayName("keys beyond the limit share an overflow bucket, reported for the filter")
+	void overflow() {
+		var filter = new RateLimitingLoggerFilter(NAME, 1, Duration.ofHours(1));
+		for (int i = 0; i < RateLimitingLoggerFilter.LIMIT; i++) assertThat(filter.test(ERROR, "a" + i, "1")).isTrue();
+
+		assertThat(filter.test(ERROR, "b0", "1")).isTrue();
+		for (int i = 1; i < 10; i++) assertThat(filter.test(ERROR, "b" + i, "1")).isFalse();
+
+		List<LoggerMessage> reported = new ArrayList<>();
+		filter.report(reported::add);
+		assertThat(reported).singleElement().satisfies(message -> {
+			assertThat(message.level()).isEqualTo(WARNING);
+			assertThat(message.name()).isEqualTo(RateLimitingLoggerFilter.class.getName());
+			assertThat(message.text()).startsWith("Rate limited 9 messages");
+		});
+	}
+}
@@ -0,0 +1,43 @@
+package sirius.stellar.logging.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sirius.stellar.logging.LoggerLevel.ERROR;
+import static sirius.stellar.logging.LoggerLevel.TRACING;
+
+final class SamplingLoggerFilterTest {
+
+	@Test @DisplayName("test rejects every message of a level sampled at zero, and reports them for that level")
+	void sampled() {
+		var filter = new SamplingLoggerFilter(Map.of(TRACING, 0.0, ERROR, 1.0));
+		for (int i = 0; i < 10; i++) assertThat(filter.test(TRACING, "a", "Polled {}")).isFalse();
+		for (int i = 0; i < 10; i++) assertThat(filter.test(ERROR, "a", "Failed to poll {}")).isTrue();
+
+		List<LoggerMessage> reported = new ArrayList<>();
+		filter.report(reported::add);
+		assertThat(reported).singleElement().satisfies(message -> {
+			assertThat(message.level()).isEqualTo(TRACING);
+			assertThat(message.name()).isEqualTo(SamplingLoggerFilter.class.getName());
+			assertThat(message.text()).startsWith("Sampled out 10 messages");
+		});
+
+		reported.clear();
+		filter.report(reported::add);
+		assertThat(reported).isEmpty();
+	}
+
+	@Test @DisplayName("a probability below zero or above one is rejected")
+	void probability() {
+		assertThatThrownBy(() -> new SamplingLoggerFilter(Map.of(TRACING, -0.1))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SamplingLoggerFilter(Map.of(TRACING, 1.1))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SamplingLoggerFilter(Map.of(TRACING, Double.NaN))).isInstanceOf(IllegalArgumentException.class);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package sirius.stellar.logging.fluent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.LoggerAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+
+final class DeferredLoggerEventTest {
+
+	@Test @DisplayName("text() formats the text and appends the stacktrace")
+	void textIsFormatted() {
+		var event = new DeferredLoggerEvent(0L, INFORMATION, "main", "test", "Lorem {0} dolor", new Object[]{"ipsum"}, new Throwable(), LoggerAttributes.empty());
+
+		assertThat(event.text())
+			.startsWith("Lorem ipsum dolor" + System.lineSeparator() + "java.lang.Throwable")
+			.isSameAs(event.text());
+	}
+}
\ No newline at end of file
@@ -3,7 +3,7 @@ package sirius.stellar.logging.fluent;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static sirius.stellar.logging.fluent.DispatchingBuilder.traceback;
+import static sirius.stellar.logging.LoggerEvents.traceback;
 
 final class DispatchingBuilderTest {
 
@@ -0,0 +1,32 @@
+package sirius.stellar.logging.fluent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sirius.stellar.logging.format.LoggerFormatter;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sirius.stellar.logging.LoggerLevel.INFORMATION;
+
+final class MutableLoggerEventTest {
+
+	@Test @DisplayName("text() is a read-only view of the text, which reflects the event being reused")
+	void textIsView() {
+		var event = new MutableLoggerEvent();
+		var formatter = LoggerFormatter.create();
+
+		event.set(0L, INFORMATION, "main", "test", "Lorem {0} dolor", new Object[]{"ipsum"}, null);
+		event.render(formatter, Locale.ROOT);
+		var text = event.text();
+		var copy = text.toString();
+
+		event.set(0L, INFORMATION, "main", "test", "Sit amet", null, null);
+		event.render(formatter, Locale.ROOT);
+
+		assertThat(text instanceof StringBuilder).isFalse();
+		assertThat(copy).isEqualTo("Lorem ipsum dolor");
+		assertThat(text.toString()).isEqualTo("Sit amet");
+		assertThat(text.subSequence(0, 3).toString()).isEqualTo("Sit");
+	}
+}
\ No newline at end of file
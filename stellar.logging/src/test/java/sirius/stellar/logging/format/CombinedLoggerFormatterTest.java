@@ -0,0 +1,64 @@
+package sirius.stellar.logging.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class CombinedLoggerFormatterTest {
+
+	@Test @DisplayName("compiled arguments render numbers as MessageFormat does")
+	void compiledArgumentsMatchMessageFormat() {
+		var formatter = new CombinedLoggerFormatter();
+		var format = "Lorem '{0}' {0} ''{1}'' {2}";
+		var arguments = new Object[]{1234567, -42L, 3.14159};
+
+		for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE}) {
+			assertThat(formatter.formatString(locale, format, arguments))
+				.isEqualTo(new MessageFormat(format, locale).format(arguments));
+		}
+	}
+
+	@Test @DisplayName("compiled conversions render as String#format does")
+	void compiledConversionsMatchStringFormat() {
+		var formatter = new CombinedLoggerFormatter();
+		var format = "Lorem %s dolor %d%% sit%n";
+		var arguments = new Object[]{"ipsum", 42};
+
+		assertThat(formatter.formatString(Locale.US, format, arguments))
+			.isEqualTo(String.format(Locale.US, format, arguments));
+	}
+
+	@Test @DisplayName("conversions introduced by arguments are formatted, as the output of MessageFormat is")
+	void argumentConversionsAreFormatted() {
+		var formatter = new CombinedLoggerFormatter();
+		var format = "Lorem {0} dolor";
+		var arguments = new Object[]{"ipsum %s"};
+
+		assertThat(formatter.formatString(Locale.US, format, arguments))
+			.isEqualTo(String.format(Locale.US, new MessageFormat(format, Locale.US).format(arguments), arguments));
+		assertThat(formatter.formatString(Locale.US, "Lorem ipsum", arguments)).isEqualTo("Lorem ipsum");
+	}
+
+	@Test @DisplayName("illegal formats and missing arguments return the format string")
+	void illegalFormatsReturnFormatString() {
+		var formatter = new CombinedLoggerFormatter();
+
+		assertThat(formatter.formatString(Locale.US, "Lorem %s %s", new Object[]{"ipsum"})).isEqualTo("Lorem %s %s");
+		assertThat(formatter.formatString(Locale.US, "Lorem {0} {", new Object[]{"ipsum"})).isEqualTo("Lorem {0} {");
+	}
+
+	@Test @DisplayName("formatTo(StringBuilder, ...) appends to the provided builder")
+	void formatToAppends() {
+		var formatter = new CombinedLoggerFormatter();
+		var builder = new StringBuilder("> ");
+
+		formatter.formatTo(builder, Locale.US, "Lorem {0} dolor {1}", new Object[]{"ipsum", "sit"});
+		formatter.formatTo(builder, Locale.US, "; amet %s", new Object[]{"consectetur"});
+
+		assertThat(builder).hasToString("> Lorem ipsum dolor sit; amet consectetur");
+	}
+}
\ No newline at end of file
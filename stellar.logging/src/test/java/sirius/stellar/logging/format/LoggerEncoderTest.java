@@ -0,0 +1,69 @@
+package sirius.stellar.logging.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class LoggerEncoderTest {
+
+	@Test @DisplayName("timestamp(Instant, ByteBuffer) writes the time as Instant#toString() does")
+	void timestamp() {
+		var encoder = new LoggerEncoder();
+		var buffer = ByteBuffer.allocate(64);
+
+		for (Instant time : new Instant[]{Instant.EPOCH, Instant.ofEpochSecond(1L, 5_000_000L), Instant.ofEpochSecond(1L, 123_456_000L), Instant.ofEpochSecond(1_700_000_000L, 1L)}) {
+			buffer.clear();
+			encoder.timestamp(time, buffer);
+			assertThat(decode(buffer)).isEqualTo(time.toString());
+		}
+	}
+
+	@Test @DisplayName("timestamp(Instant, DateTimeFormatter, ByteBuffer) writes the time as formatted, for any formatter")
+	void timestampFormatted() {
+		var encoder = new LoggerEncoder();
+		var buffer = ByteBuffer.allocate(64);
+		var time = Instant.ofEpochSecond(1_700_000_000L, 999_999_999L);
+		var formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss").withZone(UTC);
+
+		encoder.timestamp(time, formatter, buffer);
+		assertThat(decode(buffer)).isEqualTo(formatter.format(time));
+
+		buffer.clear();
+		encoder.timestamp(time, buffer);
+		assertThat(decode(buffer)).isEqualTo(time.toString());
+	}
+
+	@Test @DisplayName("string(String, ByteBuffer, Escapes) escapes ASCII characters, and encodes the rest as String#getBytes does")
+	void string() {
+		var encoder = new LoggerEncoder();
+		var buffer = ByteBuffer.allocate(256);
+		var escapes = LoggerEncoder.Escapes.of(Map.of('"', "\"\"", '\n', "\\n"));
+		var string = "Lorem \"ipsum\" dolor\nsit amet, é € 😀 \uD83D.";
+
+		encoder.string(string, buffer, escapes);
+		assertThat(decode(buffer)).isEqualTo("Lorem \"\"ipsum\"\" dolor\\nsit amet, é € 😀 ?.");
+
+		buffer.clear();
+		encoder.string(string, buffer);
+		assertThat(decode(buffer)).isEqualTo(new String(string.getBytes(UTF_8), UTF_8));
+	}
+
+	@Test @DisplayName("grow(ByteBuffer) doubles the capacity of the provided buffer, even if it is empty")
+	void grow() {
+		assertThat(LoggerEncoder.grow(ByteBuffer.allocate(256)).capacity()).isEqualTo(512);
+		assertThat(LoggerEncoder.grow(ByteBuffer.allocate(0)).capacity()).isEqualTo(2);
+	}
+
+	/// Returns the bytes written to the provided buffer, decoded.
+	private static String decode(ByteBuffer buffer) {
+		return new String(buffer.array(), 0, buffer.position(), UTF_8);
+	}
+}
\ No newline at end of file